@@ -0,0 +1,89 @@
+package org.folio.ssp.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compares JMH results (JSON format) with the checked-in baseline.
+ *
+ * <p>Arguments: results file, baseline file, allowed regression in percent and an optional {@code update} flag,
+ * which replaces the baseline with the results instead of comparing them. A missing or empty baseline is recorded from
+ * the results and reported, so the first run on a machine creates the baseline to be committed and the following runs
+ * are compared with it. Individual benchmarks without a baseline score are reported but do not fail the check. The
+ * outcome is printed to the console, as the check runs outside of the application logging setup.</p>
+ */
+public class BenchmarkBaselineCheck {
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  public static void main(String[] args) throws IOException {
+    var results = Path.of(args[0]);
+    var baseline = Path.of(args[1]);
+    var tolerancePercent = Double.parseDouble(args[2]);
+
+    if (args.length > 3 && Boolean.parseBoolean(args[3])) {
+      updateBaseline(results, baseline, "Benchmark baseline updated");
+      return;
+    }
+
+    var baselineScores = Files.exists(baseline) ? readScores(baseline) : Map.<String, Double>of();
+    if (baselineScores.isEmpty()) {
+      updateBaseline(results, baseline, "Benchmark baseline is empty, recorded from the results, commit it");
+      return;
+    }
+
+    var regressions = compare(readScores(results), baselineScores, tolerancePercent);
+    if (regressions > 0) {
+      throw new IllegalStateException("Benchmarks regressed by more than " + tolerancePercent + "%: " + regressions);
+    }
+  }
+
+  private static void updateBaseline(Path results, Path baseline, String message) throws IOException {
+    Files.copy(results, baseline, StandardCopyOption.REPLACE_EXISTING);
+    System.out.printf("%s: %s%n", message, baseline);
+  }
+
+  private static int compare(Map<String, Double> scores, Map<String, Double> baselineScores, double tolerancePercent) {
+    var regressions = 0;
+    for (var result : scores.entrySet()) {
+      var name = result.getKey();
+      var score = result.getValue();
+      var baselineScore = baselineScores.get(name);
+
+      if (baselineScore == null) {
+        System.out.printf("[NO BASELINE] %s = %.3f%n", name, score);
+      } else if (isRegression(score, baselineScore, tolerancePercent)) {
+        regressions++;
+        System.out.printf("[REGRESSED] %s = %.3f, baseline = %.3f%n", name, score, baselineScore);
+      } else {
+        System.out.printf("[OK] %s = %.3f, baseline = %.3f%n", name, score, baselineScore);
+      }
+    }
+    return regressions;
+  }
+
+  /**
+   * Returns scores by benchmark name including parameters. All benchmarks use average time, so a higher score is
+   * worse.
+   */
+  private static Map<String, Double> readScores(Path file) throws IOException {
+    var scores = new LinkedHashMap<String, Double>();
+    for (JsonNode benchmark : OBJECT_MAPPER.readTree(file.toFile())) {
+      var name = new StringBuilder(benchmark.path("benchmark").asText());
+      benchmark.path("params").properties()
+        .forEach(param -> name.append(':').append(param.getKey()).append('=').append(param.getValue().asText()));
+      scores.put(name.toString(), benchmark.path("primaryMetric").path("score").asDouble());
+    }
+    return scores;
+  }
+
+  private static boolean isRegression(double score, double baselineScore, double tolerancePercent) {
+    return score > baselineScore * (1 + tolerancePercent / 100);
+  }
+}
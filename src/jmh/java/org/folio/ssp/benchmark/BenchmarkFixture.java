@@ -0,0 +1,116 @@
+package org.folio.ssp.benchmark;
+
+import static org.folio.ssp.SecureStoreConstants.ENTRY_CACHE;
+import static org.folio.ssp.SecureStoreConstants.NEGATIVE_ENTRY_CACHE;
+import static org.folio.ssp.SecureStoreConstants.STALE_ENTRY_CACHE;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheImpl;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheInfo;
+import io.quarkus.runtime.configuration.MemorySize;
+import io.quarkus.runtime.configuration.MemorySizeConverter;
+import io.smallrye.config.SmallRyeConfig;
+import io.smallrye.config.SmallRyeConfigBuilder;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.Getter;
+import org.folio.ssp.cache.EntryCache;
+import org.folio.ssp.configuration.CircuitBreakerProperties;
+import org.folio.ssp.configuration.ConcurrencyLimitProperties;
+import org.folio.ssp.configuration.EntryCacheProperties;
+import org.folio.ssp.configuration.ExecutionProperties;
+import org.folio.ssp.configuration.GetBatchingProperties;
+import org.folio.ssp.configuration.PeerInvalidationProperties;
+import org.folio.ssp.configuration.SkipUnchangedWritesProperties;
+import org.folio.ssp.configuration.WriteCoalescingProperties;
+import org.folio.ssp.service.BlockingCallExecutor;
+import org.folio.ssp.service.CircuitBreaker;
+import org.folio.ssp.service.ConcurrencyLimiter;
+import org.folio.ssp.service.GetBatcher;
+import org.folio.ssp.service.PeerInvalidationService;
+import org.folio.ssp.service.SecureStoreCallExecutor;
+import org.folio.ssp.service.SecureStoreCallMetrics;
+import org.folio.ssp.service.SecureStoreEntryService;
+import org.folio.ssp.service.SsmBatchReader;
+import org.folio.ssp.service.WriteCoalescer;
+import org.folio.ssp.store.SecureStoreAdapter;
+import org.folio.tools.store.SecureStore;
+
+/**
+ * Wires {@link SecureStoreEntryService} with its collaborators outside of a Quarkus application, using the same
+ * cache settings as {@code application.properties}.
+ */
+@Getter
+public class BenchmarkFixture implements AutoCloseable {
+
+  private final SecureStoreEntryService service;
+  private final EntryCache entryCache;
+  private final Cache negativeEntryCache;
+  private final ExecutorService virtualThreads = Executors.newVirtualThreadPerTaskExecutor();
+
+  public BenchmarkFixture(SecureStore secureStore, Map<String, String> configOverrides) {
+    var config = config(configOverrides);
+    var cacheProperties = config.getConfigMapping(EntryCacheProperties.class);
+    MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    this.entryCache = new EntryCache(caffeineCache(ENTRY_CACHE, 500, Duration.ofHours(24)),
+      caffeineCache(STALE_ENTRY_CACHE, 500, Duration.ofHours(72)), cacheProperties, meterRegistry);
+    this.negativeEntryCache = caffeineCache(NEGATIVE_ENTRY_CACHE, 1000, Duration.ofSeconds(30));
+
+    var blockingCallExecutor = new BlockingCallExecutor(config.getConfigMapping(ExecutionProperties.class),
+      virtualThreads, meterRegistry);
+    var concurrencyLimiter = new ConcurrencyLimiter(config.getConfigMapping(ConcurrencyLimitProperties.class),
+      meterRegistry);
+    var circuitBreaker = new CircuitBreaker(config.getConfigMapping(CircuitBreakerProperties.class), meterRegistry);
+    var callMetrics = new SecureStoreCallMetrics(meterRegistry, "BENCHMARK");
+    var writeCoalescer = new WriteCoalescer(config.getConfigMapping(WriteCoalescingProperties.class), meterRegistry);
+    var getBatchingProperties = config.getConfigMapping(GetBatchingProperties.class);
+    var getBatcher = new GetBatcher(getBatchingProperties, meterRegistry);
+    var batchReader = new SsmBatchReader(getBatchingProperties, "BENCHMARK");
+    var peerInvalidation = new PeerInvalidationService(config.getConfigMapping(PeerInvalidationProperties.class),
+      entryCache, negativeEntryCache, new ObjectMapper(), meterRegistry);
+
+    var asyncStore = SecureStoreAdapter.blocking(secureStore, blockingCallExecutor);
+
+    var callExecutor = new SecureStoreCallExecutor(blockingCallExecutor, concurrencyLimiter, circuitBreaker,
+      callMetrics);
+
+    this.service = new SecureStoreEntryService(asyncStore, callExecutor, writeCoalescer, getBatcher, batchReader,
+      peerInvalidation, entryCache, negativeEntryCache, meterRegistry, cacheProperties,
+      config.getConfigMapping(SkipUnchangedWritesProperties.class));
+  }
+
+  @Override
+  public void close() {
+    virtualThreads.close();
+  }
+
+  private static SmallRyeConfig config(Map<String, String> configOverrides) {
+    return new SmallRyeConfigBuilder()
+      .withConverter(MemorySize.class, 100, new MemorySizeConverter())
+      .withMapping(EntryCacheProperties.class)
+      .withMapping(ExecutionProperties.class)
+      .withMapping(ConcurrencyLimitProperties.class)
+      .withMapping(CircuitBreakerProperties.class)
+      .withMapping(WriteCoalescingProperties.class)
+      .withMapping(GetBatchingProperties.class)
+      .withMapping(SkipUnchangedWritesProperties.class)
+      .withMapping(PeerInvalidationProperties.class)
+      .withDefaultValues(configOverrides)
+      .build();
+  }
+
+  private static Cache caffeineCache(String name, long maximumSize, Duration expireAfterWrite) {
+    var cacheInfo = new CaffeineCacheInfo();
+    cacheInfo.name = name;
+    cacheInfo.initialCapacity = 20;
+    cacheInfo.maximumSize = maximumSize;
+    cacheInfo.expireAfterWrite = expireAfterWrite;
+    return new CaffeineCacheImpl(cacheInfo, false);
+  }
+}
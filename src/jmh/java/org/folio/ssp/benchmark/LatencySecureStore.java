@@ -0,0 +1,43 @@
+package org.folio.ssp.benchmark;
+
+import java.time.Duration;
+import java.util.concurrent.locks.LockSupport;
+import org.folio.tools.store.SecureStore;
+
+/**
+ * Secure store decorator adding a fixed latency to every call, to emulate a remote backend.
+ */
+public class LatencySecureStore implements SecureStore {
+
+  private final SecureStore delegate;
+  private final long latencyNanos;
+
+  public LatencySecureStore(SecureStore delegate, Duration latency) {
+    this.delegate = delegate;
+    this.latencyNanos = latency.toNanos();
+  }
+
+  @Override
+  public String get(String key) {
+    pause();
+    return delegate.get(key);
+  }
+
+  @Override
+  public void set(String key, String value) {
+    pause();
+    delegate.set(key, value);
+  }
+
+  @Override
+  public void delete(String key) {
+    pause();
+    delegate.delete(key);
+  }
+
+  private void pause() {
+    if (latencyNanos > 0) {
+      LockSupport.parkNanos(latencyNanos);
+    }
+  }
+}
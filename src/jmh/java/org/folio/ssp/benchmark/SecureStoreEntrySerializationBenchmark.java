@@ -0,0 +1,41 @@
+package org.folio.ssp.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.concurrent.TimeUnit;
+import org.folio.ssp.model.SecureStoreEntry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JSON (de)serialization of {@link SecureStoreEntry}, as done for every GET and PUT request.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class SecureStoreEntrySerializationBenchmark {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final SecureStoreEntry entry = SecureStoreEntry.of("benchmark_tenant_key", "s3cr3t-v@lue-0123456789");
+  private final String json = "{\"key\":\"benchmark_tenant_key\",\"value\":\"s3cr3t-v@lue-0123456789\"}";
+
+  @Benchmark
+  public String serialize() throws JsonProcessingException {
+    return objectMapper.writeValueAsString(entry);
+  }
+
+  @Benchmark
+  public SecureStoreEntry deserialize() throws JsonProcessingException {
+    return objectMapper.readValue(json, SecureStoreEntry.class);
+  }
+}
@@ -0,0 +1,113 @@
+package org.folio.ssp.benchmark;
+
+import io.smallrye.mutiny.Uni;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.folio.ssp.service.SecureStoreEntryService;
+import org.folio.tools.store.SecureStore;
+import org.folio.tools.store.impl.InMemorySecureStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Hot path benchmarks of {@link SecureStoreEntryService}.
+ *
+ * <p>{@code backendLatencyMicros} is added to every secure store call, {@code 0} measures the service overhead
+ * with the plain {@link InMemorySecureStore}.</p>
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class SecureStoreEntryServiceBenchmark {
+
+  private static final String HIT_KEY = "benchmark_tenant_hit";
+  private static final String MISS_KEY = "benchmark_tenant_miss";
+  private static final String VALUE = "s3cr3t-v@lue-0123456789";
+  private static final int KEY_SPACE = 1_000;
+  private static final int CONCURRENT_MISSES = 16;
+
+  @Param({"0", "500"})
+  public long backendLatencyMicros;
+
+  @Param({"WORKER_POOL", "VIRTUAL_THREADS"})
+  public String executionMode;
+
+  private BenchmarkFixture fixture;
+  private SecureStoreEntryService service;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    var inMemoryStore = InMemorySecureStore.empty();
+    inMemoryStore.set(HIT_KEY, VALUE);
+    inMemoryStore.set(MISS_KEY, VALUE);
+
+    SecureStore secureStore = backendLatencyMicros > 0
+      ? new LatencySecureStore(inMemoryStore, Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos(backendLatencyMicros)))
+      : inMemoryStore;
+
+    fixture = new BenchmarkFixture(secureStore, Map.of("secret-store.execution.mode", executionMode));
+    service = fixture.getService();
+    service.get(HIT_KEY).await().indefinitely();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    fixture.close();
+  }
+
+  @Benchmark
+  public String getCacheHit() {
+    return service.get(HIT_KEY).await().indefinitely();
+  }
+
+  @Benchmark
+  public String getCacheMiss() {
+    fixture.getEntryCache().invalidate(MISS_KEY).await().indefinitely();
+    return service.get(MISS_KEY).await().indefinitely();
+  }
+
+  /**
+   * Invalidates the key and resolves it from {@value #CONCURRENT_MISSES} concurrent callers, which should share a
+   * single secure store load.
+   */
+  @Benchmark
+  public List<String> getConcurrentMissesSameKey() {
+    fixture.getEntryCache().invalidate(MISS_KEY).await().indefinitely();
+    var lookups = IntStream.range(0, CONCURRENT_MISSES)
+      .mapToObj(i -> service.get(MISS_KEY))
+      .toList();
+    return Uni.join().all(lookups).andFailFast().await().indefinitely();
+  }
+
+  @Benchmark
+  public void put() {
+    service.put(randomKey(), VALUE).await().indefinitely();
+  }
+
+  @Benchmark
+  public void delete() {
+    service.delete(randomKey()).await().indefinitely();
+  }
+
+  private static String randomKey() {
+    return "benchmark_tenant_" + ThreadLocalRandom.current().nextInt(KEY_SPACE);
+  }
+}
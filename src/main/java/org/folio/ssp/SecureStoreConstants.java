@@ -7,6 +7,12 @@ import lombok.NoArgsConstructor;
 public final class SecureStoreConstants {
 
   public static final String ENTRY_CACHE = "entry-cache";
+  public static final String NEGATIVE_ENTRY_CACHE = "negative-entry-cache";
+  public static final String STALE_ENTRY_CACHE = "stale-entry-cache";
+
+  public static final String STALE_ENTRY_HEADER = "X-Stale-Entry";
+  public static final String UNCHANGED_ENTRY_HEADER = "X-Entry-Unchanged";
+  public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
 
   public static final String ROLE_SECRETS_USER = "secrets-user";
   public static final String ROLE_SECRETS_CACHE_ADMIN = "secrets-cache-admin";
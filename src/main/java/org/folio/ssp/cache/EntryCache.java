@@ -0,0 +1,488 @@
+package org.folio.ssp.cache;
+
+import static java.util.Comparator.comparingLong;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.folio.ssp.SecureStoreConstants.ENTRY_CACHE;
+import static org.folio.ssp.SecureStoreConstants.STALE_ENTRY_CACHE;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CaffeineCache;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import jakarta.enterprise.context.ApplicationScoped;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import lombok.extern.log4j.Log4j2;
+import org.folio.ssp.configuration.EntryCacheProperties;
+import org.folio.ssp.configuration.EntryCacheProperties.ValueStoreType;
+
+/**
+ * Entry cache facade over the Quarkus {@code entry-cache}.
+ *
+ * <p>All reads and writes of cached secure store values go through this class, so the per-entry
+ * {@link EntryMetadata} stays in sync with the underlying Caffeine cache. Entries evicted by Caffeine itself (size or
+ * expiration) are not reported by Quarkus, their metadata is dropped periodically.</p>
+ *
+ * <p>If {@code entry-cache.stale-if-error.enabled} is set, every written value is also kept in the
+ * {@code stale-entry-cache}, so it can be served after it expired from the entry cache.</p>
+ *
+ * <p>Values are kept either as heap strings or, if {@code entry-cache.value-store} is {@code OFF_HEAP}, in off-heap
+ * buffers that are zeroed when the entry is replaced or removed, see {@link OffHeapValueStore}.</p>
+ *
+ * <p>All keys present in the entry cache or in the {@code stale-entry-cache} are kept in a sorted key index, so
+ * entries can be listed and invalidated by key prefix in time proportional to the number of matched keys. Like the
+ * metadata, index entries of keys evicted by Caffeine itself are dropped periodically.</p>
+ *
+ * <p>The total approximate weight of cached entries is tracked from the metadata. If
+ * {@code entry-cache.maximum-weight} is set and the weight exceeds it, the least recently written entries are evicted
+ * in the background until the weight drops below 90% of the budget.</p>
+ */
+@Log4j2
+@ApplicationScoped
+public class EntryCache {
+
+  static final String WEIGHT_METRIC = "ssp.entry.cache.weight";
+  static final String WEIGHT_EVICTIONS_METRIC = "ssp.entry.cache.weight.evictions";
+  static final String OFF_HEAP_BYTES_METRIC = "ssp.entry.cache.off.heap.bytes";
+
+  private static final long PRUNE_INTERVAL = 1024;
+  private static final long EVICTION_TARGET_PERCENT = 90;
+
+  private final Cache cache;
+  private final Cache staleCache;
+  private final boolean staleEnabled;
+  private final ValueStore valueStore;
+  private final Map<String, EntryMetadata> metadata = new ConcurrentHashMap<>();
+  private final NavigableSet<String> keyIndex = new ConcurrentSkipListSet<>();
+  private final AtomicLong writeCounter = new AtomicLong();
+  private final AtomicLong totalWeight = new AtomicLong();
+  private final AtomicBoolean evicting = new AtomicBoolean();
+  private final OptionalLong maximumWeight;
+  private final Counter weightEvictions;
+
+  public EntryCache(@CacheName(ENTRY_CACHE) Cache cache, @CacheName(STALE_ENTRY_CACHE) Cache staleCache,
+    EntryCacheProperties properties, MeterRegistry meterRegistry) {
+    this.cache = cache;
+    this.staleCache = staleCache;
+    this.staleEnabled = properties.staleIfError().enabled();
+    this.maximumWeight = properties.maximumWeight()
+      .map(size -> OptionalLong.of(size.asLongValue()))
+      .orElseGet(OptionalLong::empty);
+
+    this.weightEvictions = registerWeightMetrics(meterRegistry);
+    this.valueStore = createValueStore(properties.valueStore(), meterRegistry);
+    log.info("Entry cache values are stored: {}", properties.valueStore());
+  }
+
+  /**
+   * Returns the cached value for the given key or loads it with the given loader. Concurrent calls for the same
+   * absent key share a single load, failed loads are not cached. If the cached value is released concurrently (the
+   * entry was replaced or removed), the value is loaded again bypassing the cache.
+   *
+   * @param key - entry key
+   * @param loader - function loading the value if it is not cached
+   * @return cached or loaded value
+   */
+  public Uni<String> get(String key, Function<String, Uni<String>> loader) {
+    return cache.<String, Object>getAsync(key, k -> loader.apply(k).map(value -> storeLoaded(k, value)))
+      .chain(stored -> valueStore.read(stored)
+        .map(value -> Uni.createFrom().item(value))
+        .orElseGet(() -> loader.apply(key)));
+  }
+
+  public Optional<String> getIfPresent(String key) {
+    return getCompleted(caffeineCache(), key).flatMap(valueStore::read);
+  }
+
+  /**
+   * Returns the last known value of the entry, including values already expired from the entry cache.
+   *
+   * @param key - entry key
+   * @return last known value, empty if stale entries are disabled or the value is not known
+   */
+  public Optional<String> getStale(String key) {
+    return staleEnabled
+      ? getCompleted(staleCache.as(CaffeineCache.class), key).flatMap(valueStore::read)
+      : Optional.empty();
+  }
+
+  public Optional<EntryMetadata> getMetadata(String key) {
+    return Optional.ofNullable(metadata.get(key));
+  }
+
+  public void put(String key, String value) {
+    var previous = getCompleted(caffeineCache(), key);
+    var writtenAt = System.nanoTime();
+    caffeineCache().put(key, completedFuture(valueStore.store(value)));
+    recordWrite(key, value, writtenAt);
+    previous.ifPresent(valueStore::release);
+  }
+
+  /**
+   * Puts a value restored from a previous instance, keeping its original age. Entries already present in the cache
+   * are newer and are not replaced.
+   *
+   * @param key - entry key
+   * @param value - entry value
+   * @param age - time passed since the value was loaded or updated
+   * @return true if the value was put into the cache
+   */
+  public boolean restore(String key, String value, Duration age) {
+    if (caffeineCache().getIfPresent(key) != null) {
+      return false;
+    }
+
+    var writtenAt = System.nanoTime() - age.toNanos();
+    caffeineCache().put(key, completedFuture(valueStore.store(value)));
+    recordWrite(key, value, writtenAt);
+    return true;
+  }
+
+  /**
+   * Replaces the cached value only if the entry was not written or removed since the given write time, so a value
+   * reloaded in the background does not overwrite a newer write or re-insert a deleted entry.
+   *
+   * @param key - entry key
+   * @param writtenAt - {@link EntryMetadata#writtenAt()} captured before the value was reloaded
+   * @param value - reloaded value
+   * @return true if the value was put into the cache
+   */
+  public boolean replaceIfUnchanged(String key, long writtenAt, String value) {
+    if (!isUnchanged(key, writtenAt)) {
+      return false;
+    }
+
+    put(key, value);
+    return true;
+  }
+
+  /**
+   * Invalidates the entry only if it was not written since the given write time.
+   *
+   * @param key - entry key
+   * @param writtenAt - {@link EntryMetadata#writtenAt()} captured before the entry was reloaded
+   */
+  public Uni<Void> invalidateIfUnchanged(String key, long writtenAt) {
+    return Uni.createFrom().deferred(() -> isUnchanged(key, writtenAt) ? invalidate(key) : Uni.createFrom().voidItem());
+  }
+
+  public Uni<Void> invalidate(String key) {
+    return Uni.createFrom().deferred(() -> {
+      var stored = getCompleted(caffeineCache(), key);
+      var staleStored = getCompleted(staleCache.as(CaffeineCache.class), key);
+
+      return cache.invalidate(key)
+        .call(() -> staleCache.invalidate(key))
+        .invoke(() -> {
+          removeMetadata(key);
+          keyIndex.remove(key);
+          stored.ifPresent(valueStore::release);
+          staleStored.ifPresent(valueStore::release);
+        });
+    });
+  }
+
+  /**
+   * Invalidates all entries whose key starts with the given prefix, including their last known values.
+   *
+   * @param prefix - key prefix
+   * @return number of invalidated keys
+   */
+  public Uni<Integer> invalidateByPrefix(String prefix) {
+    return Uni.createFrom().deferred(() -> {
+      var keys = keyIndex.tailSet(prefix).stream()
+        .takeWhile(key -> key.startsWith(prefix))
+        .toList();
+
+      return Multi.createFrom().iterable(keys)
+        .onItem().transformToUniAndConcatenate(this::invalidate)
+        .collect().last()
+        .replaceWith(keys.size());
+    });
+  }
+
+  public Uni<Void> invalidateAll() {
+    return Uni.createFrom().deferred(() -> {
+      var stored = getAllCompleted(caffeineCache());
+      var staleStored = getAllCompleted(staleCache.as(CaffeineCache.class));
+
+      return cache.invalidateAll()
+        .call(staleCache::invalidateAll)
+        .invoke(() -> {
+          metadata.keySet().forEach(this::removeMetadata);
+          keyIndex.clear();
+          stored.forEach(valueStore::release);
+          staleStored.forEach(valueStore::release);
+        });
+    });
+  }
+
+  /**
+   * Returns the cached entries with their wall-clock write time, to be persisted in the entry cache snapshot.
+   */
+  public List<SnapshotEntry> snapshot() {
+    var now = System.currentTimeMillis();
+    return metadata.entrySet().stream()
+      .flatMap(entry -> getIfPresent(entry.getKey())
+        .map(value -> new SnapshotEntry(entry.getKey(), value, now - entry.getValue().age().toMillis()))
+        .stream())
+      .toList();
+  }
+
+  /**
+   * Returns up to {@code limit} cached keys with the given prefix that sort after the given key, in ascending order.
+   * The page is read from the sorted key index starting at the first candidate key, so only the returned keys and the
+   * index entries of already expired keys are visited.
+   *
+   * @param prefix - key prefix, all keys match if null
+   * @param after - exclusive lower bound of the returned keys, null to start from the first key
+   * @param limit - maximum number of returned keys
+   * @return sorted page of cached keys
+   */
+  public List<String> keys(String prefix, String after, int limit) {
+    var cachedKeys = caffeineCache().keySet();
+    return indexedKeysFrom(prefix, after).stream()
+      .takeWhile(key -> prefix == null || key.startsWith(prefix))
+      .filter(cachedKeys::contains)
+      .limit(limit)
+      .toList();
+  }
+
+  public int size() {
+    return caffeineCache().keySet().size();
+  }
+
+  /**
+   * Returns the approximate weight of the cached entries in bytes. Entries expired or evicted by Caffeine itself are
+   * counted until their metadata is pruned.
+   */
+  public long weight() {
+    return totalWeight.get();
+  }
+
+  public OptionalLong maximumWeight() {
+    return maximumWeight;
+  }
+
+  /**
+   * Converts a loaded value to the object stored in the entry cache. The loading key is already present in the
+   * Caffeine cache as an incomplete future, so the metadata can be recorded before the value is completed.
+   */
+  private Object storeLoaded(String key, String value) {
+    var stored = valueStore.store(value);
+    recordWrite(key, value, System.nanoTime());
+    return stored;
+  }
+
+  /**
+   * Records the metadata of a value already stored in the entry cache. The value is stored first, so a concurrent
+   * {@link #pruneMetadata()} never finds the metadata of a written key without its cached value.
+   */
+  private void recordWrite(String key, String value, long writtenAt) {
+    var entryMetadata = new EntryMetadata(writtenAt, EntryWeigher.weigh(key, value));
+    var previous = metadata.put(key, entryMetadata);
+    keyIndex.add(key);
+    totalWeight.addAndGet(entryMetadata.weight() - (previous != null ? previous.weight() : 0));
+    if (staleEnabled) {
+      var staleCaffeineCache = staleCache.as(CaffeineCache.class);
+      var previousStale = getCompleted(staleCaffeineCache, key);
+      staleCaffeineCache.put(key, completedFuture(valueStore.store(value)));
+      previousStale.ifPresent(valueStore::release);
+    }
+
+    if (writeCounter.incrementAndGet() % PRUNE_INTERVAL == 0) {
+      pruneMetadata();
+    }
+    if (isOverweight(totalWeight.get())) {
+      scheduleEviction();
+    }
+  }
+
+  /**
+   * Returns the view of the key index starting at the first key that can be on the requested page.
+   */
+  private NavigableSet<String> indexedKeysFrom(String prefix, String after) {
+    if (after != null && (prefix == null || after.compareTo(prefix) >= 0)) {
+      return keyIndex.tailSet(after, false);
+    }
+    return prefix != null ? keyIndex.tailSet(prefix, true) : keyIndex;
+  }
+
+  private void removeMetadata(String key) {
+    var removed = metadata.remove(key);
+    if (removed != null) {
+      totalWeight.addAndGet(-removed.weight());
+    }
+  }
+
+  /**
+   * Drops the metadata and index entries of keys expired or evicted by Caffeine itself. The metadata is captured
+   * before the cached keys and removed only if it was not replaced since, so a value written during the scan keeps its
+   * metadata. An index entry removed concurrently with a write is added back once the key is found in the cache.
+   */
+  private void pruneMetadata() {
+    var recorded = List.copyOf(metadata.entrySet());
+    var indexed = List.copyOf(keyIndex);
+    var cachedKeys = caffeineCache().keySet();
+    var staleKeys = staleCache.as(CaffeineCache.class).keySet();
+
+    var removed = 0;
+    for (var entry : recorded) {
+      if (!cachedKeys.contains(entry.getKey()) && removeMetadata(entry.getKey(), entry.getValue())) {
+        removed++;
+      }
+    }
+    indexed.stream()
+      .filter(key -> !cachedKeys.contains(key) && !staleKeys.contains(key))
+      .forEach(this::removeFromIndex);
+    log.debug("Entry cache metadata pruned: removed = {}", removed);
+  }
+
+  private boolean removeMetadata(String key, EntryMetadata expected) {
+    if (!metadata.remove(key, expected)) {
+      return false;
+    }
+
+    totalWeight.addAndGet(-expected.weight());
+    return true;
+  }
+
+  private void removeFromIndex(String key) {
+    keyIndex.remove(key);
+    if (caffeineCache().getIfPresent(key) != null || staleCache.as(CaffeineCache.class).getIfPresent(key) != null) {
+      keyIndex.add(key);
+    }
+  }
+
+  private boolean isUnchanged(String key, long writtenAt) {
+    var current = metadata.get(key);
+    return current != null && current.writtenAt() == writtenAt;
+  }
+
+  private boolean isOverweight(long weight) {
+    return maximumWeight.isPresent() && weight > maximumWeight.getAsLong();
+  }
+
+  /**
+   * Evicts overweight entries on a worker thread. Writes may happen inside an entry cache loader, where invalidating
+   * other entries of the same Caffeine cache is not allowed, so the eviction never runs on the writing thread.
+   */
+  private void scheduleEviction() {
+    if (!evicting.compareAndSet(false, true)) {
+      return;
+    }
+
+    Infrastructure.getDefaultExecutor().execute(() -> {
+      try {
+        evictOverweight();
+      } finally {
+        evicting.set(false);
+      }
+    });
+  }
+
+  private void evictOverweight() {
+    pruneMetadata();
+    if (!isOverweight(totalWeight.get())) {
+      return;
+    }
+
+    var targetWeight = maximumWeight.getAsLong() * EVICTION_TARGET_PERCENT / 100;
+    var evicted = 0;
+    for (var candidate : evictionCandidates()) {
+      if (totalWeight.get() <= targetWeight) {
+        break;
+      }
+      evicted += evict(candidate.getKey(), candidate.getValue()) ? 1 : 0;
+    }
+    weightEvictions.increment(evicted);
+    log.debug("Entry cache entries evicted by weight: evicted = {}, weight = {}", evicted, totalWeight.get());
+  }
+
+  /**
+   * Returns the cached entries ordered from the least to the most recently written.
+   */
+  private List<Entry<String, EntryMetadata>> evictionCandidates() {
+    return metadata.entrySet().stream()
+      .map(Entry::copyOf)
+      .sorted(comparingLong(entry -> entry.getValue().writtenAt()))
+      .toList();
+  }
+
+  /**
+   * Evicts the entry only if it was not written since it was selected, like {@link #invalidateIfUnchanged}.
+   */
+  private boolean evict(String key, EntryMetadata candidate) {
+    if (!isUnchanged(key, candidate.writtenAt())) {
+      return false;
+    }
+
+    var stored = getCompleted(caffeineCache(), key);
+    cache.invalidate(key).subscribe().with(ignored -> {
+      removeMetadata(key, candidate);
+      stored.ifPresent(valueStore::release);
+    });
+    return true;
+  }
+
+  /**
+   * Registers the weight gauge and returns the counter of entries evicted by weight.
+   */
+  private Counter registerWeightMetrics(MeterRegistry meterRegistry) {
+    Gauge.builder(WEIGHT_METRIC, this, EntryCache::weight)
+      .description("Approximate weight of the entry cache in bytes")
+      .baseUnit("bytes")
+      .register(meterRegistry);
+    return Counter.builder(WEIGHT_EVICTIONS_METRIC)
+      .description("Number of entries evicted because the entry cache exceeded its maximum weight")
+      .register(meterRegistry);
+  }
+
+  private static ValueStore createValueStore(ValueStoreType type, MeterRegistry meterRegistry) {
+    if (type != ValueStoreType.OFF_HEAP) {
+      return new HeapValueStore();
+    }
+
+    var offHeapValueStore = new OffHeapValueStore();
+    Gauge.builder(OFF_HEAP_BYTES_METRIC, offHeapValueStore, OffHeapValueStore::getAllocatedBytes)
+      .description("Off-heap memory allocated for cached entry values")
+      .baseUnit("bytes")
+      .register(meterRegistry);
+    return offHeapValueStore;
+  }
+
+  private static Optional<Object> getCompleted(CaffeineCache caffeineCache, Object key) {
+    var future = caffeineCache.getIfPresent(key);
+    if (future == null || !future.isDone() || future.isCompletedExceptionally()) {
+      return Optional.empty();
+    }
+
+    return Optional.ofNullable(future.join());
+  }
+
+  private static List<Object> getAllCompleted(CaffeineCache caffeineCache) {
+    return caffeineCache.keySet().stream()
+      .map(key -> getCompleted(caffeineCache, key))
+      .flatMap(Optional::stream)
+      .toList();
+  }
+
+  private CaffeineCache caffeineCache() {
+    return cache.as(CaffeineCache.class);
+  }
+}
@@ -0,0 +1,197 @@
+package org.folio.ssp.cache;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+
+/**
+ * Reads and writes AES-GCM encrypted snapshots of the entry cache.
+ *
+ * <p>The file starts with a plain header (magic bytes and format version), authenticated as additional data, followed
+ * by the random 12 byte IV and the ciphertext. The plaintext is the number of entries followed by the entries, each as
+ * the write timestamp, the UTF-8 key and the UTF-8 value, both prefixed with their length. Snapshots are written to a
+ * temporary file which is atomically moved over the previous snapshot, and read through a memory mapping.</p>
+ */
+public class EntryCacheSnapshotCodec {
+
+  private static final byte[] MAGIC = {'F', 'S', 'S', 'P', 'S', 'N', 'A', 'P'};
+  private static final int VERSION = 1;
+  private static final int HEADER_LENGTH = MAGIC.length + Integer.BYTES;
+  private static final int IV_LENGTH = 12;
+  private static final int TAG_LENGTH_BITS = 128;
+  private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+
+  private final SecretKey key;
+  private final SecureRandom random = new SecureRandom();
+
+  public EntryCacheSnapshotCodec(SecretKey key) {
+    this.key = key;
+  }
+
+  /**
+   * Encrypts the entries and replaces the snapshot file with them.
+   *
+   * @param path - snapshot file
+   * @param entries - entries to persist
+   * @throws IOException if the file cannot be written
+   * @throws GeneralSecurityException if the entries cannot be encrypted
+   */
+  public void write(Path path, List<SnapshotEntry> entries) throws IOException, GeneralSecurityException {
+    var plaintext = serialize(entries);
+    try {
+      replaceFile(path, encrypt(plaintext));
+    } finally {
+      Arrays.fill(plaintext, (byte) 0);
+    }
+  }
+
+  /**
+   * Reads and decrypts the snapshot file.
+   *
+   * @param path - snapshot file
+   * @return persisted entries
+   * @throws IOException if the file cannot be read or has an unknown format
+   * @throws GeneralSecurityException if the file cannot be decrypted, e.g. it was encrypted with another key or was
+   *                                  modified
+   */
+  public List<SnapshotEntry> read(Path path) throws IOException, GeneralSecurityException {
+    try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      var mapped = channel.map(MapMode.READ_ONLY, 0, channel.size());
+      var header = readHeader(mapped, path);
+      var iv = new byte[IV_LENGTH];
+      mapped.get(iv);
+
+      var cipher = cipher(Cipher.DECRYPT_MODE, header, iv);
+      var plaintext = ByteBuffer.allocate(cipher.getOutputSize(mapped.remaining()));
+      cipher.doFinal(mapped, plaintext);
+      plaintext.flip();
+
+      try {
+        return deserialize(plaintext);
+      } finally {
+        Arrays.fill(plaintext.array(), (byte) 0);
+      }
+    }
+  }
+
+  /**
+   * Encrypts the plaintext with a random IV and returns the file content: header, IV and ciphertext.
+   */
+  private byte[] encrypt(byte[] plaintext) throws GeneralSecurityException {
+    var iv = new byte[IV_LENGTH];
+    random.nextBytes(iv);
+    var header = header();
+    var ciphertext = cipher(Cipher.ENCRYPT_MODE, header, iv).doFinal(plaintext);
+
+    return ByteBuffer.allocate(header.length + iv.length + ciphertext.length)
+      .put(header).put(iv).put(ciphertext)
+      .array();
+  }
+
+  private Cipher cipher(int mode, byte[] header, byte[] iv) throws GeneralSecurityException {
+    var cipher = Cipher.getInstance(TRANSFORMATION);
+    cipher.init(mode, key, new GCMParameterSpec(TAG_LENGTH_BITS, iv));
+    cipher.updateAAD(header);
+    return cipher;
+  }
+
+  /**
+   * Reads the header from the beginning of the file content and checks it matches the supported format.
+   */
+  private static byte[] readHeader(ByteBuffer content, Path path) throws IOException {
+    if (content.remaining() < HEADER_LENGTH + IV_LENGTH) {
+      throw new IOException("Entry cache snapshot is truncated: " + path);
+    }
+
+    var header = new byte[HEADER_LENGTH];
+    content.get(header);
+    if (!Arrays.equals(header, header())) {
+      throw new IOException("Unsupported entry cache snapshot format: " + path);
+    }
+    return header;
+  }
+
+  private static void replaceFile(Path path, byte[] content) throws IOException {
+    var temporary = createTemporaryFile(path);
+    try {
+      Files.write(temporary, content);
+      Files.move(temporary, path, ATOMIC_MOVE, REPLACE_EXISTING);
+    } finally {
+      Files.deleteIfExists(temporary);
+    }
+  }
+
+  private static byte[] serialize(List<SnapshotEntry> entries) throws IOException {
+    var bytes = new ByteArrayOutputStream();
+    try (var output = new DataOutputStream(bytes)) {
+      output.writeInt(entries.size());
+      for (var entry : entries) {
+        output.writeLong(entry.writtenAt());
+        writeString(output, entry.key());
+        writeString(output, entry.value());
+      }
+    }
+
+    return bytes.toByteArray();
+  }
+
+  private static List<SnapshotEntry> deserialize(ByteBuffer plaintext) {
+    var count = plaintext.getInt();
+    var entries = new ArrayList<SnapshotEntry>(count);
+    for (int i = 0; i < count; i++) {
+      var writtenAt = plaintext.getLong();
+      var key = readString(plaintext);
+      var value = readString(plaintext);
+      entries.add(new SnapshotEntry(key, value, writtenAt));
+    }
+
+    return entries;
+  }
+
+  private static void writeString(DataOutputStream output, String value) throws IOException {
+    var bytes = value.getBytes(UTF_8);
+    output.writeInt(bytes.length);
+    output.write(bytes);
+  }
+
+  private static String readString(ByteBuffer buffer) {
+    var bytes = new byte[buffer.getInt()];
+    buffer.get(bytes);
+    return new String(bytes, UTF_8);
+  }
+
+  private static byte[] header() {
+    return ByteBuffer.allocate(HEADER_LENGTH).put(MAGIC).putInt(VERSION).array();
+  }
+
+  private static Path createTemporaryFile(Path path) throws IOException {
+    var directory = path.toAbsolutePath().getParent();
+    var prefix = path.getFileName().toString();
+    if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+      return Files.createTempFile(directory, prefix, ".tmp",
+        PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")));
+    }
+
+    return Files.createTempFile(directory, prefix, ".tmp");
+  }
+}
@@ -0,0 +1,20 @@
+package org.folio.ssp.cache;
+
+import java.time.Duration;
+
+/**
+ * Book-keeping information about a value stored in the entry cache.
+ *
+ * @param writtenAt - {@link System#nanoTime()} value captured when the entry was loaded or updated
+ * @param weight - approximate heap cost of the entry in bytes, see {@link EntryWeigher}
+ */
+public record EntryMetadata(long writtenAt, long weight) {
+
+  public static EntryMetadata now(long weight) {
+    return new EntryMetadata(System.nanoTime(), weight);
+  }
+
+  public Duration age() {
+    return Duration.ofNanos(System.nanoTime() - writtenAt);
+  }
+}
@@ -0,0 +1,23 @@
+package org.folio.ssp.cache;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Approximates the heap cost of an entry cache entry in bytes.
+ *
+ * <p>Strings are counted with their backing array in the compact (Latin-1) or UTF-16 representation, plus a fixed
+ * overhead for the {@link String} headers, the cached future and the Caffeine node.</p>
+ */
+@UtilityClass
+public class EntryWeigher {
+
+  static final long ENTRY_OVERHEAD = 160;
+
+  public static long weigh(String key, String value) {
+    return ENTRY_OVERHEAD + stringWeight(key) + stringWeight(value);
+  }
+
+  private static long stringWeight(String value) {
+    return value.chars().allMatch(c -> c <= 0xFF) ? value.length() : 2L * value.length();
+  }
+}
@@ -0,0 +1,24 @@
+package org.folio.ssp.cache;
+
+import java.util.Optional;
+
+/**
+ * Keeps entry values as plain {@link String} objects on the heap.
+ */
+class HeapValueStore implements ValueStore {
+
+  @Override
+  public Object store(String value) {
+    return value;
+  }
+
+  @Override
+  public Optional<String> read(Object stored) {
+    return Optional.of((String) stored);
+  }
+
+  @Override
+  public void release(Object stored) {
+    // heap values are reclaimed by the garbage collector
+  }
+}
@@ -0,0 +1,106 @@
+package org.folio.ssp.cache;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps entry values as UTF-8 bytes in direct (off-heap) buffers, the caches hold only small {@link OffHeapValue}
+ * handles.
+ *
+ * <p>Buffers are zeroed as soon as their entry is replaced, invalidated or evicted by weight. Entries dropped by
+ * Caffeine itself (size or expiration) are not reported by Quarkus, their buffers are zeroed by a {@link Cleaner}
+ * once the handle becomes unreachable.</p>
+ */
+class OffHeapValueStore implements ValueStore {
+
+  private static final Cleaner CLEANER = Cleaner.create();
+
+  private final AtomicLong allocatedBytes = new AtomicLong();
+
+  @Override
+  public Object store(String value) {
+    var bytes = value.getBytes(UTF_8);
+    try {
+      var buffer = ByteBuffer.allocateDirect(bytes.length).put(bytes);
+      allocatedBytes.addAndGet(bytes.length);
+      return new OffHeapValue(buffer, allocatedBytes);
+    } finally {
+      Arrays.fill(bytes, (byte) 0);
+    }
+  }
+
+  @Override
+  public Optional<String> read(Object stored) {
+    return stored instanceof OffHeapValue offHeapValue ? offHeapValue.read() : Optional.of((String) stored);
+  }
+
+  @Override
+  public void release(Object stored) {
+    if (stored instanceof OffHeapValue offHeapValue) {
+      offHeapValue.release();
+    }
+  }
+
+  long getAllocatedBytes() {
+    return allocatedBytes.get();
+  }
+
+  static final class OffHeapValue {
+
+    private final Zeroing zeroing;
+    private final Cleaner.Cleanable cleanable;
+
+    private OffHeapValue(ByteBuffer buffer, AtomicLong allocatedBytes) {
+      this.zeroing = new Zeroing(buffer, allocatedBytes);
+      this.cleanable = CLEANER.register(this, zeroing);
+    }
+
+    Optional<String> read() {
+      synchronized (zeroing) {
+        if (zeroing.released) {
+          return Optional.empty();
+        }
+
+        var bytes = new byte[zeroing.buffer.capacity()];
+        zeroing.buffer.get(0, bytes);
+        try {
+          return Optional.of(new String(bytes, UTF_8));
+        } finally {
+          Arrays.fill(bytes, (byte) 0);
+        }
+      }
+    }
+
+    void release() {
+      cleanable.clean();
+    }
+  }
+
+  /**
+   * Cleaning action, must not reference the {@link OffHeapValue} handle to let it become unreachable.
+   */
+  private static final class Zeroing implements Runnable {
+
+    private final ByteBuffer buffer;
+    private final AtomicLong allocatedBytes;
+    private boolean released;
+
+    private Zeroing(ByteBuffer buffer, AtomicLong allocatedBytes) {
+      this.buffer = buffer;
+      this.allocatedBytes = allocatedBytes;
+    }
+
+    @Override
+    public synchronized void run() {
+      var capacity = buffer.capacity();
+      buffer.put(0, new byte[capacity]);
+      released = true;
+      allocatedBytes.addAndGet(-capacity);
+    }
+  }
+}
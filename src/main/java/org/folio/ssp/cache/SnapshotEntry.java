@@ -0,0 +1,10 @@
+package org.folio.ssp.cache;
+
+/**
+ * Entry cache value persisted in the on-disk snapshot.
+ *
+ * @param key - entry key
+ * @param value - entry value
+ * @param writtenAt - epoch milliseconds when the value was loaded or updated
+ */
+public record SnapshotEntry(String key, String value, long writtenAt) {}
@@ -0,0 +1,27 @@
+package org.folio.ssp.cache;
+
+import java.util.Optional;
+
+/**
+ * Converts entry values to the representation kept in the entry caches and back.
+ */
+interface ValueStore {
+
+  /**
+   * Converts the value to the object stored in the cache.
+   */
+  Object store(String value);
+
+  /**
+   * Reads the value back from a cached object.
+   *
+   * @param stored - object taken from the cache
+   * @return entry value, empty if the stored object has already been released
+   */
+  Optional<String> read(Object stored);
+
+  /**
+   * Releases the resources held by a cached object that is no longer reachable from the cache.
+   */
+  void release(Object stored);
+}
@@ -0,0 +1,20 @@
+package org.folio.ssp.configuration;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+@ConfigMapping(prefix = "batch-get")
+public interface BatchGetProperties {
+
+  /**
+   * Maximum number of keys accepted in a single batch request.
+   */
+  @WithDefault("100")
+  int maxKeys();
+
+  /**
+   * Maximum number of cache misses loaded from the secure store in parallel for a single batch request.
+   */
+  @WithDefault("8")
+  int maxConcurrency();
+}
@@ -0,0 +1,57 @@
+package org.folio.ssp.configuration;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+import java.time.Duration;
+
+@ConfigMapping(prefix = "secret-store.circuit-breaker")
+public interface CircuitBreakerProperties {
+
+  /**
+   * Whether secure store calls go through the circuit breaker.
+   */
+  @WithDefault("true")
+  boolean enabled();
+
+  /**
+   * Percentage of failed calls in the sliding window at which the circuit opens.
+   */
+  @WithDefault("50")
+  int failureRateThreshold();
+
+  /**
+   * Duration above which a call is counted as slow.
+   */
+  @WithDefault("2s")
+  Duration slowCallDuration();
+
+  /**
+   * Percentage of slow calls in the sliding window at which the circuit opens.
+   */
+  @WithDefault("80")
+  int slowCallRateThreshold();
+
+  /**
+   * Number of the most recent calls the failure and slow call rates are computed over.
+   */
+  @WithDefault("50")
+  int windowSize();
+
+  /**
+   * Number of calls that must be recorded before the rates are evaluated.
+   */
+  @WithDefault("20")
+  int minimumCalls();
+
+  /**
+   * Time the circuit stays open before probe calls are let through.
+   */
+  @WithDefault("30s")
+  Duration waitInOpenState();
+
+  /**
+   * Number of probe calls let through in the half-open state, the circuit closes if they are healthy.
+   */
+  @WithDefault("3")
+  int halfOpenProbes();
+}
@@ -0,0 +1,57 @@
+package org.folio.ssp.configuration;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+import java.time.Duration;
+
+@ConfigMapping(prefix = "secret-store.concurrency-limit")
+public interface ConcurrencyLimitProperties {
+
+  /**
+   * Whether concurrent calls to the secure store are limited.
+   */
+  @WithDefault("true")
+  boolean enabled();
+
+  /**
+   * Concurrency limit used on startup.
+   */
+  @WithDefault("20")
+  int initialLimit();
+
+  /**
+   * Lower bound of the concurrency limit.
+   */
+  @WithDefault("1")
+  int minLimit();
+
+  /**
+   * Upper bound of the concurrency limit.
+   */
+  @WithDefault("200")
+  int maxLimit();
+
+  /**
+   * Factor the limit is multiplied by when the secure store fails or responds slower than {@link #latencyThreshold()}.
+   */
+  @WithDefault("0.9")
+  double backoffRatio();
+
+  /**
+   * Latency above which a successful call is treated as a sign of overload.
+   */
+  @WithDefault("1s")
+  Duration latencyThreshold();
+
+  /**
+   * Maximum number of calls waiting for a permit, calls are rejected once the queue is full.
+   */
+  @WithDefault("100")
+  int maxQueueSize();
+
+  /**
+   * Value of the {@code Retry-After} header sent with rejected requests.
+   */
+  @WithDefault("1s")
+  Duration retryAfter();
+}
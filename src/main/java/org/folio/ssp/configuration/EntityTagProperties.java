@@ -0,0 +1,14 @@
+package org.folio.ssp.configuration;
+
+import io.smallrye.config.ConfigMapping;
+import java.util.Optional;
+
+@ConfigMapping(prefix = "entity-tag")
+public interface EntityTagProperties {
+
+  /**
+   * Base64 encoded HMAC key used to derive entry ETags. If not set, a random key is generated on startup, so the tags
+   * differ between instances and change on restart.
+   */
+  Optional<String> key();
+}
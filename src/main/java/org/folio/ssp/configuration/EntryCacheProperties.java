@@ -0,0 +1,143 @@
+package org.folio.ssp.configuration;
+
+import io.quarkus.runtime.configuration.MemorySize;
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+@ConfigMapping(prefix = "entry-cache")
+public interface EntryCacheProperties {
+
+  /**
+   * Age of a cached entry after which the next read triggers a background reload, while the cached value is still
+   * returned to the caller. Refresh-ahead is disabled if the value is not set.
+   */
+  Optional<Duration> refreshAfterWrite();
+
+  /**
+   * Memory budget of the entry cache as the approximate byte weight of keys plus values (e.g. {@code 64M}). The least
+   * recently written entries are evicted once it is exceeded. Only the entry count bound applies if the value is not
+   * set.
+   */
+  Optional<MemorySize> maximumWeight();
+
+  /**
+   * Where cached values are kept. Off-heap values are not part of heap dumps and are zeroed when the entry is replaced
+   * or removed.
+   */
+  @WithDefault("HEAP")
+  ValueStoreType valueStore();
+
+  enum ValueStoreType {
+
+    /**
+     * Values are kept as strings on the heap.
+     */
+    HEAP,
+
+    /**
+     * Values are kept as bytes in direct buffers, the cache holds only small handles on the heap.
+     */
+    OFF_HEAP
+  }
+
+  StaleIfError staleIfError();
+
+  interface StaleIfError {
+
+    /**
+     * Whether the last known value of an entry is served, when loading it from the secure store fails. Values are
+     * kept for this purpose in the {@code stale-entry-cache}, which should outlive the {@code entry-cache}.
+     */
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * Maximum time to wait for a secure store load before falling back to the last known value.
+     */
+    Optional<Duration> loadTimeout();
+  }
+
+  WarmUp warmUp();
+
+  interface WarmUp {
+
+    /**
+     * Whether the entry cache is populated on startup. Readiness is reported as down until warm-up is finished.
+     */
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * Keys loaded into the entry cache on startup.
+     */
+    Optional<List<String>> keys();
+
+    /**
+     * Path of the file with the keys that were cached when the previous instance was stopped. The file is read on
+     * startup and rewritten on shutdown.
+     */
+    Optional<String> manifestPath();
+
+    /**
+     * Glob patterns ({@code *} matches any sequence of characters) selecting which keys of the manifest are loaded.
+     * All manifest keys are loaded if no pattern is set.
+     */
+    Optional<List<String>> manifestKeyPatterns();
+
+    /**
+     * Maximum number of entries loaded from the secure store in parallel.
+     */
+    @WithDefault("4")
+    int maxConcurrency();
+
+    /**
+     * Maximum duration of warm-up, readiness is reported as up after it even if not all keys are loaded.
+     */
+    @WithDefault("30s")
+    Duration timeout();
+  }
+
+  Snapshot snapshot();
+
+  interface Snapshot {
+
+    /**
+     * Whether the entry cache is periodically persisted to an encrypted file on local disk and restored from it on
+     * startup.
+     */
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * Path of the snapshot file.
+     */
+    Optional<String> path();
+
+    /**
+     * Base64 encoded AES key (128, 192 or 256 bit) used to encrypt the snapshot with AES-GCM.
+     */
+    Optional<String> encryptionKey();
+
+    /**
+     * Interval between snapshots. A snapshot is also written on shutdown.
+     */
+    @WithDefault("5m")
+    Duration interval();
+
+    /**
+     * Maximum age of a snapshot entry, older entries are not restored.
+     */
+    @WithDefault("24h")
+    Duration maxAge();
+
+    /**
+     * Age after which a restored entry is reloaded from the secure store in the background. The restored value is
+     * served until the reload completes.
+     */
+    @WithDefault("15m")
+    Duration revalidateAfter();
+  }
+}
@@ -0,0 +1,27 @@
+package org.folio.ssp.configuration;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+@ConfigMapping(prefix = "secret-store.execution")
+public interface ExecutionProperties {
+
+  /**
+   * Threads used to run blocking secure store calls.
+   */
+  @WithDefault("WORKER_POOL")
+  ExecutionMode mode();
+
+  enum ExecutionMode {
+
+    /**
+     * Blocking calls run on the Quarkus default worker pool.
+     */
+    WORKER_POOL,
+
+    /**
+     * Every blocking call runs on a new virtual thread.
+     */
+    VIRTUAL_THREADS
+  }
+}
@@ -0,0 +1,28 @@
+package org.folio.ssp.configuration;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+import java.time.Duration;
+
+@ConfigMapping(prefix = "secret-store.get-batching")
+public interface GetBatchingProperties {
+
+  /**
+   * Whether concurrent cache misses are loaded with batched secure store calls. Only the AWS SSM store supports
+   * batched reads, the setting has no effect for other stores.
+   */
+  @WithDefault("false")
+  boolean enabled();
+
+  /**
+   * Maximum number of keys loaded by a single batched call.
+   */
+  @WithDefault("10")
+  int maxBatchSize();
+
+  /**
+   * Time the first cache miss of a batch waits for further misses before the batch is sent to the secure store.
+   */
+  @WithDefault("5ms")
+  Duration linger();
+}
@@ -0,0 +1,73 @@
+package org.folio.ssp.configuration;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+@ConfigMapping(prefix = "entry-cache.peer-invalidation")
+public interface PeerInvalidationProperties {
+
+  /**
+   * Whether entry cache invalidations are propagated to the peer instances.
+   */
+  @WithDefault("false")
+  boolean enabled();
+
+  /**
+   * Base URLs of the peer instances including the REST root path (e.g. {@code https://fssp-2:8443/secure-store}).
+   */
+  Optional<List<String>> peers();
+
+  /**
+   * Time invalidations are collected before they are sent to the peers as one batch.
+   */
+  @WithDefault("100ms")
+  Duration batchWindow();
+
+  /**
+   * Maximum number of invalidations in a batch, a full batch is sent immediately.
+   */
+  @WithDefault("100")
+  int maxBatchSize();
+
+  /**
+   * Timeout of a request to a peer.
+   */
+  @WithDefault("5s")
+  Duration requestTimeout();
+
+  /**
+   * Number of retries of a failed request to a peer.
+   */
+  @WithDefault("3")
+  int maxRetries();
+
+  /**
+   * Key store with the client certificate presented to the peers, its CN has to be mapped to the
+   * {@code secrets-cache-admin} role.
+   */
+  Optional<String> keyStorePath();
+
+  Optional<String> keyStorePassword();
+
+  @WithDefault("PKCS12")
+  String keyStoreType();
+
+  /**
+   * Trust store used to verify the peer server certificates.
+   */
+  Optional<String> trustStorePath();
+
+  Optional<String> trustStorePassword();
+
+  @WithDefault("PKCS12")
+  String trustStoreType();
+
+  /**
+   * Whether the peer host name is verified against its server certificate.
+   */
+  @WithDefault("true")
+  boolean verifyHostname();
+}
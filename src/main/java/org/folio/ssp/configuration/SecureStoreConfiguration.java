@@ -1,16 +1,28 @@
 package org.folio.ssp.configuration;
 
+import static org.apache.commons.lang3.StringUtils.isNotEmpty;
+import static org.folio.ssp.utils.ConfigProviderUtils.getOptionalValue;
 import static org.folio.ssp.utils.ConfigProviderUtils.getRequiredValue;
 import static org.folio.ssp.utils.ConfigProviderUtils.getValue;
 import static org.folio.tools.store.properties.VaultConfigProperties.DEFAULT_VAULT_SECRET_ROOT;
 
 import io.quarkus.arc.lookup.LookupIfProperty;
 import io.smallrye.config.ConfigMapping;
+import io.vertx.mutiny.core.Vertx;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Disposes;
 import jakarta.enterprise.inject.Instance;
 import jakarta.enterprise.inject.Produces;
+import java.time.Duration;
 import java.util.Map;
 import lombok.extern.log4j.Log4j2;
+import org.folio.ssp.service.BlockingCallExecutor;
+import org.folio.ssp.store.AsyncSecureStore;
+import org.folio.ssp.store.BlockingSecureStore;
+import org.folio.ssp.store.SecureStoreAdapter;
+import org.folio.ssp.store.SsmAsyncStore;
+import org.folio.ssp.store.VertxVaultStore;
+import org.folio.ssp.utils.ProxyUtils;
 import org.folio.tools.store.SecureStore;
 import org.folio.tools.store.impl.AwsStore;
 import org.folio.tools.store.impl.EphemeralStore;
@@ -24,11 +36,40 @@ public class SecureStoreConfiguration {
 
   private static final String SECURE_STORE_TYPE_PROP = "secret-store.type";
 
+  /**
+   * Produces the configured store with blocking calls, non-blocking stores are wrapped in a
+   * {@link BlockingSecureStore}.
+   */
   @Produces
   @ApplicationScoped
   @Configured
-  public SecureStore getConfiguredStore(Instance<SecureStore> secureStoreInstance) {
-    return secureStoreInstance.get();
+  public SecureStore getConfiguredStore(Instance<SecureStore> secureStoreInstance,
+    Instance<AsyncSecureStore> asyncStoreInstance) {
+    return secureStoreInstance.isResolvable()
+      ? secureStoreInstance.get()
+      : new BlockingSecureStore(asyncStoreInstance.get());
+  }
+
+  /**
+   * Produces the configured store with non-blocking calls. Stores with blocking calls are adapted: the in-memory
+   * {@link EphemeralStore} is called inline, other stores on the {@link BlockingCallExecutor}.
+   */
+  @Produces
+  @ApplicationScoped
+  @Configured
+  public AsyncSecureStore getConfiguredAsyncStore(@Configured SecureStore secureStore,
+    BlockingCallExecutor blockingCallExecutor) {
+    var store = ProxyUtils.unwrap(secureStore);
+    if (store instanceof BlockingSecureStore blockingStore) {
+      return blockingStore.getDelegate();
+    }
+
+    var asyncStore = store instanceof EphemeralStore
+      ? SecureStoreAdapter.inline(secureStore)
+      : SecureStoreAdapter.blocking(secureStore, blockingCallExecutor);
+    log.info("Secure store calls are adapted: store = {}, inline = {}",
+      store.getClass().getSimpleName(), asyncStore.isInline());
+    return asyncStore;
   }
 
   public static class AwsConfig {
@@ -60,6 +101,44 @@ public class SecureStoreConfiguration {
     }
   }
 
+  public static class AwsAsyncConfig {
+
+    private static final String AWS_ASYNC_TYPE = "AWS_SSM_ASYNC";
+    private static final String AWS_PREFIX = "secret-store.aws-ssm.";
+
+    @ApplicationScoped
+    @LookupIfProperty(name = SECURE_STORE_TYPE_PROP, stringValue = AWS_ASYNC_TYPE)
+    public AsyncSecureStore awsAsyncStore() {
+      if (isNotEmpty(getValue(AWS_PREFIX, "trust-store-path"))) {
+        throw new IllegalStateException("A custom trust store is not supported by the " + AWS_ASYNC_TYPE + " store");
+      }
+
+      return SsmAsyncStore.create(awsAsyncSettings());
+    }
+
+    public void closeAwsAsyncStore(@Disposes AsyncSecureStore secureStore) {
+      if (secureStore instanceof SsmAsyncStore ssmAsyncStore) {
+        ssmAsyncStore.close();
+      }
+    }
+
+    private static SsmAsyncStore.Settings awsAsyncSettings() {
+      return SsmAsyncStore.Settings.builder()
+        .region(getRequiredValue(AWS_PREFIX, "region"))
+        .accessKey(getValue(AWS_PREFIX, "access-key"))
+        .secretKey(getValue(AWS_PREFIX, "secret-key"))
+        .useIam(getRequiredValue(AWS_PREFIX, "use-iam", Boolean.class))
+        .fipsEnabled(Boolean.parseBoolean(getValue(AWS_PREFIX, "fips-enabled")))
+        .maxConcurrency(getOptionalValue(AWS_PREFIX + "max-concurrency", Integer.class).orElse(50))
+        .completionPoolSize(getOptionalValue(AWS_PREFIX + "completion-pool-size", Integer.class).orElse(2))
+        .connectionTimeout(getOptionalValue(AWS_PREFIX + "connection-timeout", Duration.class)
+          .orElse(Duration.ofSeconds(2)))
+        .connectionMaxIdleTime(getOptionalValue(AWS_PREFIX + "connection-max-idle-time", Duration.class)
+          .orElse(Duration.ofSeconds(60)))
+        .build();
+    }
+  }
+
   public static class VaultConfig {
 
     private static final String VAULT_TYPE = "VAULT";
@@ -87,6 +166,37 @@ public class SecureStoreConfiguration {
     }
   }
 
+  public static class VaultReactiveConfig {
+
+    private static final String VAULT_REACTIVE_TYPE = "VAULT_REACTIVE";
+    private static final String VAULT_PREFIX = "secret-store.vault.";
+
+    @ApplicationScoped
+    @LookupIfProperty(name = SECURE_STORE_TYPE_PROP, stringValue = VAULT_REACTIVE_TYPE)
+    public AsyncSecureStore reactiveVaultStore(Vertx vertx) {
+      return VertxVaultStore.create(vertx, vaultSettings());
+    }
+
+    private static VertxVaultStore.Settings vaultSettings() {
+      return VertxVaultStore.Settings.builder()
+        .token(getRequiredValue(VAULT_PREFIX, "token"))
+        .address(getRequiredValue(VAULT_PREFIX, "address"))
+        .enableSsl(getRequiredValue(VAULT_PREFIX, "enable-ssl", Boolean.class))
+        .pemFilePath(getValue(VAULT_PREFIX, "pem-file-path"))
+        .keystorePassword(getValue(VAULT_PREFIX, "keystore-password"))
+        .keystoreFilePath(getValue(VAULT_PREFIX, "keystore-file-path"))
+        .truststoreFilePath(getValue(VAULT_PREFIX, "truststore-file-path"))
+        .secretRoot(getValue(VAULT_PREFIX, "secret-root", DEFAULT_VAULT_SECRET_ROOT))
+        .maxPoolSize(getOptionalValue(VAULT_PREFIX + "max-pool-size", Integer.class).orElse(20))
+        .keepAliveTimeout(getOptionalValue(VAULT_PREFIX + "keep-alive-timeout", Duration.class)
+          .orElse(Duration.ofSeconds(60)))
+        .requestTimeout(getOptionalValue(VAULT_PREFIX + "request-timeout", Duration.class)
+          .orElse(Duration.ofSeconds(10)))
+        .http2Enabled(getOptionalValue(VAULT_PREFIX + "http2-enabled", Boolean.class).orElse(true))
+        .build();
+    }
+  }
+
   public static class EphemeralConfig {
 
     private static final String EPHEMERAL_TYPE = "EPHEMERAL";
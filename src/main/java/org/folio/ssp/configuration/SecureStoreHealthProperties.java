@@ -0,0 +1,41 @@
+package org.folio.ssp.configuration;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+import java.time.Duration;
+
+@ConfigMapping(prefix = "secret-store.health")
+public interface SecureStoreHealthProperties {
+
+  /**
+   * Whether the readiness health check probes the secure store.
+   */
+  @WithDefault("true")
+  boolean enabled();
+
+  /**
+   * Whether an unreachable secure store or an open circuit breaker reports the service as not ready. If disabled, the
+   * readiness checks are always up and report the probe result and the circuit state in their data only.
+   */
+  @WithDefault("false")
+  boolean readinessGating();
+
+  /**
+   * Key read by the probe. It does not have to exist, a "not found" answer proves the store is reachable, but the
+   * service must be allowed to read it: a denied read is reported as unreachable.
+   */
+  @WithDefault("health_probe")
+  String probeKey();
+
+  /**
+   * Time the result of a probe is reused for, health requests within this interval do not reach the secure store.
+   */
+  @WithDefault("15s")
+  Duration cacheInterval();
+
+  /**
+   * Time after which a probe without an answer reports the secure store as unreachable.
+   */
+  @WithDefault("3s")
+  Duration timeout();
+}
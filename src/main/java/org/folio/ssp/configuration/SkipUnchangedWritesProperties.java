@@ -0,0 +1,23 @@
+package org.folio.ssp.configuration;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+import java.time.Duration;
+
+@ConfigMapping(prefix = "secret-store.skip-unchanged-writes")
+public interface SkipUnchangedWritesProperties {
+
+  /**
+   * Whether writes of a value equal to the cached one are skipped. Disabled by default, since a value changed in the
+   * secure store directly, bypassing the proxy, is not rewritten while the cached value is not older than
+   * {@link #maxAge()}.
+   */
+  @WithDefault("false")
+  boolean enabled();
+
+  /**
+   * Maximum age of the cached value a write is compared against, older values are not trusted and the write is sent.
+   */
+  @WithDefault("5m")
+  Duration maxAge();
+}
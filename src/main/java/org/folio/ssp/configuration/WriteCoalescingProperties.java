@@ -0,0 +1,21 @@
+package org.folio.ssp.configuration;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+import java.time.Duration;
+
+@ConfigMapping(prefix = "secret-store.write-coalescing")
+public interface WriteCoalescingProperties {
+
+  /**
+   * Whether writes of the same key are merged into a single secure store call.
+   */
+  @WithDefault("false")
+  boolean enabled();
+
+  /**
+   * Time a write waits for subsequent writes of the same key before it is sent to the secure store.
+   */
+  @WithDefault("50ms")
+  Duration window();
+}
@@ -0,0 +1,18 @@
+package org.folio.ssp.exception;
+
+import java.time.Duration;
+import lombok.Getter;
+
+/**
+ * Thrown when a secure store call is rejected without being attempted because the circuit breaker is open.
+ */
+@Getter
+public class CircuitBreakerOpenException extends RuntimeException {
+
+  private final transient Duration retryAfter;
+
+  public CircuitBreakerOpenException(String message, Duration retryAfter) {
+    super(message);
+    this.retryAfter = retryAfter;
+  }
+}
@@ -0,0 +1,18 @@
+package org.folio.ssp.exception;
+
+import java.time.Duration;
+import lombok.Getter;
+
+/**
+ * Thrown when a secure store call is rejected because the concurrency limit is reached and the wait queue is full.
+ */
+@Getter
+public class ConcurrencyLimitExceededException extends RuntimeException {
+
+  private final transient Duration retryAfter;
+
+  public ConcurrencyLimitExceededException(String message, Duration retryAfter) {
+    super(message);
+    this.retryAfter = retryAfter;
+  }
+}
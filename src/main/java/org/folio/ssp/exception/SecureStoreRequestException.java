@@ -0,0 +1,17 @@
+package org.folio.ssp.exception;
+
+import lombok.Getter;
+
+/**
+ * Thrown when a secure store backend answers a request with an unexpected HTTP status.
+ */
+@Getter
+public class SecureStoreRequestException extends RuntimeException {
+
+  private final int statusCode;
+
+  public SecureStoreRequestException(String message, int statusCode) {
+    super(message);
+    this.statusCode = statusCode;
+  }
+}
@@ -0,0 +1,44 @@
+package org.folio.ssp.health;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.Readiness;
+import org.folio.ssp.configuration.SecureStoreHealthProperties;
+import org.folio.ssp.service.CircuitBreaker;
+import org.folio.ssp.service.CircuitBreaker.State;
+
+/**
+ * Reports the state of the secure store circuit breaker together with its failure and slow call rates.
+ *
+ * <p>Like {@link SecureStoreHealthCheck}, the check is {@code UP} regardless of the state unless
+ * {@code secret-store.health.readiness-gating} is set: an open circuit would otherwise take every replica out of
+ * service at once, including the ones still able to serve cached and stale entries. With gating, an open circuit is
+ * reported as not ready, a half-open one as ready, so probe calls can reach the store and close it again.</p>
+ */
+@Readiness
+@ApplicationScoped
+public class CircuitBreakerHealthCheck implements HealthCheck {
+
+  static final String NAME = "Secure store circuit breaker";
+
+  private final CircuitBreaker circuitBreaker;
+  private final SecureStoreHealthProperties properties;
+
+  public CircuitBreakerHealthCheck(CircuitBreaker circuitBreaker, SecureStoreHealthProperties properties) {
+    this.circuitBreaker = circuitBreaker;
+    this.properties = properties;
+  }
+
+  @Override
+  public HealthCheckResponse call() {
+    var state = circuitBreaker.getState();
+
+    return HealthCheckResponse.named(NAME)
+      .status(state != State.OPEN || !properties.readinessGating())
+      .withData("state", state.name())
+      .withData("failureRate", Math.round(circuitBreaker.getFailureRate()))
+      .withData("slowCallRate", Math.round(circuitBreaker.getSlowCallRate()))
+      .build();
+  }
+}
@@ -0,0 +1,80 @@
+package org.folio.ssp.health;
+
+import static org.folio.ssp.SecureStoreConstants.ENTRY_CACHE;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import java.util.Optional;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.HealthCheckResponseBuilder;
+import org.eclipse.microprofile.health.Liveness;
+import org.folio.ssp.cache.EntryCache;
+import org.folio.ssp.service.EntryCacheWarmUpService;
+import org.folio.ssp.service.EntryCacheWarmUpService.WarmUpProgress;
+
+/**
+ * Reports the fill level of the entry cache and the warm-up progress. The check is always up: a cold or full cache
+ * does not make the service unhealthy, the warm-up gates readiness in {@link EntryCacheWarmUpHealthCheck}.
+ */
+@Liveness
+@ApplicationScoped
+public class EntryCacheHealthCheck implements HealthCheck {
+
+  static final String NAME = "Entry cache";
+
+  private final EntryCache entryCache;
+  private final EntryCacheWarmUpService warmUpService;
+  private final Optional<Long> maximumSize;
+
+  public EntryCacheHealthCheck(EntryCache entryCache, EntryCacheWarmUpService warmUpService,
+    @ConfigProperty(name = "quarkus.cache.caffeine.\"" + ENTRY_CACHE + "\".maximum-size") Optional<Long> maximumSize) {
+    this.entryCache = entryCache;
+    this.warmUpService = warmUpService;
+    this.maximumSize = maximumSize;
+  }
+
+  @Override
+  public HealthCheckResponse call() {
+    var size = entryCache.size();
+    var weight = entryCache.weight();
+    var progress = warmUpService.getProgress();
+
+    var response = HealthCheckResponse.named(NAME)
+      .up()
+      .withData("entries", size)
+      .withData("weightBytes", weight);
+    addLimits(response, size, weight);
+
+    return response
+      .withData("warmUpState", progress.state().name())
+      .withData("warmUpPercent", warmUpPercent(progress))
+      .build();
+  }
+
+  /**
+   * Adds the configured size and weight limits of the entry cache and how much of them is used.
+   */
+  private void addLimits(HealthCheckResponseBuilder response, long size, long weight) {
+    maximumSize.ifPresent(maxSize -> response
+      .withData("maximumEntries", maxSize)
+      .withData("entriesFillPercent", percentage(size, maxSize)));
+    entryCache.maximumWeight().ifPresent(maxWeight -> response
+      .withData("maximumWeightBytes", maxWeight)
+      .withData("weightFillPercent", percentage(weight, maxWeight)));
+  }
+
+  /**
+   * Returns the share of the selected keys already processed, a warm-up without keys counts as done once finished.
+   */
+  private static long warmUpPercent(WarmUpProgress progress) {
+    if (progress.total() == 0) {
+      return progress.isFinished() ? 100 : 0;
+    }
+    return percentage(progress.loaded() + progress.failed(), progress.total());
+  }
+
+  private static long percentage(long count, long total) {
+    return total == 0 ? 0 : Math.round(count * 100.0 / total);
+  }
+}
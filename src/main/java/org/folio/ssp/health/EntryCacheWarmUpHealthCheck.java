@@ -0,0 +1,36 @@
+package org.folio.ssp.health;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.Readiness;
+import org.folio.ssp.service.EntryCacheWarmUpService;
+
+/**
+ * Reports the service as not ready until the entry cache warm-up is finished or timed out.
+ */
+@Readiness
+@ApplicationScoped
+public class EntryCacheWarmUpHealthCheck implements HealthCheck {
+
+  static final String NAME = "Entry cache warm-up";
+
+  private final EntryCacheWarmUpService warmUpService;
+
+  public EntryCacheWarmUpHealthCheck(EntryCacheWarmUpService warmUpService) {
+    this.warmUpService = warmUpService;
+  }
+
+  @Override
+  public HealthCheckResponse call() {
+    var progress = warmUpService.getProgress();
+
+    return HealthCheckResponse.named(NAME)
+      .status(progress.isFinished())
+      .withData("state", progress.state().name())
+      .withData("total", progress.total())
+      .withData("loaded", progress.loaded())
+      .withData("failed", progress.failed())
+      .build();
+  }
+}
@@ -0,0 +1,65 @@
+package org.folio.ssp.health;
+
+import io.smallrye.health.api.AsyncHealthCheck;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.HealthCheckResponseBuilder;
+import org.eclipse.microprofile.health.Readiness;
+import org.folio.ssp.configuration.SecureStoreHealthProperties;
+import org.folio.ssp.service.SecureStoreProbe;
+import org.folio.ssp.service.SecureStoreProbe.ProbeResult;
+
+/**
+ * Reports whether the configured secure store can be reached, together with the latency of the last probe. Probe
+ * results are cached, see {@link SecureStoreProbe}.
+ *
+ * <p>The check is {@code UP} regardless of the probe result unless {@code secret-store.health.readiness-gating} is
+ * set: an unreachable store or a probe key the service may not read would otherwise take every replica out of
+ * service at once, including the ones still able to serve cached entries.</p>
+ */
+@Readiness
+@ApplicationScoped
+public class SecureStoreHealthCheck implements AsyncHealthCheck {
+
+  static final String NAME = "Secure store";
+
+  private final SecureStoreProbe probe;
+  private final SecureStoreHealthProperties properties;
+  private final String storeType;
+
+  public SecureStoreHealthCheck(SecureStoreProbe probe, SecureStoreHealthProperties properties,
+    @ConfigProperty(name = "secret-store.type") String storeType) {
+    this.probe = probe;
+    this.properties = properties;
+    this.storeType = storeType;
+  }
+
+  @Override
+  public Uni<HealthCheckResponse> call() {
+    if (!properties.enabled()) {
+      return Uni.createFrom().item(response(true).withData("probe", "disabled").build());
+    }
+
+    return probe.getResult().map(this::toResponse);
+  }
+
+  private HealthCheckResponse toResponse(ProbeResult result) {
+    var response = response(result.reachable() || !properties.readinessGating())
+      .withData("reachable", result.reachable())
+      .withData("latencyMs", result.latency().toMillis())
+      .withData("checkedAt", result.checkedAt().toString());
+
+    if (result.error() != null) {
+      response.withData("error", result.error());
+    }
+    return response.build();
+  }
+
+  private HealthCheckResponseBuilder response(boolean up) {
+    return HealthCheckResponse.named(NAME)
+      .status(up)
+      .withData("store", storeType);
+  }
+}
@@ -0,0 +1,17 @@
+package org.folio.ssp.model.batch;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.folio.ssp.model.error.ErrorCode;
+
+@Data
+@AllArgsConstructor(staticName = "of")
+@RegisterForReflection
+public class BatchGetError {
+
+  private String key;
+  private String type;
+  private ErrorCode code;
+  private String message;
+}
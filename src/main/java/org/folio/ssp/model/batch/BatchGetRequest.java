@@ -0,0 +1,19 @@
+package org.folio.ssp.model.batch;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.folio.ssp.model.validation.constraints.NotBlankKey;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor(staticName = "of")
+@RegisterForReflection
+public class BatchGetRequest {
+
+  @NotEmpty
+  private List<@NotBlankKey String> keys;
+}
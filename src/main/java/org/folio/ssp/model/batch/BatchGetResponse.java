@@ -0,0 +1,17 @@
+package org.folio.ssp.model.batch;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.folio.ssp.model.SecureStoreEntry;
+
+@Data
+@AllArgsConstructor(staticName = "of")
+@RegisterForReflection
+public class BatchGetResponse {
+
+  private List<SecureStoreEntry> entries;
+  private List<String> notFound;
+  private List<BatchGetError> errors;
+}
@@ -0,0 +1,26 @@
+package org.folio.ssp.model.cache;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor(staticName = "of")
+@RegisterForReflection
+public class EntryCacheStats {
+
+  /**
+   * Number of entries in the cache.
+   */
+  private int size;
+
+  /**
+   * Approximate weight of the cached keys and values in bytes.
+   */
+  private long weight;
+
+  /**
+   * Configured memory budget in bytes, {@code null} if the cache is bounded by entry count only.
+   */
+  private Long maximumWeight;
+}
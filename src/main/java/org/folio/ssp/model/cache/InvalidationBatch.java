@@ -0,0 +1,26 @@
+package org.folio.ssp.model.cache;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor(staticName = "of")
+@RegisterForReflection
+public class InvalidationBatch {
+
+  /**
+   * Identifier of the instance that issued the invalidations.
+   */
+  @NotBlank
+  private String origin;
+
+  @NotEmpty
+  private List<@Valid InvalidationMessage> messages;
+}
@@ -0,0 +1,35 @@
+package org.folio.ssp.model.cache;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor(staticName = "of")
+@RegisterForReflection
+public class InvalidationMessage {
+
+  /**
+   * Unique message identifier, messages delivered more than once are applied only once.
+   */
+  @NotBlank
+  private String id;
+
+  /**
+   * Key of the invalidated entry, {@code null} if all entries are invalidated.
+   */
+  private String key;
+
+  /**
+   * Epoch milliseconds when the invalidation was issued.
+   */
+  private long issuedAt;
+
+  /**
+   * If true, all entries whose key starts with {@link #key} are invalidated.
+   */
+  private boolean prefix;
+}
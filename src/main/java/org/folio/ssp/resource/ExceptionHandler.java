@@ -4,11 +4,15 @@ import static org.apache.commons.lang3.ObjectUtils.isEmpty;
 
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.UriInfo;
+import java.time.Duration;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletionException;
 import lombok.extern.log4j.Log4j2;
+import org.folio.ssp.exception.CircuitBreakerOpenException;
+import org.folio.ssp.exception.ConcurrencyLimitExceededException;
 import org.folio.ssp.model.error.Error;
 import org.folio.ssp.model.error.ErrorCode;
 import org.folio.ssp.model.error.ErrorResponse;
@@ -55,6 +59,44 @@ public class ExceptionHandler {
     return ResponseBuilder.create(RestResponse.Status.BAD_REQUEST, singleError(error)).build();
   }
 
+  @ServerExceptionMapper
+  public RestResponse<ErrorResponse> handleIllegalArgumentException(IllegalArgumentException e, UriInfo uriInfo) {
+    log.debug("Exception occurred while calling the endpoint: path = {}, exc = {}", uriInfo.getPath(), e);
+
+    var error = new Error()
+      .message(e.getMessage())
+      .code(ErrorCode.VALIDATION_ERROR)
+      .type(e.getClass().getSimpleName());
+
+    return ResponseBuilder.create(RestResponse.Status.BAD_REQUEST, singleError(error)).build();
+  }
+
+  @ServerExceptionMapper
+  public RestResponse<ErrorResponse> handleConcurrencyLimitExceededException(ConcurrencyLimitExceededException e,
+    UriInfo uriInfo) {
+    log.debug("Exception occurred while calling the endpoint: path = {}, exc = {}", uriInfo.getPath(), e);
+    return serviceUnavailable(e, e.getRetryAfter());
+  }
+
+  @ServerExceptionMapper
+  public RestResponse<ErrorResponse> handleCircuitBreakerOpenException(CircuitBreakerOpenException e,
+    UriInfo uriInfo) {
+    log.debug("Exception occurred while calling the endpoint: path = {}, exc = {}", uriInfo.getPath(), e);
+    return serviceUnavailable(e, e.getRetryAfter());
+  }
+
+  private static RestResponse<ErrorResponse> serviceUnavailable(RuntimeException e, Duration retryAfter) {
+    var error = new Error()
+      .message(e.getMessage())
+      .code(ErrorCode.SERVICE_ERROR)
+      .type(e.getClass().getSimpleName());
+
+    var retryAfterSeconds = Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+    return ResponseBuilder.create(RestResponse.Status.SERVICE_UNAVAILABLE, singleError(error))
+      .header(HttpHeaders.RETRY_AFTER, retryAfterSeconds)
+      .build();
+  }
+
   private static ErrorResponse singleError(Error error) {
     return new ErrorResponse()
       .totalRecords(1)
@@ -1,22 +1,42 @@
 package org.folio.ssp.resource;
 
 import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
+import static org.folio.ssp.SecureStoreConstants.NEXT_CURSOR_HEADER;
 import static org.folio.ssp.SecureStoreConstants.ROLE_SECRETS_CACHE_ADMIN;
+import static org.jboss.resteasy.reactive.RestMediaType.APPLICATION_NDJSON;
 
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import jakarta.annotation.security.RolesAllowed;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.DELETE;
+import jakarta.ws.rs.DefaultValue;
 import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
-import java.util.Set;
+import java.util.List;
+import java.util.Map;
+import org.apache.commons.lang3.StringUtils;
+import org.folio.ssp.model.cache.EntryCacheStats;
+import org.folio.ssp.model.cache.InvalidationBatch;
 import org.folio.ssp.model.validation.constraints.NotBlankKey;
 import org.folio.ssp.service.SecureStoreEntryCacheService;
+import org.jboss.resteasy.reactive.RestMulti;
+import org.jboss.resteasy.reactive.RestQuery;
+import org.jboss.resteasy.reactive.RestStreamElementType;
 
 @Path("/entry-cache")
 @RolesAllowed(ROLE_SECRETS_CACHE_ADMIN)
 public class SecureStoreEntryCacheResource {
 
+  private static final String DEFAULT_PAGE_SIZE = "1000";
+  private static final long MAX_PAGE_SIZE = 10_000;
+
   private final SecureStoreEntryCacheService cacheService;
 
   public SecureStoreEntryCacheResource(SecureStoreEntryCacheService cacheService) {
@@ -24,9 +44,20 @@ public class SecureStoreEntryCacheResource {
   }
 
   @GET
+  @Produces(APPLICATION_NDJSON)
+  @RestStreamElementType(APPLICATION_JSON)
+  public Multi<String> getAllEntryKeys(@RestQuery String prefix, @RestQuery String cursor,
+    @RestQuery @DefaultValue(DEFAULT_PAGE_SIZE) @Min(1) @Max(MAX_PAGE_SIZE) int limit) {
+    return RestMulti.fromUniResponse(cacheService.getCachedKeys(prefix, cursor, limit),
+      page -> Multi.createFrom().iterable(page.keys()),
+      page -> page.nextCursor() == null ? Map.of() : Map.of(NEXT_CURSOR_HEADER, List.of(page.nextCursor())));
+  }
+
+  @GET
+  @Path("stats")
   @Produces(APPLICATION_JSON)
-  public Uni<Set<String>> getAllEntryKeys() {
-    return cacheService.getAllCachedKeys();
+  public Uni<EntryCacheStats> getStats() {
+    return cacheService.getStats();
   }
 
   @DELETE
@@ -36,7 +67,14 @@ public class SecureStoreEntryCacheResource {
   }
 
   @DELETE
-  public Uni<Void> invalidateAllEntries() {
-    return cacheService.invalidateAll();
+  public Uni<Void> invalidateAllEntries(@RestQuery String prefix) {
+    return StringUtils.isEmpty(prefix) ? cacheService.invalidateAll() : cacheService.invalidateByPrefix(prefix);
+  }
+
+  @POST
+  @Path("_peer-invalidate")
+  @Consumes(APPLICATION_JSON)
+  public Uni<Void> receivePeerInvalidation(@Valid @NotNull InvalidationBatch batch) {
+    return cacheService.receivePeerInvalidation(batch);
   }
 }
@@ -1,44 +1,95 @@
 package org.folio.ssp.resource;
 
+import static jakarta.ws.rs.core.HttpHeaders.ETAG;
+import static jakarta.ws.rs.core.HttpHeaders.IF_NONE_MATCH;
 import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
 import static org.folio.ssp.SecureStoreConstants.ROLE_SECRETS_USER;
+import static org.folio.ssp.SecureStoreConstants.STALE_ENTRY_HEADER;
+import static org.folio.ssp.SecureStoreConstants.UNCHANGED_ENTRY_HEADER;
 
 import io.smallrye.mutiny.Uni;
 import jakarta.annotation.security.RolesAllowed;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.DELETE;
 import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
 import jakarta.ws.rs.PUT;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
+import java.util.ArrayList;
+import java.util.Map;
 import org.folio.ssp.model.SecureStoreEntry;
+import org.folio.ssp.model.batch.BatchGetError;
+import org.folio.ssp.model.batch.BatchGetRequest;
+import org.folio.ssp.model.batch.BatchGetResponse;
+import org.folio.ssp.model.error.ErrorCode;
 import org.folio.ssp.model.validation.constraints.NotBlankKey;
+import org.folio.ssp.service.BatchEntryResult;
+import org.folio.ssp.service.EntityTagGenerator;
+import org.folio.ssp.service.SecureStoreEntryBatchService;
 import org.folio.ssp.service.SecureStoreEntryService;
+import org.folio.ssp.service.WriteResult;
+import org.jboss.resteasy.reactive.RestHeader;
 import org.jboss.resteasy.reactive.RestPath;
+import org.jboss.resteasy.reactive.RestResponse;
+import org.jboss.resteasy.reactive.RestResponse.ResponseBuilder;
 
 @Path("/entries")
 @RolesAllowed(ROLE_SECRETS_USER)
 public class SecureStoreEntryResource {
 
   private final SecureStoreEntryService entryService;
+  private final SecureStoreEntryBatchService batchService;
+  private final EntityTagGenerator entityTagGenerator;
 
-  public SecureStoreEntryResource(SecureStoreEntryService entryService) {
+  public SecureStoreEntryResource(SecureStoreEntryService entryService, SecureStoreEntryBatchService batchService,
+    EntityTagGenerator entityTagGenerator) {
     this.entryService = entryService;
+    this.batchService = batchService;
+    this.entityTagGenerator = entityTagGenerator;
   }
 
   @GET
   @Path("{key}")
   @Produces(APPLICATION_JSON)
-  public Uni<SecureStoreEntry> getEntry(@NotBlankKey String key) {
-    return entryService.get(key).map(s -> SecureStoreEntry.of(key, s));
+  public Uni<RestResponse<SecureStoreEntry>> getEntry(@NotBlankKey String key,
+    @RestHeader(IF_NONE_MATCH) String ifNoneMatch) {
+    return entryService.lookup(key).map(entryValue -> {
+      var entityTag = entityTagGenerator.generate(key, entryValue.value());
+      var response = EntityTagGenerator.matches(ifNoneMatch, entityTag)
+        ? ResponseBuilder.<SecureStoreEntry>notModified()
+        : ResponseBuilder.ok(SecureStoreEntry.of(key, entryValue.value()));
+      response.header(ETAG, entityTag);
+      if (entryValue.stale()) {
+        response.header(STALE_ENTRY_HEADER, Boolean.TRUE.toString());
+      }
+
+      return response.build();
+    });
+  }
+
+  @POST
+  @Path("_batch-get")
+  @Consumes(APPLICATION_JSON)
+  @Produces(APPLICATION_JSON)
+  public Uni<BatchGetResponse> getEntries(@Valid @NotNull BatchGetRequest request) {
+    return batchService.getAll(request.getKeys()).map(SecureStoreEntryResource::toBatchGetResponse);
   }
 
   @PUT
   @Path("{key}")
   @Consumes(APPLICATION_JSON)
-  public Uni<Void> setEntry(@RestPath @NotBlankKey String key, @Valid SecureStoreEntry entry) {
-    return entryService.put(key, entry.getValue());
+  public Uni<RestResponse<Void>> setEntry(@RestPath @NotBlankKey String key, @Valid SecureStoreEntry entry) {
+    return entryService.put(key, entry.getValue()).map(result -> {
+      var response = ResponseBuilder.<Void>noContent();
+      if (result == WriteResult.UNCHANGED) {
+        response.header(UNCHANGED_ENTRY_HEADER, Boolean.TRUE.toString());
+      }
+
+      return response.build();
+    });
   }
 
   @DELETE
@@ -46,4 +97,25 @@ public class SecureStoreEntryResource {
   public Uni<Void> deleteEntry(@NotBlankKey String key) {
     return entryService.delete(key);
   }
+
+  private static BatchGetResponse toBatchGetResponse(Map<String, BatchEntryResult> results) {
+    var entries = new ArrayList<SecureStoreEntry>();
+    var notFound = new ArrayList<String>();
+    var errors = new ArrayList<BatchGetError>();
+    results.forEach((key, result) -> {
+      if (result.isFound()) {
+        entries.add(SecureStoreEntry.of(key, result.value()));
+      } else if (result.isFailed()) {
+        errors.add(batchGetError(key, result.error()));
+      } else {
+        notFound.add(key);
+      }
+    });
+
+    return BatchGetResponse.of(entries, notFound, errors);
+  }
+
+  private static BatchGetError batchGetError(String key, Throwable error) {
+    return BatchGetError.of(key, error.getClass().getSimpleName(), ErrorCode.SERVICE_ERROR, error.getMessage());
+  }
 }
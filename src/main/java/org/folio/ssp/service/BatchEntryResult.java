@@ -0,0 +1,30 @@
+package org.folio.ssp.service;
+
+/**
+ * Outcome of resolving a single key of a batch by {@link SecureStoreEntryBatchService}.
+ *
+ * @param value - entry value, null if the entry is not found or could not be resolved
+ * @param error - failure of the secure store call, null if the value is resolved or the entry is not found
+ */
+public record BatchEntryResult(String value, Throwable error) {
+
+  public static BatchEntryResult found(String value) {
+    return new BatchEntryResult(value, null);
+  }
+
+  public static BatchEntryResult notFound() {
+    return new BatchEntryResult(null, null);
+  }
+
+  public static BatchEntryResult failed(Throwable error) {
+    return new BatchEntryResult(null, error);
+  }
+
+  public boolean isFound() {
+    return value != null;
+  }
+
+  public boolean isFailed() {
+    return error != null;
+  }
+}
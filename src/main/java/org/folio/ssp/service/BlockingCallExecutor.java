@@ -0,0 +1,95 @@
+package org.folio.ssp.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.virtual.threads.VirtualThreads;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import jakarta.enterprise.context.ApplicationScoped;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import lombok.extern.log4j.Log4j2;
+import org.folio.ssp.configuration.ExecutionProperties;
+import org.folio.ssp.configuration.ExecutionProperties.ExecutionMode;
+
+/**
+ * Runs blocking secure store calls off the event loop, either on the default worker pool or on virtual threads,
+ * depending on {@code secret-store.execution.mode}.
+ */
+@Log4j2
+@ApplicationScoped
+public class BlockingCallExecutor {
+
+  static final String WAIT_TIME_METRIC = "ssp.blocking.calls.wait";
+  static final String PENDING_METRIC = "ssp.blocking.calls.pending";
+  static final String ACTIVE_METRIC = "ssp.blocking.calls.active";
+
+  private final Executor executor;
+  private final Timer waitTimer;
+  private final AtomicInteger pending = new AtomicInteger();
+  private final AtomicInteger active = new AtomicInteger();
+
+  public BlockingCallExecutor(ExecutionProperties properties, @VirtualThreads ExecutorService virtualThreads,
+    MeterRegistry meterRegistry) {
+    var mode = properties.mode();
+    this.executor = mode == ExecutionMode.VIRTUAL_THREADS ? virtualThreads : Infrastructure.getDefaultWorkerPool();
+    log.info("Blocking secure store calls are executed on: {}", mode);
+
+    var modeTag = mode.name().toLowerCase();
+    this.waitTimer = Timer.builder(WAIT_TIME_METRIC)
+      .description("Time blocking secure store calls wait for a thread")
+      .tag("mode", modeTag)
+      .publishPercentileHistogram()
+      .register(meterRegistry);
+    Gauge.builder(PENDING_METRIC, pending, AtomicInteger::get)
+      .description("Number of blocking secure store calls waiting for a thread")
+      .tag("mode", modeTag)
+      .register(meterRegistry);
+    Gauge.builder(ACTIVE_METRIC, active, AtomicInteger::get)
+      .description("Number of blocking secure store calls in progress")
+      .tag("mode", modeTag)
+      .register(meterRegistry);
+  }
+
+  /**
+   * Runs the supplier on the configured executor. The call is counted as pending until it starts running, or until it
+   * is rejected by the executor or cancelled before it started.
+   *
+   * @param supplier - blocking secure store call
+   * @return result of the call
+   */
+  public <T> Uni<T> execute(Supplier<T> supplier) {
+    return Uni.createFrom().deferred(() -> {
+      var submittedAt = System.nanoTime();
+      var dequeued = new AtomicBoolean();
+      pending.incrementAndGet();
+
+      return Uni.createFrom().item(() -> run(supplier, submittedAt, dequeued))
+        .runSubscriptionOn(executor)
+        .onTermination().invoke(() -> dequeue(dequeued));
+    });
+  }
+
+  private <T> T run(Supplier<T> supplier, long submittedAt, AtomicBoolean dequeued) {
+    dequeue(dequeued);
+    waitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+
+    active.incrementAndGet();
+    try {
+      return supplier.get();
+    } finally {
+      active.decrementAndGet();
+    }
+  }
+
+  private void dequeue(AtomicBoolean dequeued) {
+    if (dequeued.compareAndSet(false, true)) {
+      pending.decrementAndGet();
+    }
+  }
+}
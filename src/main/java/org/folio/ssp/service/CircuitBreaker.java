@@ -0,0 +1,353 @@
+package org.folio.ssp.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.extern.log4j.Log4j2;
+import org.folio.ssp.configuration.CircuitBreakerProperties;
+import org.folio.ssp.exception.CircuitBreakerOpenException;
+import org.folio.tools.store.exception.SecretNotFoundException;
+
+/**
+ * Stops calling the secure store while it is failing or slow.
+ *
+ * <p>The outcomes of the last {@code secret-store.circuit-breaker.window-size} calls are kept in a sliding window.
+ * Once it holds at least {@code minimum-calls} outcomes and the share of failed calls reaches
+ * {@code failure-rate-threshold} or the share of calls slower than {@code slow-call-duration} reaches
+ * {@code slow-call-rate-threshold}, the circuit opens and calls are rejected with {@link CircuitBreakerOpenException}
+ * without reaching the store. After {@code wait-in-open-state} the circuit becomes half-open and lets
+ * {@code half-open-probes} calls through: it closes if their rates are below the thresholds and opens again
+ * otherwise.</p>
+ *
+ * <p>Missing entries and invalid keys are answers of a healthy store and are recorded as successful calls. Only the
+ * time a call spends in the store counts towards the slow call rate: blocking calls are timed on the worker thread,
+ * and a call that never started (rejected by the executor or cancelled while waiting for a worker) is not recorded,
+ * so a saturated local pool cannot open the circuit while the store is healthy.</p>
+ */
+@Log4j2
+@ApplicationScoped
+public class CircuitBreaker {
+
+  static final String STATE_METRIC = "ssp.circuit.breaker.state";
+  static final String CALLS_METRIC = "ssp.circuit.breaker.calls";
+  static final String FAILURE_RATE_METRIC = "ssp.circuit.breaker.failure.rate";
+  static final String SLOW_CALL_RATE_METRIC = "ssp.circuit.breaker.slow.call.rate";
+
+  private static final int FAILED = 1;
+  private static final int SLOW = 2;
+
+  private final CircuitBreakerProperties properties;
+  private final long slowCallDurationNanos;
+  private final long waitInOpenStateNanos;
+  private final Map<Outcome, Counter> callCounters = new EnumMap<>(Outcome.class);
+  private final int[] window;
+  private int windowPosition;
+  private int windowCalls;
+  private int windowFailures;
+  private int windowSlowCalls;
+  private State state = State.CLOSED;
+  private long generation;
+  private long openedAt;
+  private int probesStarted;
+  private int probesCompleted;
+  private int probeFailures;
+  private int probeSlowCalls;
+
+  public CircuitBreaker(CircuitBreakerProperties properties, MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.slowCallDurationNanos = properties.slowCallDuration().toNanos();
+    this.waitInOpenStateNanos = properties.waitInOpenState().toNanos();
+    this.window = new int[Math.max(1, properties.windowSize())];
+    registerMetrics(meterRegistry);
+  }
+
+  /**
+   * Executes the call if the circuit is closed, or if it is half-open and a probe is still available.
+   *
+   * @param call - secure store call, subscribed to only if it is permitted
+   * @return result of the call, or a failure with {@link CircuitBreakerOpenException} if the call is not permitted
+   */
+  public <T> Uni<T> execute(Supplier<Uni<T>> call) {
+    return executePermitted(timer -> {
+      timer.start();
+      return Uni.createFrom().deferred(call).onTermination().invoke(timer::stop);
+    });
+  }
+
+  /**
+   * Executes a blocking call with the given executor if it is permitted, see {@link #execute(Supplier)}. The call is
+   * timed on the worker thread, so the time spent waiting for a worker is not counted as a slow call.
+   *
+   * @param executor - executor running the supplier off the calling thread
+   * @param supplier - blocking secure store call, run only if it is permitted
+   * @return result of the call, or a failure with {@link CircuitBreakerOpenException} if the call is not permitted
+   */
+  public <T> Uni<T> executeBlocking(Function<Supplier<T>, Uni<T>> executor, Supplier<T> supplier) {
+    return executePermitted(timer -> executor.apply(timer.timed(supplier)));
+  }
+
+  public synchronized State getState() {
+    if (state == State.OPEN && isWaitInOpenStateElapsed()) {
+      return State.HALF_OPEN;
+    }
+    return state;
+  }
+
+  /**
+   * Returns the percentage of failed calls in the sliding window, or {@code 0} until the window holds
+   * {@code minimum-calls} outcomes.
+   */
+  public synchronized double getFailureRate() {
+    return windowCalls < properties.minimumCalls() ? 0 : percentage(windowFailures, windowCalls);
+  }
+
+  /**
+   * Returns the percentage of slow calls in the sliding window, or {@code 0} until the window holds
+   * {@code minimum-calls} outcomes.
+   */
+  public synchronized double getSlowCallRate() {
+    return windowCalls < properties.minimumCalls() ? 0 : percentage(windowSlowCalls, windowCalls);
+  }
+
+  /**
+   * Returns the time left until probe calls are let through, or zero if the circuit is not open.
+   */
+  public synchronized Duration getRetryAfter() {
+    if (state != State.OPEN) {
+      return Duration.ZERO;
+    }
+    var remainingNanos = waitInOpenStateNanos - (System.nanoTime() - openedAt);
+    return Duration.ofNanos(Math.max(0, remainingNanos));
+  }
+
+  /**
+   * Closes the circuit and clears the recorded outcomes, calls in flight are not recorded.
+   */
+  public synchronized void reset() {
+    transitionTo(State.CLOSED);
+  }
+
+  private void registerMetrics(MeterRegistry meterRegistry) {
+    for (var circuitState : State.values()) {
+      Gauge.builder(STATE_METRIC, this, breaker -> breaker.getState() == circuitState ? 1 : 0)
+        .description("Whether the secure store circuit breaker is in the given state")
+        .tag("state", circuitState.name().toLowerCase())
+        .register(meterRegistry);
+    }
+    for (var outcome : Outcome.values()) {
+      callCounters.put(outcome, Counter.builder(CALLS_METRIC)
+        .description("Number of secure store calls passed through or rejected by the circuit breaker")
+        .tag("outcome", outcome.name().toLowerCase())
+        .register(meterRegistry));
+    }
+    Gauge.builder(FAILURE_RATE_METRIC, this, CircuitBreaker::getFailureRate)
+      .description("Percentage of failed secure store calls in the circuit breaker window")
+      .register(meterRegistry);
+    Gauge.builder(SLOW_CALL_RATE_METRIC, this, CircuitBreaker::getSlowCallRate)
+      .description("Percentage of slow secure store calls in the circuit breaker window")
+      .register(meterRegistry);
+  }
+
+  private <T> Uni<T> executePermitted(Function<CallTimer, Uni<T>> call) {
+    if (!properties.enabled()) {
+      return Uni.createFrom().deferred(() -> call.apply(new CallTimer()));
+    }
+
+    return Uni.createFrom().deferred(() -> {
+      var permittedGeneration = tryAcquire();
+      if (permittedGeneration < 0) {
+        callCounters.get(Outcome.REJECTED).increment();
+        return Uni.createFrom().failure(new CircuitBreakerOpenException(
+          "Secure store is unavailable, circuit breaker is open", getRetryAfter()));
+      }
+
+      var timer = new CallTimer();
+      return call.apply(timer).onTermination().invoke((item, error, cancelled) ->
+        onComplete(permittedGeneration, error, cancelled || !timer.isStarted(), timer.getDurationNanos()));
+    });
+  }
+
+  /**
+   * Returns the generation the permitted call belongs to, or {@code -1} if the call is rejected. Outcomes of calls
+   * permitted before the last state transition are not recorded.
+   */
+  private synchronized long tryAcquire() {
+    if (state == State.OPEN && isWaitInOpenStateElapsed()) {
+      transitionTo(State.HALF_OPEN);
+    }
+
+    return switch (state) {
+      case CLOSED -> generation;
+      case OPEN -> -1;
+      case HALF_OPEN -> probesStarted < properties.halfOpenProbes() ? startProbe() : -1;
+    };
+  }
+
+  private long startProbe() {
+    probesStarted++;
+    return generation;
+  }
+
+  private void onComplete(long permittedGeneration, Throwable error, boolean cancelled, long durationNanos) {
+    var failed = isFailure(error);
+    var slow = !cancelled && durationNanos > slowCallDurationNanos;
+    callCounters.get(cancelled ? Outcome.CANCELLED : failed ? Outcome.FAILURE : Outcome.SUCCESS).increment();
+
+    synchronized (this) {
+      if (permittedGeneration != generation) {
+        return;
+      }
+
+      if (state == State.HALF_OPEN) {
+        recordProbe(cancelled, failed, slow);
+      } else if (state == State.CLOSED && !cancelled) {
+        record((failed ? FAILED : 0) | (slow ? SLOW : 0));
+      }
+    }
+  }
+
+  /**
+   * Adds the outcome flags of a call to the sliding window, replacing the oldest ones once the window is full.
+   */
+  private void record(int outcome) {
+    if (windowCalls == window.length) {
+      windowFailures -= window[windowPosition] & FAILED;
+      windowSlowCalls -= (window[windowPosition] & SLOW) >> 1;
+    } else {
+      windowCalls++;
+    }
+
+    window[windowPosition] = outcome;
+    windowPosition = (windowPosition + 1) % window.length;
+    windowFailures += outcome & FAILED;
+    windowSlowCalls += (outcome & SLOW) >> 1;
+
+    if (windowCalls >= properties.minimumCalls() && exceedsThresholds(windowFailures, windowSlowCalls, windowCalls)) {
+      log.warn("Secure store circuit breaker opened: failureRate = {}%, slowCallRate = {}%",
+        percentage(windowFailures, windowCalls), percentage(windowSlowCalls, windowCalls));
+      transitionTo(State.OPEN);
+    }
+  }
+
+  private void recordProbe(boolean cancelled, boolean failed, boolean slow) {
+    if (cancelled) {
+      probesStarted--;
+      return;
+    }
+
+    probesCompleted++;
+    probeFailures += failed ? 1 : 0;
+    probeSlowCalls += slow ? 1 : 0;
+
+    if (exceedsThresholds(probeFailures, probeSlowCalls, properties.halfOpenProbes())) {
+      log.warn("Secure store circuit breaker opened again, probe calls failed: failures = {}, slowCalls = {}",
+        probeFailures, probeSlowCalls);
+      transitionTo(State.OPEN);
+    } else if (probesCompleted >= properties.halfOpenProbes()) {
+      log.info("Secure store circuit breaker closed, probe calls succeeded");
+      transitionTo(State.CLOSED);
+    }
+  }
+
+  /**
+   * Compares the rates of the calls against the thresholds. For probe calls the total is the number of probes, so
+   * the circuit opens again as soon as enough of them have failed, without waiting for the remaining ones.
+   */
+  private boolean exceedsThresholds(int failures, int slowCalls, int total) {
+    return percentage(failures, total) >= properties.failureRateThreshold()
+      || percentage(slowCalls, total) >= properties.slowCallRateThreshold();
+  }
+
+  private void transitionTo(State newState) {
+    state = newState;
+    generation++;
+    probesStarted = 0;
+    probesCompleted = 0;
+    probeFailures = 0;
+    probeSlowCalls = 0;
+
+    if (newState == State.OPEN) {
+      openedAt = System.nanoTime();
+    } else if (newState == State.CLOSED) {
+      clearWindow();
+    }
+    log.debug("Secure store circuit breaker state changed: state = {}", newState);
+  }
+
+  private void clearWindow() {
+    Arrays.fill(window, 0);
+    windowPosition = 0;
+    windowCalls = 0;
+    windowFailures = 0;
+    windowSlowCalls = 0;
+  }
+
+  private boolean isWaitInOpenStateElapsed() {
+    return System.nanoTime() - openedAt >= waitInOpenStateNanos;
+  }
+
+  private static double percentage(int count, int total) {
+    return total == 0 ? 0 : count * 100.0 / total;
+  }
+
+  private static boolean isFailure(Throwable error) {
+    return error != null && !(error instanceof SecretNotFoundException) && !(error instanceof IllegalArgumentException);
+  }
+
+  /**
+   * Measures the time a call spends in the secure store. A call that was never started is recorded like a cancelled
+   * one.
+   */
+  private static final class CallTimer {
+
+    private volatile long startedAt;
+    private volatile long durationNanos;
+    private volatile boolean started;
+
+    void start() {
+      startedAt = System.nanoTime();
+      started = true;
+    }
+
+    void stop() {
+      if (started) {
+        durationNanos = System.nanoTime() - startedAt;
+      }
+    }
+
+    boolean isStarted() {
+      return started;
+    }
+
+    long getDurationNanos() {
+      return durationNanos;
+    }
+
+    <T> Supplier<T> timed(Supplier<T> supplier) {
+      return () -> {
+        start();
+        try {
+          return supplier.get();
+        } finally {
+          stop();
+        }
+      };
+    }
+  }
+
+  public enum State {
+    CLOSED, OPEN, HALF_OPEN
+  }
+
+  private enum Outcome {
+    SUCCESS, FAILURE, REJECTED, CANCELLED
+  }
+}
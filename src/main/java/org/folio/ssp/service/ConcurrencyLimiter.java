@@ -0,0 +1,189 @@
+package org.folio.ssp.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import lombok.extern.log4j.Log4j2;
+import org.folio.ssp.configuration.ConcurrencyLimitProperties;
+import org.folio.ssp.exception.CircuitBreakerOpenException;
+import org.folio.ssp.exception.ConcurrencyLimitExceededException;
+import org.folio.tools.store.exception.SecretNotFoundException;
+
+/**
+ * Limits the number of concurrent secure store calls with an AIMD (additive increase, multiplicative decrease)
+ * algorithm.
+ *
+ * <p>The limit grows by {@code 1 / limit} for every call completed within
+ * {@code secret-store.concurrency-limit.latency-threshold} and is multiplied by
+ * {@code secret-store.concurrency-limit.backoff-ratio} for every failed or slow call. Calls above the limit wait in a
+ * bounded queue and are rejected with {@link ConcurrencyLimitExceededException} once the queue is full.</p>
+ */
+@Log4j2
+@ApplicationScoped
+public class ConcurrencyLimiter {
+
+  static final String LIMIT_METRIC = "ssp.concurrency.limit";
+  static final String IN_FLIGHT_METRIC = "ssp.concurrency.in.flight";
+  static final String QUEUED_METRIC = "ssp.concurrency.queued";
+  static final String REJECTED_METRIC = "ssp.concurrency.rejected";
+
+  private final ConcurrencyLimitProperties properties;
+  private final long latencyThresholdNanos;
+  private final Counter rejected;
+  private final Deque<CompletableFuture<Void>> queue = new ArrayDeque<>();
+  private double limit;
+  private int inFlight;
+
+  public ConcurrencyLimiter(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.latencyThresholdNanos = properties.latencyThreshold().toNanos();
+    this.limit = Math.clamp(properties.initialLimit(), properties.minLimit(), properties.maxLimit());
+
+    Gauge.builder(LIMIT_METRIC, this, ConcurrencyLimiter::getLimit)
+      .description("Current limit of concurrent secure store calls")
+      .register(meterRegistry);
+    Gauge.builder(IN_FLIGHT_METRIC, this, ConcurrencyLimiter::getInFlight)
+      .description("Number of secure store calls in progress")
+      .register(meterRegistry);
+    Gauge.builder(QUEUED_METRIC, this, ConcurrencyLimiter::getQueued)
+      .description("Number of secure store calls waiting for the concurrency limit")
+      .register(meterRegistry);
+    this.rejected = Counter.builder(REJECTED_METRIC)
+      .description("Number of secure store calls rejected because the wait queue was full")
+      .register(meterRegistry);
+  }
+
+  /**
+   * Executes the call once a permit is available.
+   *
+   * @param call - secure store call, subscribed to after a permit is acquired
+   * @return result of the call, or a failure with {@link ConcurrencyLimitExceededException} if the queue is full
+   */
+  public <T> Uni<T> execute(Supplier<Uni<T>> call) {
+    if (!properties.enabled()) {
+      return Uni.createFrom().deferred(call);
+    }
+
+    return acquire().chain(() -> {
+      var startedAt = System.nanoTime();
+      return Uni.createFrom().deferred(call)
+        .onTermination().invoke((item, error, cancelled) -> release(error, cancelled, System.nanoTime() - startedAt));
+    });
+  }
+
+  public synchronized int getLimit() {
+    return (int) limit;
+  }
+
+  public synchronized int getInFlight() {
+    return inFlight;
+  }
+
+  public synchronized int getQueued() {
+    return queue.size();
+  }
+
+  private Uni<Void> acquire() {
+    return Uni.createFrom().deferred(() -> {
+      synchronized (this) {
+        if (inFlight < (int) limit) {
+          inFlight++;
+          return Uni.createFrom().voidItem();
+        }
+        return enqueue();
+      }
+    });
+  }
+
+  /**
+   * Queues the call until a permit is released, or rejects it if the wait queue is full. Must be called while holding
+   * the lock.
+   */
+  private Uni<Void> enqueue() {
+    if (queue.size() >= properties.maxQueueSize()) {
+      rejected.increment();
+      log.warn("Secure store call rejected, concurrency limit reached: limit = {}, queued = {}",
+        (int) limit, queue.size());
+      return Uni.createFrom().failure(new ConcurrencyLimitExceededException(
+        "Too many concurrent requests to the secure store", properties.retryAfter()));
+    }
+
+    var permit = new CompletableFuture<Void>();
+    queue.addLast(permit);
+    return Uni.createFrom().completionStage(permit)
+      .onCancellation().invoke(() -> cancel(permit));
+  }
+
+  private void release(Throwable error, boolean cancelled, long latencyNanos) {
+    List<CompletableFuture<Void>> granted;
+    synchronized (this) {
+      inFlight--;
+      if (!cancelled) {
+        adjustLimit(error, latencyNanos);
+      }
+      granted = pollGranted();
+    }
+
+    grant(granted);
+  }
+
+  private void adjustLimit(Throwable error, long latencyNanos) {
+    if (isOverload(error, latencyNanos)) {
+      limit = Math.max(properties.minLimit(), limit * properties.backoffRatio());
+      log.debug("Concurrency limit decreased: limit = {}", (int) limit);
+    } else if (error == null) {
+      limit = Math.min(properties.maxLimit(), limit + 1.0 / limit);
+    }
+  }
+
+  private boolean isOverload(Throwable error, long latencyNanos) {
+    if (error != null) {
+      return !(error instanceof SecretNotFoundException) && !(error instanceof IllegalArgumentException)
+        && !(error instanceof CircuitBreakerOpenException);
+    }
+    return latencyNanos > latencyThresholdNanos;
+  }
+
+  private List<CompletableFuture<Void>> pollGranted() {
+    var granted = new ArrayList<CompletableFuture<Void>>();
+    while (inFlight < (int) limit && !queue.isEmpty()) {
+      inFlight++;
+      granted.add(queue.pollFirst());
+    }
+    return granted;
+  }
+
+  /**
+   * Completes the permits outside the lock, permits of callers cancelled in the meantime are released again.
+   */
+  private void grant(List<CompletableFuture<Void>> granted) {
+    for (var permit : granted) {
+      if (!permit.complete(null)) {
+        release(null, true, 0L);
+      }
+    }
+  }
+
+  /**
+   * Removes the permit of a cancelled caller from the queue, or releases it if it has already been granted.
+   */
+  private void cancel(CompletableFuture<Void> permit) {
+    synchronized (this) {
+      if (queue.remove(permit)) {
+        return;
+      }
+    }
+
+    if (!permit.cancel(false)) {
+      release(null, true, 0L);
+    }
+  }
+}
@@ -0,0 +1,93 @@
+package org.folio.ssp.service;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.apache.commons.lang3.StringUtils;
+import org.folio.ssp.configuration.EntityTagProperties;
+
+/**
+ * Derives strong ETags of secure store entries and evaluates {@code If-None-Match} preconditions.
+ *
+ * <p>The tag is a truncated HMAC-SHA256 of the entry key and value. The keyed hash makes the tag useless for guessing
+ * the value offline and gives different tags to equal values stored under different keys.</p>
+ */
+@ApplicationScoped
+public class EntityTagGenerator {
+
+  private static final String ALGORITHM = "HmacSHA256";
+  private static final int RANDOM_KEY_LENGTH = 32;
+  private static final int TAG_LENGTH = 16;
+  private static final String ANY_TAG = "*";
+  private static final String WEAK_PREFIX = "W/";
+
+  private final ThreadLocal<Mac> mac;
+
+  public EntityTagGenerator(EntityTagProperties properties) {
+    var secretKey = new SecretKeySpec(hmacKey(properties), ALGORITHM);
+    this.mac = ThreadLocal.withInitial(() -> {
+      try {
+        var instance = Mac.getInstance(ALGORITHM);
+        instance.init(secretKey);
+        return instance;
+      } catch (GeneralSecurityException e) {
+        throw new IllegalStateException("Failed to initialize " + ALGORITHM, e);
+      }
+    });
+  }
+
+  /**
+   * Generates the quoted strong ETag of the entry.
+   *
+   * @param key - entry key
+   * @param value - entry value
+   * @return ETag header value
+   */
+  public String generate(String key, String value) {
+    var instance = mac.get();
+    instance.update(key.getBytes(UTF_8));
+    instance.update((byte) 0);
+    var digest = instance.doFinal(value.getBytes(UTF_8));
+    var tag = Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, TAG_LENGTH));
+    return '"' + tag + '"';
+  }
+
+  /**
+   * Checks if the {@code If-None-Match} header matches the current ETag of the entry, using the weak comparison
+   * required by RFC 9110.
+   *
+   * @param ifNoneMatch - {@code If-None-Match} header value, may be null
+   * @param entityTag - current ETag of the entry
+   * @return true if the client already has the current value
+   */
+  public static boolean matches(String ifNoneMatch, String entityTag) {
+    if (StringUtils.isBlank(ifNoneMatch)) {
+      return false;
+    }
+
+    for (var candidate : ifNoneMatch.split(",")) {
+      var tag = candidate.trim();
+      if (ANY_TAG.equals(tag) || entityTag.equals(StringUtils.removeStart(tag, WEAK_PREFIX))) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  private static byte[] hmacKey(EntityTagProperties properties) {
+    return properties.key()
+      .map(encodedKey -> Base64.getDecoder().decode(encodedKey))
+      .orElseGet(() -> {
+        var key = new byte[RANDOM_KEY_LENGTH];
+        new SecureRandom().nextBytes(key);
+        return key;
+      });
+  }
+}
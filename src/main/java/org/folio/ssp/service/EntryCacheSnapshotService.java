@@ -0,0 +1,208 @@
+package org.folio.ssp.service;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toList;
+
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.subscription.Cancellable;
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.interceptor.Interceptor;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import lombok.extern.log4j.Log4j2;
+import org.folio.ssp.cache.EntryCache;
+import org.folio.ssp.cache.EntryCacheSnapshotCodec;
+import org.folio.ssp.cache.SnapshotEntry;
+import org.folio.ssp.configuration.EntryCacheProperties;
+
+/**
+ * Persists the entry cache to an encrypted snapshot on local disk and restores it on startup (L2 cache).
+ *
+ * <p>The snapshot is restored before the entry cache warm-up, so restored keys are served from the cache right after
+ * startup. Restored entries older than {@code entry-cache.snapshot.revalidate-after} are reloaded from the secure
+ * store in the background, entries older than {@code entry-cache.snapshot.max-age} are dropped.</p>
+ */
+@Log4j2
+@ApplicationScoped
+public class EntryCacheSnapshotService {
+
+  private static final int REVALIDATE_CONCURRENCY = 4;
+  private static final Set<Integer> AES_KEY_LENGTHS = Set.of(16, 24, 32);
+
+  private final EntryCache entryCache;
+  private final SecureStoreEntryService entryService;
+  private final EntryCacheProperties.Snapshot properties;
+  private final Path path;
+  private final EntryCacheSnapshotCodec codec;
+  private Cancellable periodicSnapshots;
+
+  public EntryCacheSnapshotService(EntryCache entryCache, SecureStoreEntryService entryService,
+    EntryCacheProperties cacheProperties) {
+    this.entryCache = entryCache;
+    this.entryService = entryService;
+    this.properties = cacheProperties.snapshot();
+    this.path = properties.enabled() ? snapshotPath(properties) : null;
+    this.codec = properties.enabled() ? new EntryCacheSnapshotCodec(encryptionKey(properties)) : null;
+  }
+
+  void onStart(@Observes @Priority(Interceptor.Priority.APPLICATION) StartupEvent event) {
+    if (!properties.enabled()) {
+      return;
+    }
+
+    restore();
+    periodicSnapshots = Multi.createFrom().ticks().every(properties.interval())
+      .emitOn(Infrastructure.getDefaultWorkerPool())
+      .subscribe().with(tick -> write(), error -> log.warn("Entry cache snapshots stopped", error));
+  }
+
+  void onStop(@Observes ShutdownEvent event) {
+    if (!properties.enabled()) {
+      return;
+    }
+
+    if (periodicSnapshots != null) {
+      periodicSnapshots.cancel();
+    }
+    write();
+  }
+
+  /**
+   * Restores the entry cache from the snapshot file and triggers background revalidation of old entries.
+   *
+   * @return number of restored entries
+   */
+  int restore() {
+    if (!Files.isReadable(path)) {
+      log.info("Entry cache snapshot not found: path = {}", path);
+      return 0;
+    }
+
+    var startedAt = System.nanoTime();
+    var now = System.currentTimeMillis();
+    var keysByOutcome = readSnapshot().stream()
+      .collect(groupingBy(entry -> restoreEntry(entry, now), () -> new EnumMap<>(RestoreOutcome.class),
+        mapping(SnapshotEntry::key, toList())));
+    var toRevalidate = keysByOutcome.getOrDefault(RestoreOutcome.REVALIDATE, List.of());
+    var restored = count(keysByOutcome, RestoreOutcome.RESTORED) + toRevalidate.size();
+
+    var took = Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+    log.info("Entry cache restored from snapshot: path = {}, restored = {}, expired = {}, revalidating = {}, "
+      + "took = {} ms", path, restored, count(keysByOutcome, RestoreOutcome.EXPIRED), toRevalidate.size(), took);
+    revalidate(toRevalidate);
+    return restored;
+  }
+
+  /**
+   * Writes the current entry cache content to the snapshot file.
+   */
+  void write() {
+    try {
+      var entries = entryCache.snapshot();
+      codec.write(path, entries);
+      log.debug("Entry cache snapshot written: path = {}, entries = {}", path, entries.size());
+    } catch (IOException | GeneralSecurityException | RuntimeException e) {
+      log.warn("Failed to write entry cache snapshot: path = {}", path, e);
+    }
+  }
+
+  private List<SnapshotEntry> readSnapshot() {
+    try {
+      return codec.read(path);
+    } catch (IOException | GeneralSecurityException | RuntimeException e) {
+      log.warn("Failed to read entry cache snapshot, starting with an empty cache: path = {}", path, e);
+      return List.of();
+    }
+  }
+
+  /**
+   * Puts the snapshot entry into the entry cache, unless it is older than {@code max-age} or the key is already
+   * cached, and classifies it by its age.
+   */
+  private RestoreOutcome restoreEntry(SnapshotEntry entry, long now) {
+    var age = Duration.ofMillis(Math.max(0, now - entry.writtenAt()));
+    if (age.compareTo(properties.maxAge()) >= 0) {
+      return RestoreOutcome.EXPIRED;
+    }
+    if (!entryCache.restore(entry.key(), entry.value(), age)) {
+      return RestoreOutcome.ALREADY_CACHED;
+    }
+
+    return age.compareTo(properties.revalidateAfter()) >= 0 ? RestoreOutcome.REVALIDATE : RestoreOutcome.RESTORED;
+  }
+
+  private void revalidate(List<String> keys) {
+    if (keys.isEmpty()) {
+      return;
+    }
+
+    Multi.createFrom().iterable(keys)
+      .onItem().transformToUni(key -> entryService.revalidate(key)
+        .onFailure().invoke(error -> log.debug("Failed to revalidate restored cache entry: key = {}, error = {}",
+          key, error.getMessage()))
+        .onFailure().recoverWithNull())
+      .merge(REVALIDATE_CONCURRENCY)
+      .collect().last()
+      .subscribe().with(ignored -> log.info("Restored entry cache entries revalidated: keys = {}", keys.size()));
+  }
+
+  private static int count(Map<RestoreOutcome, List<String>> keysByOutcome, RestoreOutcome outcome) {
+    return keysByOutcome.getOrDefault(outcome, List.of()).size();
+  }
+
+  private static Path snapshotPath(EntryCacheProperties.Snapshot properties) {
+    return properties.path().map(Path::of)
+      .orElseThrow(() -> new IllegalStateException("entry-cache.snapshot.path must be set if snapshots are enabled"));
+  }
+
+  private static SecretKey encryptionKey(EntryCacheProperties.Snapshot properties) {
+    var encodedKey = properties.encryptionKey()
+      .orElseThrow(() -> new IllegalStateException(
+        "entry-cache.snapshot.encryption-key must be set if snapshots are enabled"));
+    var key = Base64.getDecoder().decode(encodedKey);
+    if (!AES_KEY_LENGTHS.contains(key.length)) {
+      throw new IllegalStateException("entry-cache.snapshot.encryption-key must be a 128, 192 or 256 bit AES key");
+    }
+
+    return new SecretKeySpec(key, "AES");
+  }
+
+  private enum RestoreOutcome {
+
+    /**
+     * Older than {@code max-age}, dropped.
+     */
+    EXPIRED,
+
+    /**
+     * Key already cached with a newer value, skipped.
+     */
+    ALREADY_CACHED,
+
+    /**
+     * Restored.
+     */
+    RESTORED,
+
+    /**
+     * Restored, but older than {@code revalidate-after}, reloaded in the background.
+     */
+    REVALIDATE
+  }
+}
@@ -0,0 +1,172 @@
+package org.folio.ssp.service;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.joining;
+
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import lombok.extern.log4j.Log4j2;
+import org.folio.ssp.cache.EntryCache;
+import org.folio.ssp.configuration.EntryCacheProperties;
+
+/**
+ * Populates the entry cache on startup with the configured keys and the keys persisted by the previous instance in
+ * the warm-up manifest.
+ */
+@Log4j2
+@ApplicationScoped
+public class EntryCacheWarmUpService {
+
+  private final SecureStoreEntryService entryService;
+  private final EntryCache entryCache;
+  private final EntryCacheProperties.WarmUp properties;
+
+  private final AtomicReference<WarmUpState> state;
+  private final AtomicInteger total = new AtomicInteger();
+  private final AtomicInteger loaded = new AtomicInteger();
+  private final AtomicInteger failed = new AtomicInteger();
+
+  public EntryCacheWarmUpService(SecureStoreEntryService entryService, EntryCache entryCache,
+    EntryCacheProperties cacheProperties) {
+    this.entryService = entryService;
+    this.entryCache = entryCache;
+    this.properties = cacheProperties.warmUp();
+    this.state = new AtomicReference<>(properties.enabled() ? WarmUpState.PENDING : WarmUpState.DISABLED);
+  }
+
+  void onStart(@Observes StartupEvent event) {
+    if (!properties.enabled()) {
+      return;
+    }
+
+    warmUp(resolveKeys()).subscribe().with(
+      progress -> log.info("Entry cache warm-up finished: {}", progress),
+      error -> log.warn("Entry cache warm-up failed", error));
+  }
+
+  void onStop(@Observes ShutdownEvent event) {
+    if (properties.enabled()) {
+      properties.manifestPath().map(Path::of).ifPresent(this::writeManifest);
+    }
+  }
+
+  public WarmUpProgress getProgress() {
+    return new WarmUpProgress(state.get(), total.get(), loaded.get(), failed.get());
+  }
+
+  /**
+   * Loads the given keys into the entry cache, limited by {@code entry-cache.warm-up.max-concurrency} and
+   * {@code entry-cache.warm-up.timeout}. Keys that cannot be loaded are skipped.
+   *
+   * @param keys - keys to load
+   * @return warm-up progress after completion or timeout
+   */
+  Uni<WarmUpProgress> warmUp(Collection<String> keys) {
+    total.set(keys.size());
+    loaded.set(0);
+    failed.set(0);
+    state.set(WarmUpState.IN_PROGRESS);
+    log.info("Entry cache warm-up started: keys = {}", keys.size());
+
+    return Multi.createFrom().iterable(keys)
+      .onItem().transformToUni(this::load).merge(properties.maxConcurrency())
+      .onItem().ignoreAsUni()
+      .replaceWith(WarmUpState.COMPLETED)
+      .ifNoItem().after(properties.timeout()).recoverWithItem(WarmUpState.TIMED_OUT)
+      .invoke(state::set)
+      .map(finalState -> getProgress());
+  }
+
+  private Uni<Boolean> load(String key) {
+    return entryService.get(key)
+      .invoke(loaded::incrementAndGet)
+      .replaceWith(Boolean.TRUE)
+      .onFailure().recoverWithItem(error -> {
+        failed.incrementAndGet();
+        log.warn("Failed to warm up cache entry: key = {}, error = {}", key, error.getMessage());
+        return false;
+      });
+  }
+
+  private Set<String> resolveKeys() {
+    var keys = new LinkedHashSet<String>(properties.keys().orElse(List.of()));
+    properties.manifestPath().map(Path::of).ifPresent(manifest -> readManifest(manifest).stream()
+      .filter(manifestKeyFilter())
+      .forEach(keys::add));
+
+    return keys;
+  }
+
+  private Predicate<String> manifestKeyFilter() {
+    var patterns = properties.manifestKeyPatterns().orElse(List.of()).stream()
+      .map(EntryCacheWarmUpService::globToPattern)
+      .toList();
+
+    return key -> patterns.isEmpty() || patterns.stream().anyMatch(pattern -> pattern.matcher(key).matches());
+  }
+
+  private static List<String> readManifest(Path manifest) {
+    if (!Files.isReadable(manifest)) {
+      log.info("Entry cache warm-up manifest not found: path = {}", manifest);
+      return List.of();
+    }
+
+    try {
+      return Files.readAllLines(manifest, UTF_8).stream().filter(line -> !line.isBlank()).toList();
+    } catch (IOException e) {
+      log.warn("Failed to read entry cache warm-up manifest: path = {}", manifest, e);
+      return List.of();
+    }
+  }
+
+  private void writeManifest(Path manifest) {
+    var keys = entryCache.keys(null, null, Integer.MAX_VALUE);
+    try {
+      Files.write(manifest, keys, UTF_8);
+      log.info("Entry cache warm-up manifest written: path = {}, keys = {}", manifest, keys.size());
+    } catch (IOException e) {
+      log.warn("Failed to write entry cache warm-up manifest: path = {}", manifest, e);
+    }
+  }
+
+  private static Pattern globToPattern(String glob) {
+    return Pattern.compile(Arrays.stream(glob.split("\\*", -1))
+      .map(Pattern::quote)
+      .collect(joining(".*")));
+  }
+
+  public enum WarmUpState {
+    DISABLED, PENDING, IN_PROGRESS, COMPLETED, TIMED_OUT
+  }
+
+  /**
+   * Snapshot of the entry cache warm-up.
+   *
+   * @param state - current warm-up state
+   * @param total - number of keys selected for warm-up
+   * @param loaded - number of keys loaded into the entry cache
+   * @param failed - number of keys that could not be loaded
+   */
+  public record WarmUpProgress(WarmUpState state, int total, int loaded, int failed) {
+
+    public boolean isFinished() {
+      return state != WarmUpState.PENDING && state != WarmUpState.IN_PROGRESS;
+    }
+  }
+}
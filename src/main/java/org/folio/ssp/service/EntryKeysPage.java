@@ -0,0 +1,11 @@
+package org.folio.ssp.service;
+
+import java.util.List;
+
+/**
+ * Page of cached entry keys returned by {@link SecureStoreEntryCacheService}.
+ *
+ * @param keys - cached keys in ascending order
+ * @param nextCursor - opaque cursor of the next page, null if this is the last page
+ */
+public record EntryKeysPage(List<String> keys, String nextCursor) {}
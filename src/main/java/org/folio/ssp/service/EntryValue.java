@@ -0,0 +1,18 @@
+package org.folio.ssp.service;
+
+/**
+ * Value of a secure store entry resolved by {@link SecureStoreEntryService}.
+ *
+ * @param value - entry value
+ * @param stale - true if the value is the last known one, served because the secure store could not be reached
+ */
+public record EntryValue(String value, boolean stale) {
+
+  public static EntryValue fresh(String value) {
+    return new EntryValue(value, false);
+  }
+
+  public static EntryValue stale(String value) {
+    return new EntryValue(value, true);
+  }
+}
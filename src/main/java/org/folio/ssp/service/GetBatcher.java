@@ -0,0 +1,160 @@
+package org.folio.ssp.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import jakarta.enterprise.context.ApplicationScoped;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import lombok.extern.log4j.Log4j2;
+import org.folio.ssp.configuration.GetBatchingProperties;
+import org.folio.tools.store.exception.SecretNotFoundException;
+
+/**
+ * Collects concurrent reads of different keys into batched secure store calls.
+ *
+ * <p>The first read of a batch waits for {@code secret-store.get-batching.linger}, reads received in the meantime join
+ * the batch. A batch reaching {@code secret-store.get-batching.max-batch-size} keys is sent immediately. Reads of a key
+ * that is already part of the pending batch share its result. Keys missing from the batch result complete with
+ * {@link SecretNotFoundException}, a failed call fails all reads of the batch.</p>
+ */
+@Log4j2
+@ApplicationScoped
+public class GetBatcher {
+
+  static final String BATCH_SIZE_METRIC = "ssp.secure.store.get.batch.size";
+  static final String MERGED_GETS_METRIC = "ssp.secure.store.get.merged";
+
+  private final boolean enabled;
+  private final int maxBatchSize;
+  private final Duration linger;
+  private final DistributionSummary batchSize;
+  private final Counter mergedGets;
+  private PendingBatch pendingBatch;
+
+  public GetBatcher(GetBatchingProperties properties, MeterRegistry meterRegistry) {
+    this.enabled = properties.enabled();
+    this.maxBatchSize = properties.maxBatchSize();
+    this.linger = properties.linger();
+    this.batchSize = DistributionSummary.builder(BATCH_SIZE_METRIC)
+      .description("Number of keys loaded by a batched secure store call")
+      .register(meterRegistry);
+    this.mergedGets = Counter.builder(MERGED_GETS_METRIC)
+      .description("Number of reads that joined a pending batched read of the same key")
+      .register(meterRegistry);
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Reads the value of the key as part of a batch.
+   *
+   * @param key - entry key
+   * @param loader - performs the batched secure store call, returns the values of the found keys; the loader of the
+   *   read that opened the batch is used for the whole batch
+   * @return entry value
+   */
+  public Uni<String> get(String key, Function<List<String>, Uni<Map<String, String>>> loader) {
+    return Uni.createFrom().deferred(() -> {
+      var waiter = new CompletableFuture<String>();
+      enqueue(key, loader, waiter);
+      return Uni.createFrom().completionStage(waiter);
+    });
+  }
+
+  private void enqueue(String key, Function<List<String>, Uni<Map<String, String>>> loader,
+    CompletableFuture<String> waiter) {
+    var fullBatch = addWaiter(key, loader, waiter);
+    if (fullBatch != null) {
+      dispatch(fullBatch);
+    }
+  }
+
+  /**
+   * Adds the waiter to the pending batch, opening a new batch if there is none.
+   *
+   * @return the batch if it reached the maximum size and has to be dispatched immediately, null otherwise
+   */
+  private synchronized PendingBatch addWaiter(String key, Function<List<String>, Uni<Map<String, String>>> loader,
+    CompletableFuture<String> waiter) {
+    if (pendingBatch == null) {
+      pendingBatch = new PendingBatch(loader);
+      scheduleFlush(pendingBatch);
+    }
+
+    var waiters = pendingBatch.waiters.computeIfAbsent(key, k -> new ArrayList<>());
+    if (!waiters.isEmpty()) {
+      mergedGets.increment();
+    }
+    waiters.add(waiter);
+
+    if (pendingBatch.waiters.size() < maxBatchSize) {
+      return null;
+    }
+    var fullBatch = pendingBatch;
+    pendingBatch = null;
+    return fullBatch;
+  }
+
+  private void scheduleFlush(PendingBatch batch) {
+    if (!linger.isPositive()) {
+      Infrastructure.getDefaultExecutor().execute(() -> flush(batch));
+      return;
+    }
+
+    Uni.createFrom().voidItem()
+      .onItem().delayIt().by(linger)
+      .subscribe().with(ignored -> flush(batch));
+  }
+
+  private void flush(PendingBatch batch) {
+    synchronized (this) {
+      // the batch was already sent because it became full
+      if (pendingBatch != batch) {
+        return;
+      }
+      pendingBatch = null;
+    }
+
+    dispatch(batch);
+  }
+
+  private void dispatch(PendingBatch batch) {
+    var keys = List.copyOf(batch.waiters.keySet());
+    batchSize.record(keys.size());
+    log.debug("Sending batched read: keys = {}", keys.size());
+
+    Uni.createFrom().deferred(() -> batch.loader.apply(keys)).subscribe().with(
+      values -> batch.waiters.forEach((key, waiters) -> complete(key, values.get(key), waiters)),
+      error -> batch.waiters.values().forEach(waiters -> waiters.forEach(w -> w.completeExceptionally(error))));
+  }
+
+  private static void complete(String key, String value, List<CompletableFuture<String>> waiters) {
+    for (var waiter : waiters) {
+      if (value != null) {
+        waiter.complete(value);
+      } else {
+        waiter.completeExceptionally(new SecretNotFoundException("Entry not found: key = " + key));
+      }
+    }
+  }
+
+  private static final class PendingBatch {
+
+    private final Map<String, List<CompletableFuture<String>>> waiters = new LinkedHashMap<>();
+    private final Function<List<String>, Uni<Map<String, String>>> loader;
+
+    private PendingBatch(Function<List<String>, Uni<Map<String, String>>> loader) {
+      this.loader = loader;
+    }
+  }
+}
@@ -0,0 +1,278 @@
+package org.folio.ssp.service;
+
+import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
+import static org.folio.ssp.SecureStoreConstants.NEGATIVE_ENTRY_CACHE;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.log4j.Log4j2;
+import org.folio.ssp.cache.EntryCache;
+import org.folio.ssp.configuration.PeerInvalidationProperties;
+import org.folio.ssp.model.cache.InvalidationBatch;
+import org.folio.ssp.model.cache.InvalidationMessage;
+import org.folio.ssp.utils.SslContextUtils;
+import org.folio.ssp.utils.SslContextUtils.StoreFile;
+
+/**
+ * Propagates entry cache invalidations to the peer instances of a multi-instance deployment.
+ *
+ * <p>Invalidations caused by writes, deletes and the {@code /entry-cache} endpoints are collected for
+ * {@code entry-cache.peer-invalidation.batch-window} and sent as one batch to every configured peer over mTLS. Failed
+ * requests are retried with exponential backoff. Every invalidation carries a unique id, so a batch delivered more than
+ * once (e.g. after a retry of a request that timed out) is applied only once. Received invalidations are applied to the
+ * local caches only and are never propagated further.</p>
+ */
+@Log4j2
+@ApplicationScoped
+public class PeerInvalidationService {
+
+  static final String SENT_METRIC = "ssp.peer.invalidation.sent";
+  static final String RECEIVED_METRIC = "ssp.peer.invalidation.received";
+  static final String DUPLICATES_METRIC = "ssp.peer.invalidation.duplicates";
+  static final String LAG_METRIC = "ssp.peer.invalidation.lag";
+  static final String PEER_INVALIDATE_PATH = "/entry-cache/_peer-invalidate";
+
+  private static final int SEEN_MESSAGES_CAPACITY = 10_000;
+  private static final Duration RETRY_BACKOFF = Duration.ofMillis(200);
+
+  private final String instanceId = UUID.randomUUID().toString();
+  private final PeerInvalidationProperties properties;
+  private final List<String> peers;
+  private final EntryCache entryCache;
+  private final Cache negativeEntryCache;
+  private final ObjectMapper objectMapper;
+  private final MeterRegistry meterRegistry;
+  private final HttpClient httpClient;
+  private final Counter received;
+  private final Counter duplicates;
+  private final Timer lag;
+
+  private final List<InvalidationMessage> pending = new ArrayList<>();
+  private final Map<String, Boolean> seenMessages = new LinkedHashMap<>(16, 0.75f, false) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+      return size() > SEEN_MESSAGES_CAPACITY;
+    }
+  };
+  private boolean flushScheduled;
+
+  public PeerInvalidationService(PeerInvalidationProperties properties, EntryCache entryCache,
+    @CacheName(NEGATIVE_ENTRY_CACHE) Cache negativeEntryCache, ObjectMapper objectMapper,
+    MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.peers = properties.peers().orElse(List.of());
+    this.entryCache = entryCache;
+    this.negativeEntryCache = negativeEntryCache;
+    this.objectMapper = objectMapper;
+    this.meterRegistry = meterRegistry;
+    this.httpClient = properties.enabled() && !peers.isEmpty() ? createHttpClient(properties) : null;
+
+    this.received = Counter.builder(RECEIVED_METRIC)
+      .description("Number of cache invalidations received from peers")
+      .register(meterRegistry);
+    this.duplicates = Counter.builder(DUPLICATES_METRIC)
+      .description("Number of cache invalidations received from peers more than once")
+      .register(meterRegistry);
+    this.lag = Timer.builder(LAG_METRIC)
+      .description("Time between issuing a cache invalidation and applying it on a peer")
+      .publishPercentileHistogram()
+      .register(meterRegistry);
+  }
+
+  /**
+   * Propagates the invalidation of the entry to the peers.
+   *
+   * @param key - invalidated entry key
+   */
+  public void publish(String key) {
+    enqueue(key, false);
+  }
+
+  /**
+   * Propagates the invalidation of the entries with the given key prefix to the peers.
+   *
+   * @param prefix - key prefix of invalidated entries
+   */
+  public void publishPrefix(String prefix) {
+    enqueue(prefix, true);
+  }
+
+  /**
+   * Propagates the invalidation of all entries to the peers.
+   */
+  public void publishAll() {
+    enqueue(null, false);
+  }
+
+  /**
+   * Applies the invalidations received from a peer to the local caches, skipping already applied ones.
+   *
+   * @param batch - received invalidations
+   */
+  public Uni<Void> receive(InvalidationBatch batch) {
+    if (instanceId.equals(batch.getOrigin())) {
+      return Uni.createFrom().voidItem();
+    }
+
+    return Multi.createFrom().iterable(batch.getMessages())
+      .filter(this::markSeen)
+      .onItem().transformToUniAndConcatenate(this::apply)
+      .collect().last()
+      .replaceWithVoid();
+  }
+
+  private Uni<Void> apply(InvalidationMessage message) {
+    var key = message.getKey();
+    Uni<Void> invalidation;
+    if (key == null) {
+      invalidation = entryCache.invalidateAll().call(negativeEntryCache::invalidateAll);
+    } else if (message.isPrefix()) {
+      invalidation = entryCache.invalidateByPrefix(key)
+        .call(() -> negativeEntryCache.invalidateIf(cachedKey -> ((String) cachedKey).startsWith(key)))
+        .replaceWithVoid();
+    } else {
+      invalidation = entryCache.invalidate(key).call(() -> negativeEntryCache.invalidate(key));
+    }
+
+    return invalidation.invoke(() -> {
+      received.increment();
+      lag.record(Math.max(0, System.currentTimeMillis() - message.getIssuedAt()), TimeUnit.MILLISECONDS);
+      log.debug("Cache invalidation received from peer: key = {}, prefix = {}",
+        key == null ? "<all>" : key, message.isPrefix());
+    });
+  }
+
+  private synchronized boolean markSeen(InvalidationMessage message) {
+    if (seenMessages.putIfAbsent(message.getId(), Boolean.TRUE) != null) {
+      duplicates.increment();
+      return false;
+    }
+
+    return true;
+  }
+
+  private void enqueue(String key, boolean prefix) {
+    if (httpClient == null) {
+      return;
+    }
+
+    var message = InvalidationMessage.of(UUID.randomUUID().toString(), key, System.currentTimeMillis(), prefix);
+    if (addPending(message)) {
+      flush();
+    }
+  }
+
+  /**
+   * Adds the message to the pending batch and schedules its flush after the batch window.
+   *
+   * @return true if the batch is full and has to be flushed immediately
+   */
+  private synchronized boolean addPending(InvalidationMessage message) {
+    pending.add(message);
+    if (pending.size() >= properties.maxBatchSize()) {
+      return true;
+    }
+
+    if (!flushScheduled) {
+      flushScheduled = true;
+      Uni.createFrom().voidItem()
+        .onItem().delayIt().by(properties.batchWindow())
+        .subscribe().with(ignored -> flush());
+    }
+    return false;
+  }
+
+  private void flush() {
+    List<InvalidationMessage> messages;
+    synchronized (this) {
+      flushScheduled = false;
+      if (pending.isEmpty()) {
+        return;
+      }
+      messages = List.copyOf(pending);
+      pending.clear();
+    }
+
+    byte[] body;
+    try {
+      body = objectMapper.writeValueAsBytes(InvalidationBatch.of(instanceId, messages));
+    } catch (JsonProcessingException e) {
+      log.warn("Failed to serialize cache invalidations", e);
+      return;
+    }
+
+    peers.forEach(peer -> send(peer, body, messages.size()));
+  }
+
+  private void send(String peer, byte[] body, int count) {
+    var request = HttpRequest.newBuilder(URI.create(peer + PEER_INVALIDATE_PATH))
+      .timeout(properties.requestTimeout())
+      .header("Content-Type", APPLICATION_JSON)
+      .POST(BodyPublishers.ofByteArray(body))
+      .build();
+
+    Uni.createFrom().completionStage(() -> httpClient.sendAsync(request, BodyHandlers.discarding()))
+      .invoke(PeerInvalidationService::checkStatus)
+      .onFailure().retry().withBackOff(RETRY_BACKOFF).atMost(properties.maxRetries())
+      .subscribe().with(
+        response -> sent(peer, "success").increment(count),
+        error -> {
+          sent(peer, "failure").increment(count);
+          log.warn("Failed to send cache invalidations to peer: peer = {}, count = {}, error = {}",
+            peer, count, error.getMessage());
+        });
+  }
+
+  private static void checkStatus(HttpResponse<Void> response) {
+    if (response.statusCode() >= 300) {
+      throw new IllegalStateException("Peer responded with status " + response.statusCode());
+    }
+  }
+
+  private Counter sent(String peer, String outcome) {
+    return Counter.builder(SENT_METRIC)
+      .description("Number of cache invalidations sent to peers")
+      .tag("peer", peer)
+      .tag("outcome", outcome)
+      .register(meterRegistry);
+  }
+
+  private static HttpClient createHttpClient(PeerInvalidationProperties properties) {
+    var keyStore = properties.keyStorePath().map(path -> new StoreFile(path,
+      properties.keyStorePassword().map(String::toCharArray).orElse(null), properties.keyStoreType()));
+    var trustStore = properties.trustStorePath().map(path -> new StoreFile(path,
+      properties.trustStorePassword().map(String::toCharArray).orElse(null), properties.trustStoreType()));
+
+    try {
+      return HttpClient.newBuilder()
+        .sslContext(SslContextUtils.clientSslContext(keyStore, trustStore, properties.verifyHostname()))
+        .connectTimeout(properties.requestTimeout())
+        .build();
+    } catch (IOException | GeneralSecurityException e) {
+      throw new IllegalStateException("Failed to initialize TLS context for peer invalidation", e);
+    }
+  }
+}
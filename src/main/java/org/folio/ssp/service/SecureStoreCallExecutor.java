@@ -0,0 +1,52 @@
+package org.folio.ssp.service;
+
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import java.util.function.Supplier;
+
+/**
+ * Runs secure store calls within the concurrency limit and through the circuit breaker, recording their latency and
+ * outcome. While the circuit is open, calls fail fast and their permit is released immediately, so cache hits are
+ * never held up by a failing store.
+ */
+@ApplicationScoped
+public class SecureStoreCallExecutor {
+
+  private final BlockingCallExecutor blockingCallExecutor;
+  private final ConcurrencyLimiter concurrencyLimiter;
+  private final CircuitBreaker circuitBreaker;
+  private final SecureStoreCallMetrics callMetrics;
+
+  public SecureStoreCallExecutor(BlockingCallExecutor blockingCallExecutor, ConcurrencyLimiter concurrencyLimiter,
+    CircuitBreaker circuitBreaker, SecureStoreCallMetrics callMetrics) {
+    this.blockingCallExecutor = blockingCallExecutor;
+    this.concurrencyLimiter = concurrencyLimiter;
+    this.circuitBreaker = circuitBreaker;
+    this.callMetrics = callMetrics;
+  }
+
+  /**
+   * Executes a non-blocking secure store call.
+   *
+   * @param operation - secure store operation: get, get_batch, set or delete
+   * @param call - secure store call, subscribed to once it is permitted
+   * @return result of the call
+   */
+  public <T> Uni<T> execute(String operation, Supplier<Uni<T>> call) {
+    return concurrencyLimiter.execute(() -> circuitBreaker.execute(() -> callMetrics.timedAsync(operation, call)));
+  }
+
+  /**
+   * Executes a blocking secure store call on the {@link BlockingCallExecutor}. The circuit breaker times the call on
+   * the worker thread, like the call metrics, so waiting for a worker is not counted as a slow call.
+   *
+   * @param operation - secure store operation: get, get_batch, set or delete
+   * @param supplier - blocking secure store call
+   * @return result of the call
+   */
+  public <T> Uni<T> executeBlocking(String operation, Supplier<T> supplier) {
+    var timedSupplier = callMetrics.timed(operation, supplier);
+    return concurrencyLimiter.execute(
+      () -> circuitBreaker.executeBlocking(blockingCallExecutor::execute, timedSupplier));
+  }
+}
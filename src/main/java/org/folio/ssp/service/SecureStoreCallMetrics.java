@@ -0,0 +1,92 @@
+package org.folio.ssp.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import java.util.function.Supplier;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.folio.tools.store.exception.SecretNotFoundException;
+
+/**
+ * Records the latency and outcome of secure store calls, tagged with the operation and the configured store type.
+ */
+@ApplicationScoped
+public class SecureStoreCallMetrics {
+
+  static final String CALLS_METRIC = "ssp.secure.store.calls";
+
+  static final String OPERATION_GET = "get";
+  static final String OPERATION_GET_BATCH = "get_batch";
+  static final String OPERATION_SET = "set";
+  static final String OPERATION_DELETE = "delete";
+
+  private static final String OUTCOME_SUCCESS = "success";
+  private static final String OUTCOME_NOT_FOUND = "not_found";
+  private static final String OUTCOME_ERROR = "error";
+
+  private final MeterRegistry meterRegistry;
+  private final String storeType;
+
+  public SecureStoreCallMetrics(MeterRegistry meterRegistry,
+    @ConfigProperty(name = "secret-store.type") String storeType) {
+    this.meterRegistry = meterRegistry;
+    this.storeType = storeType;
+  }
+
+  /**
+   * Wraps a blocking secure store call, so its duration is recorded when it is executed.
+   *
+   * @param operation - secure store operation: get, get_batch, set or delete
+   * @param call - blocking secure store call
+   * @return call recording its duration and outcome
+   */
+  public <T> Supplier<T> timed(String operation, Supplier<T> call) {
+    return () -> {
+      var sample = Timer.start(meterRegistry);
+      var outcome = OUTCOME_ERROR;
+      try {
+        var result = call.get();
+        outcome = OUTCOME_SUCCESS;
+        return result;
+      } catch (SecretNotFoundException e) {
+        outcome = OUTCOME_NOT_FOUND;
+        throw e;
+      } finally {
+        sample.stop(timer(operation, outcome));
+      }
+    };
+  }
+
+  /**
+   * Wraps a non-blocking secure store call, so its duration is recorded on every subscription.
+   *
+   * @param operation - secure store operation: get, set or delete
+   * @param call - non-blocking secure store call
+   * @return call recording its duration and outcome
+   */
+  public <T> Uni<T> timedAsync(String operation, Supplier<Uni<T>> call) {
+    return Uni.createFrom().deferred(() -> {
+      var sample = Timer.start(meterRegistry);
+      return Uni.createFrom().deferred(call).onTermination().invoke((item, error, cancelled) -> {
+        var outcome = OUTCOME_ERROR;
+        if (error instanceof SecretNotFoundException) {
+          outcome = OUTCOME_NOT_FOUND;
+        } else if (error == null && !cancelled) {
+          outcome = OUTCOME_SUCCESS;
+        }
+        sample.stop(timer(operation, outcome));
+      });
+    });
+  }
+
+  private Timer timer(String operation, String outcome) {
+    return Timer.builder(CALLS_METRIC)
+      .description("Latency of secure store calls")
+      .tag("operation", operation)
+      .tag("store", storeType)
+      .tag("outcome", outcome)
+      .publishPercentileHistogram()
+      .register(meterRegistry);
+  }
+}
@@ -0,0 +1,93 @@
+package org.folio.ssp.service;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.log4j.Log4j2;
+import org.folio.ssp.cache.EntryCache;
+import org.folio.ssp.configuration.BatchGetProperties;
+import org.folio.tools.store.exception.SecretNotFoundException;
+
+@Log4j2
+@ApplicationScoped
+public class SecureStoreEntryBatchService {
+
+  private final SecureStoreEntryService entryService;
+  private final EntryCache entryCache;
+  private final BatchGetProperties properties;
+
+  public SecureStoreEntryBatchService(SecureStoreEntryService entryService, EntryCache entryCache,
+    BatchGetProperties properties) {
+    this.entryService = entryService;
+    this.entryCache = entryCache;
+    this.properties = properties;
+  }
+
+  /**
+   * Resolves values for the given keys. Keys present in the entry cache are served immediately, the rest are
+   * loaded from the secure store in parallel, limited by {@code batch-get.max-concurrency}. A failed secure store
+   * call, including a rejection by the concurrency limiter or the circuit breaker, fails only its own key.
+   *
+   * @param keys - keys to resolve
+   * @return map of keys to their results in the order of the requested keys
+   */
+  public Uni<Map<String, BatchEntryResult>> getAll(Collection<String> keys) {
+    var distinctKeys = validateKeys(keys);
+
+    var result = new LinkedHashMap<String, BatchEntryResult>();
+    var misses = new ArrayList<String>();
+    for (var key : distinctKeys) {
+      entryCache.getIfPresent(key)
+        .ifPresentOrElse(value -> result.put(key, BatchEntryResult.found(value)), () -> misses.add(key));
+    }
+
+    log.debug("Resolving batch of entries: keys = {}, cacheHits = {}, cacheMisses = {}",
+      distinctKeys.size(), result.size(), misses.size());
+
+    return loadAll(misses).map(loaded -> {
+      var ordered = new LinkedHashMap<String, BatchEntryResult>();
+      distinctKeys.forEach(key -> ordered.put(key, result.containsKey(key) ? result.get(key) : loaded.get(key)));
+      return ordered;
+    });
+  }
+
+  private Uni<Map<String, BatchEntryResult>> loadAll(List<String> keys) {
+    if (keys.isEmpty()) {
+      return Uni.createFrom().item(Map.of());
+    }
+
+    return Multi.createFrom().iterable(keys)
+      .onItem().transformToUni(this::load).merge(properties.maxConcurrency())
+      .collect().asMap(Map.Entry::getKey, Map.Entry::getValue);
+  }
+
+  private Uni<Map.Entry<String, BatchEntryResult>> load(String key) {
+    return entryService.get(key)
+      .map(BatchEntryResult::found)
+      .onFailure(SecretNotFoundException.class).recoverWithItem(BatchEntryResult.notFound())
+      .onFailure().recoverWithItem(error -> {
+        log.warn("Failed to resolve batch entry: key = {}", key, error);
+        return BatchEntryResult.failed(error);
+      })
+      .map(result -> Map.entry(key, result));
+  }
+
+  private LinkedHashSet<String> validateKeys(Collection<String> keys) {
+    if (keys == null || keys.isEmpty()) {
+      throw new IllegalArgumentException("Keys cannot be empty");
+    }
+
+    var distinctKeys = new LinkedHashSet<>(keys);
+    if (distinctKeys.size() > properties.maxKeys()) {
+      throw new IllegalArgumentException("Number of keys exceeds the limit: " + properties.maxKeys());
+    }
+
+    return distinctKeys;
+  }
+}
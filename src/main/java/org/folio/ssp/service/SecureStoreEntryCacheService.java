@@ -1,40 +1,108 @@
 package org.folio.ssp.service;
 
-import static java.util.stream.Collectors.toSet;
-import static org.folio.ssp.SecureStoreConstants.ENTRY_CACHE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.folio.ssp.SecureStoreConstants.NEGATIVE_ENTRY_CACHE;
 
 import io.quarkus.cache.Cache;
 import io.quarkus.cache.CacheName;
-import io.quarkus.cache.CaffeineCache;
 import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
-import java.util.Set;
+import java.util.Base64;
 import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.StringUtils;
+import org.folio.ssp.cache.EntryCache;
+import org.folio.ssp.model.cache.EntryCacheStats;
+import org.folio.ssp.model.cache.InvalidationBatch;
 
 @Log4j2
 @ApplicationScoped
 public class SecureStoreEntryCacheService {
 
-  private final Cache entryCache;
+  private final EntryCache entryCache;
+  private final Cache negativeEntryCache;
+  private final PeerInvalidationService peerInvalidation;
 
-  public SecureStoreEntryCacheService(@CacheName(ENTRY_CACHE) Cache entryCache) {
+  public SecureStoreEntryCacheService(EntryCache entryCache,
+    @CacheName(NEGATIVE_ENTRY_CACHE) Cache negativeEntryCache, PeerInvalidationService peerInvalidation) {
     this.entryCache = entryCache;
+    this.negativeEntryCache = negativeEntryCache;
+    this.peerInvalidation = peerInvalidation;
   }
 
-  public Uni<Set<String>> getAllCachedKeys() {
-    return Uni.createFrom().item(() -> entryCache.as(CaffeineCache.class).keySet()
-      .stream()
-      .map(String.class::cast)
-      .collect(toSet()));
+  /**
+   * Returns a page of cached keys in ascending order.
+   *
+   * @param prefix - key prefix, all keys are returned if null
+   * @param cursor - cursor returned with the previous page, null to get the first page
+   * @param limit - maximum number of keys in the page
+   * @return page of cached keys
+   * @throws IllegalArgumentException if the cursor is malformed
+   */
+  public Uni<EntryKeysPage> getCachedKeys(String prefix, String cursor, int limit) {
+    var after = decodeCursor(cursor);
+    return Uni.createFrom().item(() -> {
+      var keys = entryCache.keys(prefix, after, limit + 1);
+      if (keys.size() <= limit) {
+        return new EntryKeysPage(keys, null);
+      }
+
+      var page = keys.subList(0, limit);
+      return new EntryKeysPage(page, encodeCursor(page.getLast()));
+    });
+  }
+
+  public Uni<EntryCacheStats> getStats() {
+    return Uni.createFrom().item(() -> {
+      var maximumWeight = entryCache.maximumWeight();
+      return EntryCacheStats.of(entryCache.size(), entryCache.weight(),
+        maximumWeight.isPresent() ? maximumWeight.getAsLong() : null);
+    });
   }
 
   public Uni<Void> invalidate(String key) {
     return entryCache.invalidate(key)
-      .invoke(() -> log.info("Cache entry invalidated: key = {}", key));
+      .call(() -> negativeEntryCache.invalidate(key))
+      .invoke(() -> log.info("Cache entry invalidated: key = {}", key))
+      .invoke(() -> peerInvalidation.publish(key));
+  }
+
+  /**
+   * Invalidates all cached entries whose key starts with the given prefix, e.g. all keys of a tenant.
+   *
+   * @param prefix - key prefix
+   */
+  public Uni<Void> invalidateByPrefix(String prefix) {
+    return entryCache.invalidateByPrefix(prefix)
+      .call(() -> negativeEntryCache.invalidateIf(key -> ((String) key).startsWith(prefix)))
+      .invoke(count -> log.info("Cache entries invalidated by prefix: prefix = {}, count = {}", prefix, count))
+      .invoke(() -> peerInvalidation.publishPrefix(prefix))
+      .replaceWithVoid();
+  }
+
+  public Uni<Void> receivePeerInvalidation(InvalidationBatch batch) {
+    return peerInvalidation.receive(batch);
   }
 
   public Uni<Void> invalidateAll() {
     return entryCache.invalidateAll()
-      .invoke(() -> log.info("All cache entries invalidated"));
+      .call(negativeEntryCache::invalidateAll)
+      .invoke(() -> log.info("All cache entries invalidated"))
+      .invoke(peerInvalidation::publishAll);
+  }
+
+  private static String encodeCursor(String key) {
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(UTF_8));
+  }
+
+  private static String decodeCursor(String cursor) {
+    if (StringUtils.isEmpty(cursor)) {
+      return null;
+    }
+
+    try {
+      return new String(Base64.getUrlDecoder().decode(cursor), UTF_8);
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+    }
   }
 }
@@ -1,94 +1,278 @@
 package org.folio.ssp.service;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.apache.commons.lang3.StringUtils.isBlank;
-import static org.apache.commons.lang3.StringUtils.isEmpty;
-import static org.folio.ssp.SecureStoreConstants.ENTRY_CACHE;
+import static org.folio.ssp.SecureStoreConstants.NEGATIVE_ENTRY_CACHE;
+import static org.folio.ssp.service.SecureStoreCallMetrics.OPERATION_DELETE;
+import static org.folio.ssp.service.SecureStoreCallMetrics.OPERATION_GET;
+import static org.folio.ssp.service.SecureStoreCallMetrics.OPERATION_GET_BATCH;
+import static org.folio.ssp.service.SecureStoreCallMetrics.OPERATION_SET;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.quarkus.cache.Cache;
 import io.quarkus.cache.CacheName;
-import io.quarkus.cache.CacheResult;
 import io.quarkus.cache.CaffeineCache;
 import io.smallrye.mutiny.Uni;
-import io.smallrye.mutiny.infrastructure.Infrastructure;
 import jakarta.enterprise.context.ApplicationScoped;
-import java.util.function.Supplier;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.extern.log4j.Log4j2;
+import org.folio.ssp.cache.EntryCache;
+import org.folio.ssp.cache.EntryMetadata;
 import org.folio.ssp.configuration.Configured;
-import org.folio.tools.store.SecureStore;
+import org.folio.ssp.configuration.EntryCacheProperties;
+import org.folio.ssp.configuration.SkipUnchangedWritesProperties;
+import org.folio.ssp.store.AsyncSecureStore;
 import org.folio.tools.store.exception.SecretNotFoundException;
 
 @Log4j2
 @ApplicationScoped
 public class SecureStoreEntryService {
 
-  private final SecureStore secureStore;
-  private final Cache entryCache;
+  static final String NEGATIVE_CACHE_HITS_METRIC = "ssp.negative.cache.hits";
+  static final String STALE_ENTRIES_SERVED_METRIC = "ssp.stale.entries.served";
+  static final String UNCHANGED_WRITES_SKIPPED_METRIC = "ssp.write.unchanged.skipped";
 
-  public SecureStoreEntryService(@Configured SecureStore secureStore, @CacheName(ENTRY_CACHE) Cache entryCache) {
+  private final AsyncSecureStore secureStore;
+  private final SecureStoreCallExecutor callExecutor;
+  private final WriteCoalescer writeCoalescer;
+  private final GetBatcher getBatcher;
+  private final SsmBatchReader batchReader;
+  private final boolean batchedGets;
+  private final PeerInvalidationService peerInvalidation;
+  private final EntryCache entryCache;
+  private final Cache negativeEntryCache;
+  private final Counter negativeCacheHits;
+  private final Counter staleEntriesServed;
+  private final Counter unchangedWritesSkipped;
+  private final Optional<Duration> refreshAfterWrite;
+  private final boolean staleIfError;
+  private final Optional<Duration> loadTimeout;
+  private final SkipUnchangedWritesProperties skipUnchangedWrites;
+  private final Set<String> refreshingKeys = ConcurrentHashMap.newKeySet();
+
+  public SecureStoreEntryService(@Configured AsyncSecureStore secureStore, SecureStoreCallExecutor callExecutor,
+    WriteCoalescer writeCoalescer, GetBatcher getBatcher, SsmBatchReader batchReader,
+    PeerInvalidationService peerInvalidation, EntryCache entryCache,
+    @CacheName(NEGATIVE_ENTRY_CACHE) Cache negativeEntryCache, MeterRegistry meterRegistry,
+    EntryCacheProperties cacheProperties, SkipUnchangedWritesProperties skipUnchangedWritesProperties) {
     this.secureStore = secureStore;
+    this.callExecutor = callExecutor;
+    this.writeCoalescer = writeCoalescer;
+    this.getBatcher = getBatcher;
+    this.batchReader = batchReader;
+    this.batchedGets = getBatcher.isEnabled() && batchReader.isAvailable();
+    this.peerInvalidation = peerInvalidation;
     this.entryCache = entryCache;
+    this.negativeEntryCache = negativeEntryCache;
+    this.negativeCacheHits = counter(meterRegistry, NEGATIVE_CACHE_HITS_METRIC,
+      "Number of lookups answered from the negative entry cache");
+    this.staleEntriesServed = counter(meterRegistry, STALE_ENTRIES_SERVED_METRIC,
+      "Number of last known values served because the secure store could not be reached");
+    this.unchangedWritesSkipped = counter(meterRegistry, UNCHANGED_WRITES_SKIPPED_METRIC,
+      "Number of writes skipped because the value was equal to the cached one");
+    this.refreshAfterWrite = cacheProperties.refreshAfterWrite();
+    this.staleIfError = cacheProperties.staleIfError().enabled();
+    this.loadTimeout = cacheProperties.staleIfError().loadTimeout();
+    this.skipUnchangedWrites = skipUnchangedWritesProperties;
   }
 
-  @CacheResult(cacheName = ENTRY_CACHE)
   public Uni<String> get(String key) {
+    return lookup(key).map(EntryValue::value);
+  }
+
+  /**
+   * Resolves the value of the entry, from the entry cache or from the secure store. If the secure store fails and
+   * {@code entry-cache.stale-if-error.enabled} is set, the last known value is returned marked as stale.
+   *
+   * <p>If {@code secret-store.get-batching.enabled} is set and the secure store supports batched reads, concurrent
+   * cache misses are loaded together, see {@link GetBatcher}.</p>
+   *
+   * @param key - entry key
+   * @return resolved entry value
+   */
+  public Uni<EntryValue> lookup(String key) {
     validateKey(key);
-    return executeBlocking(getInternal(key));
+
+    var result = entryCache.get(key, this::load)
+      .invoke(() -> refreshIfNeeded(key))
+      .map(EntryValue::fresh);
+
+    return staleIfError
+      ? result.onFailure(SecureStoreEntryService::isBackendFailure).recoverWithUni(error -> serveStale(key, error))
+      : result;
   }
 
-  public Uni<Void> put(String key, String value) {
+  /**
+   * Sets the value of the entry. If {@code secret-store.write-coalescing.enabled} is set, writes of the same key
+   * received within a short window are merged into one secure store call and the last value wins.
+   *
+   * <p>If {@code secret-store.skip-unchanged-writes.enabled} is set and the value equals the cached one (cached within
+   * {@code secret-store.skip-unchanged-writes.max-age}), the secure store write is skipped.</p>
+   *
+   * @param key - entry key
+   * @param value - entry value
+   * @return {@link WriteResult#UNCHANGED} if the write was skipped, {@link WriteResult#WRITTEN} otherwise
+   */
+  public Uni<WriteResult> put(String key, String value) {
     validateKey(key);
     validateValue(value);
 
-    return executeBlocking(putInternal(key, value))
-      .invoke(() -> {
-        entryCache.as(CaffeineCache.class).put(key, completedFuture(value));
-        log.debug("Cache entry updated by \"put\" method: key = {}, value = {}", key, value);
-      });
+    if (skipUnchangedWrites.enabled() && isUnchanged(key, value)) {
+      unchangedWritesSkipped.increment();
+      log.debug("Entry value unchanged, secure store write skipped: key = {}", key);
+      return Uni.createFrom().item(WriteResult.UNCHANGED);
+    }
+
+    return writeCoalescer.write(key, value, writtenValue -> write(key, writtenValue))
+      .replaceWith(WriteResult.WRITTEN);
+  }
+
+  /**
+   * Reloads the entry from the secure store and replaces the cached value, or removes it if the entry no longer
+   * exists. The cache is updated only if the entry was not written or removed while it was being reloaded, so a
+   * concurrent PUT or DELETE always wins over the reloaded value. Entries that are not cached are not reloaded.
+   *
+   * @param key - entry key
+   */
+  public Uni<Void> revalidate(String key) {
+    var writtenAt = entryCache.getMetadata(key).map(EntryMetadata::writtenAt);
+    if (writtenAt.isEmpty()) {
+      return Uni.createFrom().voidItem();
+    }
+
+    return load(key)
+      .invoke(value -> entryCache.replaceIfUnchanged(key, writtenAt.get(), value))
+      .onFailure(SecretNotFoundException.class).call(() -> entryCache.invalidateIfUnchanged(key, writtenAt.get()))
+      .replaceWithVoid();
   }
 
   public Uni<Void> delete(String key) {
     validateKey(key);
 
-    return executeBlocking(deleteInternal(key))
+    return callExecutor.execute(OPERATION_DELETE, () -> deleteInternal(key))
       .chain(() -> entryCache.invalidate(key)
         .invoke(() -> log.debug("Cache entry invalidated by \"delete\" method: key = {}", key))
-      );
+      )
+      .invoke(() -> peerInvalidation.publish(key));
+  }
+
+  private Uni<Void> write(String key, String value) {
+    return callExecutor.execute(OPERATION_SET, () -> putInternal(key, value))
+      .invoke(() -> {
+        entryCache.put(key, value);
+        log.debug("Cache entry updated by \"put\" method: key = {}, value = {}", key, value);
+      })
+      .call(() -> negativeEntryCache.invalidate(key))
+      .invoke(() -> peerInvalidation.publish(key));
   }
 
-  private Supplier<Void> putInternal(String key, String value) {
-    return () -> {
-      log.debug("Setting entry in secure store: key = {}, value = {}", key, value);
-      secureStore.set(key, value);
-      log.debug("Entry set: key = {}", key);
+  private Uni<String> load(String key) {
+    if (isCachedAsNotFound(key)) {
+      negativeCacheHits.increment();
+      log.debug("Entry not found in negative cache: key = {}", key);
+      return Uni.createFrom().failure(new SecretNotFoundException("Entry not found: key = " + key));
+    }
+
+    var result = (batchedGets ? getBatched(key) : callExecutor.execute(OPERATION_GET, () -> getInternal(key)))
+      .onFailure(SecretNotFoundException.class).invoke(() -> cacheAsNotFound(key));
 
-      return null;
-    };
+    return staleIfError && loadTimeout.isPresent() ? result.ifNoItem().after(loadTimeout.get()).fail() : result;
   }
 
-  private Supplier<String> getInternal(String key) {
-    return () -> {
-      log.debug("Getting entry from secure store: key = {}", key);
-      var value = secureStore.get(key);
+  private Uni<String> getBatched(String key) {
+    return getBatcher.get(key,
+      keys -> callExecutor.executeBlocking(OPERATION_GET_BATCH, () -> batchReader.getAll(keys)));
+  }
 
-      if (isEmpty(value)) {
-        log.debug("Entry not found: key = {}", key);
-        throw new SecretNotFoundException("Entry not found: key = " + key);
-      } else {
-        log.debug("Entry retrieved: key = {}, value = {}", key, value);
-        return value;
-      }
-    };
+  private Uni<EntryValue> serveStale(String key, Throwable error) {
+    var staleValue = entryCache.getStale(key);
+    if (staleValue.isEmpty()) {
+      return Uni.createFrom().failure(error);
+    }
+
+    log.warn("Serving stale entry, secure store failed: key = {}, error = {}", key, error.getMessage());
+    staleEntriesServed.increment();
+    return Uni.createFrom().item(EntryValue.stale(staleValue.get()));
+  }
+
+  /**
+   * Triggers a single background reload of the entry if it is older than {@code entry-cache.refresh-after-write}.
+   * The caller is served with the cached value, the reloaded one replaces it once the load completes.
+   */
+  private void refreshIfNeeded(String key) {
+    var needsRefresh = refreshAfterWrite.isPresent() && entryCache.getMetadata(key)
+      .map(EntryMetadata::age)
+      .filter(age -> age.compareTo(refreshAfterWrite.get()) >= 0)
+      .isPresent();
+
+    if (!needsRefresh || !refreshingKeys.add(key)) {
+      return;
+    }
+
+    log.debug("Refreshing cache entry in background: key = {}", key);
+    revalidate(key)
+      .eventually(() -> refreshingKeys.remove(key))
+      .subscribe().with(
+        value -> log.debug("Cache entry refreshed: key = {}", key),
+        error -> log.warn("Failed to refresh cache entry: key = {}", key, error));
+  }
+
+  /**
+   * Compares the value with a recently cached one in constant time. A value with a pending (coalesced) write is never
+   * treated as unchanged, since the pending write would overwrite it.
+   */
+  private boolean isUnchanged(String key, String value) {
+    if (writeCoalescer.isPending(key)) {
+      return false;
+    }
+
+    var isFresh = entryCache.getMetadata(key)
+      .map(EntryMetadata::age)
+      .filter(age -> age.compareTo(skipUnchangedWrites.maxAge()) < 0)
+      .isPresent();
+
+    return isFresh && entryCache.getIfPresent(key)
+      .filter(cachedValue -> MessageDigest.isEqual(cachedValue.getBytes(UTF_8), value.getBytes(UTF_8)))
+      .isPresent();
+  }
+
+  private boolean isCachedAsNotFound(String key) {
+    var future = negativeEntryCache.as(CaffeineCache.class).getIfPresent(key);
+    return future != null && !future.isCompletedExceptionally();
+  }
+
+  private void cacheAsNotFound(String key) {
+    negativeEntryCache.as(CaffeineCache.class).put(key, completedFuture(Boolean.TRUE));
+    log.debug("Negative cache entry added: key = {}", key);
   }
 
-  private Supplier<Object> deleteInternal(String key) {
-    return () -> {
-      log.debug("Deleting entry from secure store: key = {}", key);
-      secureStore.delete(key);
-      log.debug("Entry deleted: key = {}", key);
+  private Uni<Void> putInternal(String key, String value) {
+    log.debug("Setting entry in secure store: key = {}, value = {}", key, value);
+    return secureStore.set(key, value)
+      .invoke(() -> log.debug("Entry set: key = {}", key));
+  }
+
+  private Uni<String> getInternal(String key) {
+    log.debug("Getting entry from secure store: key = {}", key);
+    return secureStore.get(key)
+      .invoke(value -> log.debug("Entry retrieved: key = {}, value = {}", key, value))
+      .onFailure(SecretNotFoundException.class).invoke(() -> log.debug("Entry not found: key = {}", key));
+  }
+
+  private Uni<Void> deleteInternal(String key) {
+    log.debug("Deleting entry from secure store: key = {}", key);
+    return secureStore.delete(key)
+      .invoke(() -> log.debug("Entry deleted: key = {}", key));
+  }
 
-      return null;
-    };
+  private static boolean isBackendFailure(Throwable error) {
+    return !(error instanceof SecretNotFoundException) && !(error instanceof IllegalArgumentException);
   }
 
   private static void validateKey(String key) {
@@ -103,8 +287,9 @@ public class SecureStoreEntryService {
     }
   }
 
-  private static <T> Uni<T> executeBlocking(Supplier<T> supplier) {
-    return Uni.createFrom().item(supplier)
-      .runSubscriptionOn(Infrastructure.getDefaultWorkerPool());
+  private static Counter counter(MeterRegistry meterRegistry, String name, String description) {
+    return Counter.builder(name)
+      .description(description)
+      .register(meterRegistry);
   }
 }
@@ -0,0 +1,83 @@
+package org.folio.ssp.service;
+
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import java.time.Duration;
+import java.time.Instant;
+import lombok.extern.log4j.Log4j2;
+import org.folio.ssp.configuration.Configured;
+import org.folio.ssp.configuration.SecureStoreHealthProperties;
+import org.folio.ssp.store.AsyncSecureStore;
+import org.folio.tools.store.exception.SecretNotFoundException;
+
+/**
+ * Checks whether the secure store is reachable by reading {@code secret-store.health.probe-key}. Both a value and a
+ * "not found" answer count as reachable.
+ *
+ * <p>The result is reused for {@code secret-store.health.cache-interval} and concurrent callers share a single probe,
+ * so frequent health requests add at most one secure store call per interval. The probe calls the store directly,
+ * bypassing the concurrency limit and the circuit breaker, so it reflects the state of the store itself.</p>
+ */
+@Log4j2
+@ApplicationScoped
+public class SecureStoreProbe {
+
+  private final AsyncSecureStore secureStore;
+  private final SecureStoreHealthProperties properties;
+  private final Uni<ProbeResult> cachedResult;
+
+  public SecureStoreProbe(@Configured AsyncSecureStore secureStore, SecureStoreHealthProperties properties) {
+    this.secureStore = secureStore;
+    this.properties = properties;
+    this.cachedResult = Uni.createFrom().deferred(this::probe)
+      .memoize().atLeast(properties.cacheInterval());
+  }
+
+  /**
+   * Returns the result of the last probe, probing the secure store if it is older than
+   * {@code secret-store.health.cache-interval}.
+   *
+   * @return probe result, never a failure
+   */
+  public Uni<ProbeResult> getResult() {
+    return cachedResult;
+  }
+
+  private Uni<ProbeResult> probe() {
+    var startedAt = System.nanoTime();
+    var probeKey = properties.probeKey();
+
+    return Uni.createFrom().deferred(() -> secureStore.get(probeKey))
+      .ifNoItem().after(properties.timeout()).fail()
+      .replaceWith(() -> ProbeResult.reachable(elapsedSince(startedAt)))
+      .onFailure(SecretNotFoundException.class).recoverWithItem(() -> ProbeResult.reachable(elapsedSince(startedAt)))
+      .onFailure().recoverWithItem(error -> {
+        log.warn("Secure store probe failed: key = {}, error = {}", probeKey, error.getMessage());
+        return ProbeResult.unreachable(elapsedSince(startedAt), error);
+      });
+  }
+
+  private static Duration elapsedSince(long startedAt) {
+    return Duration.ofNanos(System.nanoTime() - startedAt);
+  }
+
+  /**
+   * Result of a secure store probe.
+   *
+   * @param reachable - whether the secure store answered the probe
+   * @param latency - time the probe took, or until it timed out
+   * @param checkedAt - time the probe completed
+   * @param error - description of the failure, {@code null} if the store is reachable
+   */
+  public record ProbeResult(boolean reachable, Duration latency, Instant checkedAt, String error) {
+
+    static ProbeResult reachable(Duration latency) {
+      return new ProbeResult(true, latency, Instant.now(), null);
+    }
+
+    static ProbeResult unreachable(Duration latency, Throwable error) {
+      var message = error.getMessage() != null ? error.getMessage() : error.getClass().getSimpleName();
+      return new ProbeResult(false, latency, Instant.now(), message);
+    }
+  }
+}
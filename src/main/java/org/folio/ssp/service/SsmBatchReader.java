@@ -0,0 +1,108 @@
+package org.folio.ssp.service;
+
+import static org.apache.commons.lang3.StringUtils.isNotEmpty;
+import static org.folio.ssp.utils.AwsClientUtils.credentialsProvider;
+import static org.folio.ssp.utils.ConfigProviderUtils.getRequiredValue;
+import static org.folio.ssp.utils.ConfigProviderUtils.getValue;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.extern.log4j.Log4j2;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.folio.ssp.configuration.GetBatchingProperties;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.ssm.SsmClient;
+import software.amazon.awssdk.services.ssm.model.GetParametersRequest;
+
+/**
+ * Reads several AWS SSM parameters with {@code GetParameters} calls, which accept up to 10 names each.
+ *
+ * <p>{@code AwsStore} exposes single-key reads only, so the batched reads use a separate SSM client created from the
+ * {@code secret-store.aws-ssm.*} properties. The client is created only if {@code secret-store.get-batching.enabled}
+ * is set and the AWS SSM store is configured. A custom trust store ({@code secret-store.aws-ssm.trust-store-path}) and
+ * ECS container credentials ({@code secret-store.aws-ssm.ecs-credentials-endpoint} or {@code ecs-credentials-path})
+ * are not supported by this client, batching stays disabled in these cases, so batched reads never run as a different
+ * principal than single reads.</p>
+ */
+@Log4j2
+@ApplicationScoped
+public class SsmBatchReader {
+
+  static final int MAX_NAMES_PER_CALL = 10;
+
+  private static final String AWS_TYPE = "AWS_SSM";
+  private static final String AWS_PREFIX = "secret-store.aws-ssm.";
+
+  private final SsmClient ssmClient;
+
+  public SsmBatchReader(GetBatchingProperties properties,
+    @ConfigProperty(name = "secret-store.type") String storeType) {
+    this.ssmClient = properties.enabled() && AWS_TYPE.equals(storeType) ? createClient() : null;
+  }
+
+  /**
+   * Checks whether batched reads can be used with the configured secure store.
+   */
+  public boolean isAvailable() {
+    return ssmClient != null;
+  }
+
+  /**
+   * Reads the parameters with as few {@code GetParameters} calls as possible. This is a blocking call.
+   *
+   * @param names - parameter names (entry keys)
+   * @return values of the found parameters by name, missing parameters are absent
+   */
+  public Map<String, String> getAll(List<String> names) {
+    var values = new HashMap<String, String>();
+    for (var from = 0; from < names.size(); from += MAX_NAMES_PER_CALL) {
+      var chunk = names.subList(from, Math.min(names.size(), from + MAX_NAMES_PER_CALL));
+      var response = ssmClient.getParameters(GetParametersRequest.builder()
+        .names(chunk)
+        .withDecryption(true)
+        .build());
+
+      response.parameters().forEach(parameter -> values.put(parameter.name(), parameter.value()));
+      log.debug("Parameters retrieved: requested = {}, found = {}", chunk.size(), response.parameters().size());
+    }
+
+    return values;
+  }
+
+  @PreDestroy
+  void close() {
+    if (ssmClient != null) {
+      ssmClient.close();
+    }
+  }
+
+  private static SsmClient createClient() {
+    var unsupportedSetting = findUnsupportedSetting();
+    if (unsupportedSetting.isPresent()) {
+      log.warn("Batched reads are not supported with {}, batching is disabled", unsupportedSetting.get());
+      return null;
+    }
+
+    return SsmClient.builder()
+      .region(Region.of(getRequiredValue(AWS_PREFIX, "region")))
+      .credentialsProvider(credentialsProvider(getRequiredValue(AWS_PREFIX, "use-iam", Boolean.class),
+        getValue(AWS_PREFIX, "access-key"), getValue(AWS_PREFIX, "secret-key")))
+      .fipsEnabled(Boolean.parseBoolean(getValue(AWS_PREFIX, "fips-enabled")))
+      .build();
+  }
+
+  private static Optional<String> findUnsupportedSetting() {
+    if (isNotEmpty(getValue(AWS_PREFIX, "trust-store-path"))) {
+      return Optional.of("a custom AWS SSM trust store");
+    }
+    if (isNotEmpty(getValue(AWS_PREFIX, "ecs-credentials-endpoint"))
+      || isNotEmpty(getValue(AWS_PREFIX, "ecs-credentials-path"))) {
+      return Optional.of("AWS SSM ECS container credentials");
+    }
+    return Optional.empty();
+  }
+}
@@ -0,0 +1,160 @@
+package org.folio.ssp.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import jakarta.enterprise.context.ApplicationScoped;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import lombok.extern.log4j.Log4j2;
+import org.folio.ssp.configuration.WriteCoalescingProperties;
+
+/**
+ * Merges writes of the same key into a single secure store call.
+ *
+ * <p>A write is held for {@code secret-store.write-coalescing.window}, writes of the same key received in the meantime
+ * replace its value. Writes received while the previous write of the key is in progress are held until it completes,
+ * so the writes of a key never overlap and the last value always wins. All merged callers complete with the result of
+ * the call that wrote their (or a later) value.</p>
+ */
+@Log4j2
+@ApplicationScoped
+public class WriteCoalescer {
+
+  static final String COALESCED_WRITES_METRIC = "ssp.write.coalesced";
+
+  private final boolean enabled;
+  private final Duration window;
+  private final Counter coalescedWrites;
+  private final Map<String, PendingWrite> pendingWrites = new HashMap<>();
+
+  public WriteCoalescer(WriteCoalescingProperties properties, MeterRegistry meterRegistry) {
+    this.enabled = properties.enabled();
+    this.window = properties.window();
+    this.coalescedWrites = Counter.builder(COALESCED_WRITES_METRIC)
+      .description("Number of writes merged into a secure store call of another write")
+      .register(meterRegistry);
+  }
+
+  /**
+   * Writes the value, possibly together with other writes of the same key.
+   *
+   * @param key - entry key
+   * @param value - entry value
+   * @param writer - performs the secure store call for the value that is eventually written
+   * @return result of the secure store call that wrote the value
+   */
+  public Uni<Void> write(String key, String value, Function<String, Uni<Void>> writer) {
+    if (!enabled) {
+      return Uni.createFrom().deferred(() -> writer.apply(value));
+    }
+
+    return Uni.createFrom().deferred(() -> {
+      var waiter = new CompletableFuture<Void>();
+      enqueue(key, value, writer, waiter);
+      return Uni.createFrom().completionStage(waiter);
+    });
+  }
+
+  /**
+   * Checks whether a write of the key is waiting for its window or in progress.
+   *
+   * @param key - entry key
+   * @return true if a write of the key has not completed yet
+   */
+  public synchronized boolean isPending(String key) {
+    return pendingWrites.containsKey(key);
+  }
+
+  public synchronized int getPendingKeys() {
+    return pendingWrites.size();
+  }
+
+  private synchronized void enqueue(String key, String value, Function<String, Uni<Void>> writer,
+    CompletableFuture<Void> waiter) {
+    var pending = pendingWrites.computeIfAbsent(key, k -> new PendingWrite());
+    pending.value = value;
+    pending.writer = writer;
+    pending.waiters.add(waiter);
+
+    if (!pending.scheduled && !pending.inProgress) {
+      pending.scheduled = true;
+      scheduleFlush(key, window);
+    }
+  }
+
+  private void scheduleFlush(String key, Duration delay) {
+    if (!delay.isPositive()) {
+      Infrastructure.getDefaultExecutor().execute(() -> flush(key));
+      return;
+    }
+
+    Uni.createFrom().voidItem()
+      .onItem().delayIt().by(delay)
+      .subscribe().with(ignored -> flush(key));
+  }
+
+  private void flush(String key) {
+    var batch = startFlush(key);
+    var waiters = batch.waiters();
+    if (waiters.size() > 1) {
+      coalescedWrites.increment(waiters.size() - 1d);
+      log.debug("Writes coalesced: key = {}, count = {}", key, waiters.size());
+    }
+
+    Uni.createFrom().deferred(() -> batch.writer().apply(batch.value())).subscribe().with(
+      ignored -> complete(key, waiters, null),
+      error -> complete(key, waiters, error));
+  }
+
+  /**
+   * Takes the latest value and the waiting writes of the key, marking the write as in progress.
+   */
+  private synchronized FlushBatch startFlush(String key) {
+    var pending = pendingWrites.get(key);
+    var batch = new FlushBatch(pending.value, pending.writer, new ArrayList<>(pending.waiters));
+    pending.waiters.clear();
+    pending.scheduled = false;
+    pending.inProgress = true;
+    return batch;
+  }
+
+  private void complete(String key, List<CompletableFuture<Void>> waiters, Throwable error) {
+    synchronized (this) {
+      var pending = pendingWrites.get(key);
+      pending.inProgress = false;
+      if (pending.waiters.isEmpty()) {
+        pendingWrites.remove(key);
+      } else {
+        // writes received during the call are already past their window
+        pending.scheduled = true;
+        scheduleFlush(key, Duration.ZERO);
+      }
+    }
+
+    for (var waiter : waiters) {
+      if (error == null) {
+        waiter.complete(null);
+      } else {
+        waiter.completeExceptionally(error);
+      }
+    }
+  }
+
+  private static final class PendingWrite {
+
+    private final List<CompletableFuture<Void>> waiters = new ArrayList<>();
+    private String value;
+    private Function<String, Uni<Void>> writer;
+    private boolean scheduled;
+    private boolean inProgress;
+  }
+
+  private record FlushBatch(String value, Function<String, Uni<Void>> writer, List<CompletableFuture<Void>> waiters) {}
+}
@@ -0,0 +1,17 @@
+package org.folio.ssp.service;
+
+/**
+ * Outcome of {@link SecureStoreEntryService#put(String, String)}.
+ */
+public enum WriteResult {
+
+  /**
+   * The value was written to the secure store.
+   */
+  WRITTEN,
+
+  /**
+   * The value was equal to the cached one, the secure store write was skipped.
+   */
+  UNCHANGED
+}
@@ -0,0 +1,32 @@
+package org.folio.ssp.store;
+
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Secure store with non-blocking calls, which are not run on a worker thread.
+ */
+public interface AsyncSecureStore {
+
+  /**
+   * Reads the value of the entry.
+   *
+   * @param key - entry key
+   * @return entry value, or a failure with {@code SecretNotFoundException} if the entry does not exist
+   */
+  Uni<String> get(String key);
+
+  /**
+   * Creates or replaces the value of the entry.
+   *
+   * @param key - entry key
+   * @param value - entry value
+   */
+  Uni<Void> set(String key, String value);
+
+  /**
+   * Deletes the entry, a missing entry is not an error.
+   *
+   * @param key - entry key
+   */
+  Uni<Void> delete(String key);
+}
@@ -0,0 +1,32 @@
+package org.folio.ssp.store;
+
+import lombok.Getter;
+import org.folio.tools.store.SecureStore;
+
+/**
+ * Blocking {@link SecureStore} view of an {@link AsyncSecureStore}, for callers of the blocking API. Its methods must
+ * not be called on an event loop thread.
+ */
+public class BlockingSecureStore implements SecureStore {
+
+  @Getter private final AsyncSecureStore delegate;
+
+  public BlockingSecureStore(AsyncSecureStore delegate) {
+    this.delegate = delegate;
+  }
+
+  @Override
+  public String get(String key) {
+    return delegate.get(key).await().indefinitely();
+  }
+
+  @Override
+  public void set(String key, String value) {
+    delegate.set(key, value).await().indefinitely();
+  }
+
+  @Override
+  public void delete(String key) {
+    delegate.delete(key).await().indefinitely();
+  }
+}
@@ -0,0 +1,83 @@
+package org.folio.ssp.store;
+
+import static org.apache.commons.lang3.StringUtils.isEmpty;
+
+import io.smallrye.mutiny.Uni;
+import java.util.function.Supplier;
+import org.folio.ssp.service.BlockingCallExecutor;
+import org.folio.tools.store.SecureStore;
+import org.folio.tools.store.exception.SecretNotFoundException;
+
+/**
+ * {@link AsyncSecureStore} over a {@link SecureStore}. Calls of a remote store are run by the
+ * {@link BlockingCallExecutor}, calls of an in-memory store complete inline on the calling thread, which may be an
+ * event loop thread.
+ *
+ * <p>An empty value returned by the store is reported as {@link SecretNotFoundException}.</p>
+ */
+public class SecureStoreAdapter implements AsyncSecureStore {
+
+  private final SecureStore secureStore;
+  private final BlockingCallExecutor blockingCallExecutor;
+
+  private SecureStoreAdapter(SecureStore secureStore, BlockingCallExecutor blockingCallExecutor) {
+    this.secureStore = secureStore;
+    this.blockingCallExecutor = blockingCallExecutor;
+  }
+
+  /**
+   * Adapts a store with blocking calls, which are moved off the calling thread.
+   *
+   * @param secureStore - blocking secure store
+   * @param blockingCallExecutor - executor of the blocking calls
+   * @return adapted store
+   */
+  public static SecureStoreAdapter blocking(SecureStore secureStore, BlockingCallExecutor blockingCallExecutor) {
+    return new SecureStoreAdapter(secureStore, blockingCallExecutor);
+  }
+
+  /**
+   * Adapts an in-memory store, whose calls never block and are run on the calling thread.
+   *
+   * @param secureStore - in-memory secure store
+   * @return adapted store
+   */
+  public static SecureStoreAdapter inline(SecureStore secureStore) {
+    return new SecureStoreAdapter(secureStore, null);
+  }
+
+  public boolean isInline() {
+    return blockingCallExecutor == null;
+  }
+
+  @Override
+  public Uni<String> get(String key) {
+    return call(() -> {
+      var value = secureStore.get(key);
+      if (isEmpty(value)) {
+        throw new SecretNotFoundException("Entry not found: key = " + key);
+      }
+      return value;
+    });
+  }
+
+  @Override
+  public Uni<Void> set(String key, String value) {
+    return call(() -> {
+      secureStore.set(key, value);
+      return null;
+    });
+  }
+
+  @Override
+  public Uni<Void> delete(String key) {
+    return call(() -> {
+      secureStore.delete(key);
+      return null;
+    });
+  }
+
+  private <T> Uni<T> call(Supplier<T> supplier) {
+    return isInline() ? Uni.createFrom().item(supplier) : blockingCallExecutor.execute(supplier);
+  }
+}
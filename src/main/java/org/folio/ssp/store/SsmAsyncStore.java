@@ -0,0 +1,115 @@
+package org.folio.ssp.store;
+
+import static org.folio.ssp.utils.AwsClientUtils.credentialsProvider;
+
+import io.smallrye.mutiny.Uni;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Builder;
+import org.folio.tools.store.exception.SecretNotFoundException;
+import software.amazon.awssdk.core.client.config.SdkAdvancedAsyncClientOption;
+import software.amazon.awssdk.http.crt.AwsCrtAsyncHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.ssm.SsmAsyncClient;
+import software.amazon.awssdk.services.ssm.model.DeleteParameterRequest;
+import software.amazon.awssdk.services.ssm.model.GetParameterRequest;
+import software.amazon.awssdk.services.ssm.model.ParameterNotFoundException;
+import software.amazon.awssdk.services.ssm.model.ParameterType;
+import software.amazon.awssdk.services.ssm.model.PutParameterRequest;
+
+/**
+ * AWS SSM Parameter Store on the asynchronous SDK client with the CRT HTTP client. Entries are stored like in
+ * {@code AwsStore}: one {@code SecureString} parameter per key, named by the key.
+ *
+ * <p>Requests are multiplexed by the CRT event loop over at most {@code secret-store.aws-ssm.max-concurrency}
+ * connections, and the SDK futures are completed on a small pool of
+ * {@code secret-store.aws-ssm.completion-pool-size} threads, so many reads can be in flight without a thread per
+ * call.</p>
+ */
+public class SsmAsyncStore implements AsyncSecureStore {
+
+  private final SsmAsyncClient ssmClient;
+  private final ExecutorService completionExecutor;
+
+  SsmAsyncStore(SsmAsyncClient ssmClient, ExecutorService completionExecutor) {
+    this.ssmClient = ssmClient;
+    this.completionExecutor = completionExecutor;
+  }
+
+  public static SsmAsyncStore create(Settings settings) {
+    var completionExecutor = Executors.newFixedThreadPool(settings.completionPoolSize(), completionThreadFactory());
+    var httpClient = AwsCrtAsyncHttpClient.builder()
+      .maxConcurrency(settings.maxConcurrency())
+      .connectionTimeout(settings.connectionTimeout())
+      .connectionMaxIdleTime(settings.connectionMaxIdleTime());
+
+    var ssmClient = SsmAsyncClient.builder()
+      .region(Region.of(settings.region()))
+      .credentialsProvider(credentialsProvider(settings.useIam(), settings.accessKey(), settings.secretKey()))
+      .fipsEnabled(settings.fipsEnabled())
+      .httpClientBuilder(httpClient)
+      .asyncConfiguration(configuration -> configuration
+        .advancedOption(SdkAdvancedAsyncClientOption.FUTURE_COMPLETION_EXECUTOR, completionExecutor))
+      .build();
+
+    return new SsmAsyncStore(ssmClient, completionExecutor);
+  }
+
+  @Override
+  public Uni<String> get(String key) {
+    var request = GetParameterRequest.builder().name(key).withDecryption(true).build();
+
+    return Uni.createFrom().completionStage(() -> ssmClient.getParameter(request))
+      .map(response -> response.parameter().value())
+      .onFailure(ParameterNotFoundException.class)
+      .transform(error -> new SecretNotFoundException("Parameter not found: key = " + key));
+  }
+
+  @Override
+  public Uni<Void> set(String key, String value) {
+    var request = PutParameterRequest.builder()
+      .name(key)
+      .value(value)
+      .type(ParameterType.SECURE_STRING)
+      .overwrite(true)
+      .build();
+
+    return Uni.createFrom().completionStage(() -> ssmClient.putParameter(request)).replaceWithVoid();
+  }
+
+  @Override
+  public Uni<Void> delete(String key) {
+    var request = DeleteParameterRequest.builder().name(key).build();
+
+    return Uni.createFrom().completionStage(() -> ssmClient.deleteParameter(request))
+      .replaceWithVoid()
+      .onFailure(ParameterNotFoundException.class).recoverWithNull();
+  }
+
+  /**
+   * Closes the SDK client together with its CRT HTTP client and the completion threads.
+   */
+  public void close() {
+    ssmClient.close();
+    completionExecutor.shutdown();
+  }
+
+  private static ThreadFactory completionThreadFactory() {
+    var counter = new AtomicInteger();
+    return runnable -> {
+      var thread = new Thread(runnable, "ssm-async-completion-" + counter.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+  /**
+   * Client settings, the credentials, region and FIPS ones are shared with {@code AwsStore}.
+   */
+  @Builder
+  public record Settings(String region, boolean useIam, String accessKey, String secretKey, boolean fipsEnabled,
+    int maxConcurrency, int completionPoolSize, Duration connectionTimeout, Duration connectionMaxIdleTime) {}
+}
@@ -0,0 +1,254 @@
+package org.folio.ssp.store;
+
+import static org.apache.commons.lang3.StringUtils.isEmpty;
+import static org.apache.commons.lang3.StringUtils.isNotEmpty;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.core.http.PoolOptions;
+import io.vertx.core.http.RequestOptions;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.net.JksOptions;
+import io.vertx.core.net.PemTrustOptions;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.core.buffer.Buffer;
+import io.vertx.mutiny.core.http.HttpClient;
+import io.vertx.mutiny.core.http.HttpClientRequest;
+import io.vertx.mutiny.core.http.HttpClientResponse;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import lombok.Builder;
+import lombok.extern.log4j.Log4j2;
+import org.folio.ssp.exception.SecureStoreRequestException;
+import org.folio.tools.store.exception.SecretNotFoundException;
+
+/**
+ * Vault store on the Vert.x HTTP client, talking to the Vault HTTP API without blocking a thread per call.
+ *
+ * <p>Entries are laid out like in {@code VaultStore}: the key part before the last {@code _} is the secret path (with
+ * {@code _} replaced by {@code /}) below {@code secret-store.vault.secret-root}, the part after it is the attribute of
+ * the secret. Both KV v1 and KV v2 engines are supported, the version is detected on the first call. Connections are
+ * pooled and kept alive; with an {@code https} address HTTP/2 is negotiated over ALPN if the server supports it, and
+ * all calls are multiplexed over a single connection.</p>
+ *
+ * <p>Like {@code VaultStore}, writes and deletes read the secret and write it back with the attribute changed, so
+ * concurrent updates of different attributes of the same secret may overwrite each other.</p>
+ */
+@Log4j2
+public class VertxVaultStore implements AsyncSecureStore {
+
+  private static final String TOKEN_HEADER = "X-Vault-Token";
+  private static final String API_PREFIX = "/v1/";
+  private static final String MOUNTS_PATH = API_PREFIX + "sys/internal/ui/mounts/";
+
+  private final HttpClient httpClient;
+  private final String token;
+  private final String secretRoot;
+  private final Duration requestTimeout;
+  private volatile Boolean kvV2;
+
+  VertxVaultStore(HttpClient httpClient, Settings settings) {
+    this.httpClient = httpClient;
+    this.token = settings.token();
+    this.secretRoot = settings.secretRoot();
+    this.requestTimeout = settings.requestTimeout();
+  }
+
+  public static VertxVaultStore create(Vertx vertx, Settings settings) {
+    var poolOptions = new PoolOptions().setHttp1MaxSize(settings.maxPoolSize());
+    return new VertxVaultStore(vertx.createHttpClient(clientOptions(settings), poolOptions), settings);
+  }
+
+  @Override
+  public Uni<String> get(String key) {
+    var secretPath = SecretPath.of(key);
+
+    return isKvV2()
+      .chain(v2 -> readSecret(secretPath, v2))
+      .map(secret -> {
+        var value = secret.getValue(secretPath.attribute());
+        if (value == null || isEmpty(value.toString())) {
+          throw new SecretNotFoundException(
+            "Attribute: " + secretPath.attribute() + " not set for " + secretPath.path());
+        }
+        return value.toString();
+      });
+  }
+
+  @Override
+  public Uni<Void> set(String key, String value) {
+    var secretPath = SecretPath.of(key);
+
+    return isKvV2().chain(v2 -> readSecret(secretPath, v2)
+      .chain(secret -> writeSecret(secretPath, v2, secret.put(secretPath.attribute(), value))));
+  }
+
+  @Override
+  public Uni<Void> delete(String key) {
+    var secretPath = SecretPath.of(key);
+
+    return isKvV2().chain(v2 -> readSecret(secretPath, v2).chain(secret -> {
+      if (secret.remove(secretPath.attribute()) == null) {
+        return Uni.createFrom().voidItem();
+      }
+
+      return secret.isEmpty()
+        ? send(HttpMethod.DELETE, secretUri(secretPath, v2 ? "metadata/" : ""), null).replaceWithVoid()
+        : writeSecret(secretPath, v2, secret);
+    }));
+  }
+
+  private Uni<JsonObject> readSecret(SecretPath secretPath, boolean v2) {
+    return send(HttpMethod.GET, secretUri(secretPath, v2 ? "data/" : ""), null).map(body -> {
+      var data = body == null ? null : body.getJsonObject("data");
+      if (v2 && data != null) {
+        data = data.getJsonObject("data");
+      }
+      return data == null ? new JsonObject() : data.copy();
+    });
+  }
+
+  private Uni<Void> writeSecret(SecretPath secretPath, boolean v2, JsonObject secret) {
+    var body = v2 ? new JsonObject().put("data", secret) : secret;
+    return send(HttpMethod.POST, secretUri(secretPath, v2 ? "data/" : ""), body).replaceWithVoid();
+  }
+
+  /**
+   * Detects the version of the KV engine mounted at the secret root once, concurrent first calls may detect it more
+   * than once.
+   */
+  private Uni<Boolean> isKvV2() {
+    var detected = kvV2;
+    if (detected != null) {
+      return Uni.createFrom().item(detected);
+    }
+
+    return send(HttpMethod.GET, MOUNTS_PATH + secretRoot, null).map(body -> {
+      var data = body == null ? null : body.getJsonObject("data");
+      var options = data == null ? null : data.getJsonObject("options");
+      var version = options == null ? null : options.getString("version");
+      var isV2 = "2".equals(version);
+      log.info("Vault KV engine detected: secretRoot = {}, version = {}", secretRoot, isV2 ? 2 : 1);
+      kvV2 = isV2;
+      return isV2;
+    });
+  }
+
+  /**
+   * Sends the request, a {@code 404 Not Found} response completes with {@code null}.
+   *
+   * <p>{@link RequestOptions#setTimeout(long)} bounds the wait for a connection and the time without response data,
+   * the whole exchange including a slowly streamed response body is bounded by the request timeout as well: the call
+   * then fails with {@link io.smallrye.mutiny.TimeoutException} and the request is reset.</p>
+   */
+  private Uni<JsonObject> send(HttpMethod method, String uri, JsonObject body) {
+    var options = new RequestOptions()
+      .setMethod(method)
+      .setURI(uri)
+      .setTimeout(requestTimeout.toMillis())
+      .putHeader(TOKEN_HEADER, token);
+
+    return httpClient.request(options)
+      .chain(request -> exchange(request, body)
+        .chain(response -> response.body().map(buffer -> toJson(method, uri, response.statusCode(), buffer)))
+        .onCancellation().invoke(request::reset))
+      .ifNoItem().after(requestTimeout).fail();
+  }
+
+  private static Uni<HttpClientResponse> exchange(HttpClientRequest request, JsonObject body) {
+    return body == null
+      ? request.send()
+      : request.putHeader("Content-Type", "application/json").send(Buffer.newInstance(body.toBuffer()));
+  }
+
+  private static JsonObject toJson(HttpMethod method, String uri, int status, Buffer responseBody) {
+    if (status == 404) {
+      return null;
+    }
+    if (status < 200 || status >= 300) {
+      throw new SecureStoreRequestException(
+        "Vault request failed: method = " + method + ", uri = " + uri + ", status = " + status, status);
+    }
+    return responseBody.length() == 0 ? null : new JsonObject(responseBody.getDelegate());
+  }
+
+  private String secretUri(SecretPath secretPath, String engineSegment) {
+    return API_PREFIX + secretRoot + "/" + engineSegment + secretPath.encodedPath();
+  }
+
+  private static HttpClientOptions clientOptions(Settings settings) {
+    var address = URI.create(settings.address());
+    var https = "https".equalsIgnoreCase(address.getScheme());
+    var keepAliveSeconds = (int) settings.keepAliveTimeout().toSeconds();
+
+    var options = new HttpClientOptions()
+      .setDefaultHost(address.getHost())
+      .setDefaultPort(address.getPort() > 0 ? address.getPort() : defaultPort(https))
+      .setSsl(https)
+      .setKeepAlive(true)
+      .setKeepAliveTimeout(keepAliveSeconds)
+      .setHttp2KeepAliveTimeout(keepAliveSeconds)
+      .setConnectTimeout((int) settings.requestTimeout().toMillis());
+    configureProtocol(options, settings, https);
+    return options;
+  }
+
+  private static void configureProtocol(HttpClientOptions options, Settings settings, boolean https) {
+    if (https && settings.http2Enabled()) {
+      options.setProtocolVersion(HttpVersion.HTTP_2).setUseAlpn(true);
+    }
+    if (settings.enableSsl()) {
+      configureSsl(options, settings);
+    }
+  }
+
+  private static void configureSsl(HttpClientOptions options, Settings settings) {
+    if (isNotEmpty(settings.pemFilePath())) {
+      options.setTrustOptions(new PemTrustOptions().addCertPath(settings.pemFilePath()));
+    } else if (isNotEmpty(settings.truststoreFilePath())) {
+      options.setTrustOptions(new JksOptions().setPath(settings.truststoreFilePath()));
+    }
+
+    if (isNotEmpty(settings.keystoreFilePath())) {
+      options.setKeyCertOptions(new JksOptions()
+        .setPath(settings.keystoreFilePath())
+        .setPassword(settings.keystorePassword()));
+    }
+  }
+
+  private static int defaultPort(boolean https) {
+    return https ? 443 : 80;
+  }
+
+  /**
+   * Connection settings of the store, the connection related ones are shared with {@code VaultStore}.
+   */
+  @Builder
+  public record Settings(String address, String token, String secretRoot, boolean enableSsl, String pemFilePath,
+    String keystorePassword, String keystoreFilePath, String truststoreFilePath, int maxPoolSize,
+    Duration keepAliveTimeout, Duration requestTimeout, boolean http2Enabled) {}
+
+  private record SecretPath(String path, String attribute) {
+
+    static SecretPath of(String key) {
+      var separator = key.lastIndexOf('_');
+      if (separator <= 0 || separator == key.length() - 1) {
+        throw new IllegalArgumentException("Key must have the format <path>_<attribute>: key = " + key);
+      }
+
+      return new SecretPath(key.substring(0, separator).replace('_', '/'), key.substring(separator + 1));
+    }
+
+    String encodedPath() {
+      return Arrays.stream(path.split("/"))
+        .map(segment -> URLEncoder.encode(segment, StandardCharsets.UTF_8).replace("+", "%20"))
+        .collect(Collectors.joining("/"));
+    }
+  }
+}
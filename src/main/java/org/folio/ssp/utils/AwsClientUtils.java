@@ -0,0 +1,30 @@
+package org.folio.ssp.utils;
+
+import static org.apache.commons.lang3.StringUtils.isNotEmpty;
+
+import lombok.experimental.UtilityClass;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+
+@UtilityClass
+public class AwsClientUtils {
+
+  /**
+   * Resolves the credentials of the SSM clients created by the proxy itself: the static keys if IAM is not used and
+   * both keys are set, the default AWS credentials chain otherwise.
+   *
+   * @param useIam - value of {@code secret-store.aws-ssm.use-iam}
+   * @param accessKey - value of {@code secret-store.aws-ssm.access-key}
+   * @param secretKey - value of {@code secret-store.aws-ssm.secret-key}
+   * @return credentials provider
+   */
+  public static AwsCredentialsProvider credentialsProvider(boolean useIam, String accessKey, String secretKey) {
+    if (!useIam && isNotEmpty(accessKey) && isNotEmpty(secretKey)) {
+      return StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey));
+    }
+
+    return DefaultCredentialsProvider.create();
+  }
+}
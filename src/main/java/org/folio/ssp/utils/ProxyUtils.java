@@ -0,0 +1,20 @@
+package org.folio.ssp.utils;
+
+import io.quarkus.arc.ClientProxy;
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+public class ProxyUtils {
+
+  /**
+   * Returns the contextual instance behind the client proxies of a normal scoped bean. A producer returning another
+   * normal scoped bean yields a proxy of a proxy, so proxies are unwrapped until a plain instance is reached.
+   *
+   * @param bean - injected bean, possibly a client proxy
+   * @return instance behind the proxies, or the bean itself if it is not a proxy
+   */
+  public static <T> T unwrap(T bean) {
+    var instance = ClientProxy.unwrap(bean);
+    return instance == bean ? bean : unwrap(instance);
+  }
+}
@@ -0,0 +1,139 @@
+package org.folio.ssp.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.security.cert.CertificateException;
+import java.security.cert.X509Certificate;
+import java.util.Arrays;
+import java.util.Optional;
+import javax.net.ssl.KeyManager;
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.TrustManagerFactory;
+import javax.net.ssl.X509ExtendedTrustManager;
+import javax.net.ssl.X509TrustManager;
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+public class SslContextUtils {
+
+  /**
+   * Creates a client TLS context from the given key store and trust store files.
+   *
+   * @param keyStore - key store with the client certificate, the default key managers are used if empty
+   * @param trustStore - trust store with the trusted server certificates, the JDK trust store is used if empty
+   * @param verifyHostname - whether the server host name is verified against its certificate
+   * @return initialized TLS context
+   */
+  public static SSLContext clientSslContext(Optional<StoreFile> keyStore, Optional<StoreFile> trustStore,
+    boolean verifyHostname) throws IOException, GeneralSecurityException {
+    var sslContext = SSLContext.getInstance("TLS");
+    sslContext.init(keyManagers(keyStore), trustManagers(trustStore, verifyHostname), null);
+    return sslContext;
+  }
+
+  /**
+   * Returns the key managers of the key store, or null to let the TLS context use the default ones.
+   */
+  @SuppressWarnings("java:S1168")
+  private static KeyManager[] keyManagers(Optional<StoreFile> keyStore) throws IOException, GeneralSecurityException {
+    if (keyStore.isEmpty()) {
+      return null;
+    }
+
+    var keyManagerFactory = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+    keyManagerFactory.init(load(keyStore.get()), keyStore.get().password());
+    return keyManagerFactory.getKeyManagers();
+  }
+
+  private static TrustManager[] trustManagers(Optional<StoreFile> trustStore, boolean verifyHostname)
+    throws IOException, GeneralSecurityException {
+    var trustManagerFactory = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+    trustManagerFactory.init(trustStore.isPresent() ? load(trustStore.get()) : null);
+    var trustManagers = trustManagerFactory.getTrustManagers();
+    if (verifyHostname) {
+      return trustManagers;
+    }
+
+    return Arrays.stream(trustManagers)
+      .map(trustManager -> trustManager instanceof X509TrustManager x509TrustManager
+        ? new NoHostnameVerificationTrustManager(x509TrustManager)
+        : trustManager)
+      .toArray(TrustManager[]::new);
+  }
+
+  private static KeyStore load(StoreFile storeFile) throws IOException, GeneralSecurityException {
+    var keyStore = KeyStore.getInstance(storeFile.type());
+    try (InputStream stream = Files.newInputStream(Path.of(storeFile.path()))) {
+      keyStore.load(stream, storeFile.password());
+    }
+    return keyStore;
+  }
+
+  /**
+   * Key store or trust store file.
+   *
+   * @param path - file path
+   * @param password - store password, may be null
+   * @param type - store type, e.g. {@code PKCS12}
+   */
+  public record StoreFile(String path, char[] password, String type) {}
+
+  /**
+   * Validates the certificate chain without endpoint identification.
+   */
+  private static final class NoHostnameVerificationTrustManager extends X509ExtendedTrustManager {
+
+    private final X509TrustManager delegate;
+
+    NoHostnameVerificationTrustManager(X509TrustManager delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public void checkClientTrusted(X509Certificate[] chain, String authType, Socket socket)
+      throws CertificateException {
+      delegate.checkClientTrusted(chain, authType);
+    }
+
+    @Override
+    public void checkServerTrusted(X509Certificate[] chain, String authType, Socket socket)
+      throws CertificateException {
+      delegate.checkServerTrusted(chain, authType);
+    }
+
+    @Override
+    public void checkClientTrusted(X509Certificate[] chain, String authType, SSLEngine engine)
+      throws CertificateException {
+      delegate.checkClientTrusted(chain, authType);
+    }
+
+    @Override
+    public void checkServerTrusted(X509Certificate[] chain, String authType, SSLEngine engine)
+      throws CertificateException {
+      delegate.checkServerTrusted(chain, authType);
+    }
+
+    @Override
+    public void checkClientTrusted(X509Certificate[] chain, String authType) throws CertificateException {
+      delegate.checkClientTrusted(chain, authType);
+    }
+
+    @Override
+    public void checkServerTrusted(X509Certificate[] chain, String authType) throws CertificateException {
+      delegate.checkServerTrusted(chain, authType);
+    }
+
+    @Override
+    public X509Certificate[] getAcceptedIssuers() {
+      return delegate.getAcceptedIssuers();
+    }
+  }
+}
@@ -0,0 +1,82 @@
+package org.folio.ssp.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.ssp.support.TestUtils.await;
+import static org.folio.ssp.support.TestUtils.cachedKeys;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import io.smallrye.mutiny.Uni;
+import jakarta.inject.Inject;
+import java.time.Duration;
+import org.awaitility.Awaitility;
+import org.folio.ssp.support.profile.MaximumWeightTestProfile;
+import org.folio.support.types.UnitTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+@QuarkusTest
+@TestProfile(MaximumWeightTestProfile.class)
+class EntryCacheMaximumWeightTest {
+
+  private static final String LARGE_VALUE = "v".repeat(100);
+  private static final long LARGE_ENTRY_WEIGHT = EntryWeigher.ENTRY_OVERHEAD + 4 + LARGE_VALUE.length();
+
+  @Inject EntryCache entryCache;
+  @Inject MeterRegistry meterRegistry;
+
+  @AfterEach
+  void tearDown() {
+    await(entryCache.invalidateAll());
+  }
+
+  @Test
+  void put_positive_weightTracked() {
+    entryCache.put("key1", LARGE_VALUE);
+    entryCache.put("key2", LARGE_VALUE);
+
+    assertThat(entryCache.weight()).isEqualTo(2 * LARGE_ENTRY_WEIGHT);
+    assertThat(entryCache.maximumWeight()).hasValue(1024);
+    assertThat(meterRegistry.get(EntryCache.WEIGHT_METRIC).gauge().value()).isEqualTo(2.0 * LARGE_ENTRY_WEIGHT);
+  }
+
+  @Test
+  void put_positive_oldestEntriesEvictedWhenOverweight() {
+    for (int i = 1; i <= 5; i++) {
+      entryCache.put("key" + i, LARGE_VALUE);
+    }
+
+    Awaitility.await().atMost(Duration.ofSeconds(5))
+      .untilAsserted(() -> assertThat(entryCache.weight()).isLessThanOrEqualTo(1024));
+    assertThat(cachedKeys(entryCache)).doesNotContain("key1").contains("key4", "key5");
+    assertThat(entryCache.size()).isEqualTo(cachedKeys(entryCache).size());
+  }
+
+  @Test
+  void get_positive_loadedEntriesEvictedWhenOverweight() {
+    for (int i = 1; i <= 5; i++) {
+      assertThat(await(entryCache.get("key" + i, key -> Uni.createFrom().item(LARGE_VALUE)))).isEqualTo(LARGE_VALUE);
+    }
+
+    Awaitility.await().atMost(Duration.ofSeconds(5))
+      .untilAsserted(() -> assertThat(entryCache.weight()).isLessThanOrEqualTo(1024));
+    assertThat(cachedKeys(entryCache)).doesNotContain("key1").contains("key5");
+  }
+
+  @Test
+  void invalidate_positive_weightReleased() {
+    entryCache.put("key1", LARGE_VALUE);
+    entryCache.put("key2", LARGE_VALUE);
+
+    await(entryCache.invalidate("key1"));
+
+    assertThat(entryCache.weight()).isEqualTo(LARGE_ENTRY_WEIGHT);
+  }
+
+  @Test
+  void weigh_positive_utf16Value() {
+    assertThat(EntryWeigher.weigh("key", "ключ")).isEqualTo(EntryWeigher.ENTRY_OVERHEAD + 3 + 8);
+  }
+}
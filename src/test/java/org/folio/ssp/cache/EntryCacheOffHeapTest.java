@@ -0,0 +1,82 @@
+package org.folio.ssp.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.ssp.SecureStoreConstants.ENTRY_CACHE;
+import static org.folio.ssp.support.TestConstants.KEY1;
+import static org.folio.ssp.support.TestConstants.VALUE1;
+import static org.folio.ssp.support.TestConstants.VALUE2;
+import static org.folio.ssp.support.TestUtils.await;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CaffeineCache;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import io.smallrye.mutiny.Uni;
+import jakarta.inject.Inject;
+import org.folio.ssp.cache.OffHeapValueStore.OffHeapValue;
+import org.folio.ssp.support.profile.OffHeapValueStoreTestProfile;
+import org.folio.support.types.UnitTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+@QuarkusTest
+@TestProfile(OffHeapValueStoreTestProfile.class)
+class EntryCacheOffHeapTest {
+
+  @Inject EntryCache entryCache;
+  @Inject @CacheName(ENTRY_CACHE) Cache cache;
+
+  @AfterEach
+  void tearDown() {
+    await(entryCache.invalidateAll());
+  }
+
+  @Test
+  void get_positive_valueKeptOffHeap() throws Exception {
+    var value = await(entryCache.get(KEY1, key -> Uni.createFrom().item(VALUE1)));
+
+    assertThat(value).isEqualTo(VALUE1);
+    assertThat(cachedHandle()).isInstanceOf(OffHeapValue.class);
+    assertThat(entryCache.getIfPresent(KEY1)).hasValue(VALUE1);
+    assertThat(entryCache.getStale(KEY1)).hasValue(VALUE1);
+  }
+
+  @Test
+  void put_positive_previousValueReleased() throws Exception {
+    entryCache.put(KEY1, VALUE1);
+    var previous = (OffHeapValue) cachedHandle();
+
+    entryCache.put(KEY1, VALUE2);
+
+    assertThat(previous.read()).isEmpty();
+    assertThat(entryCache.getIfPresent(KEY1)).hasValue(VALUE2);
+  }
+
+  @Test
+  void invalidate_positive_valueReleased() throws Exception {
+    entryCache.put(KEY1, VALUE1);
+    var handle = (OffHeapValue) cachedHandle();
+
+    await(entryCache.invalidate(KEY1));
+
+    assertThat(handle.read()).isEmpty();
+    assertThat(entryCache.getIfPresent(KEY1)).isEmpty();
+    assertThat(entryCache.getStale(KEY1)).isEmpty();
+  }
+
+  @Test
+  void get_positive_reloadedIfReleasedConcurrently() throws Exception {
+    entryCache.put(KEY1, VALUE1);
+    ((OffHeapValue) cachedHandle()).release();
+
+    var value = await(entryCache.get(KEY1, key -> Uni.createFrom().item(VALUE2)));
+
+    assertThat(value).isEqualTo(VALUE2);
+  }
+
+  private Object cachedHandle() throws Exception {
+    return cache.as(CaffeineCache.class).getIfPresent(KEY1).get();
+  }
+}
@@ -0,0 +1,98 @@
+package org.folio.ssp.cache;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import javax.crypto.AEADBadTagException;
+import javax.crypto.spec.SecretKeySpec;
+import org.folio.support.types.UnitTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@UnitTest
+class EntryCacheSnapshotCodecTest {
+
+  private static final List<SnapshotEntry> ENTRIES = List.of(
+    new SnapshotEntry("folio_tenant1_key1", "value1", 1_700_000_000_000L),
+    new SnapshotEntry("folio_tenant1_key2", "пароль-ключ", 1_700_000_001_000L));
+
+  @TempDir Path directory;
+
+  private final EntryCacheSnapshotCodec codec = new EntryCacheSnapshotCodec(aesKey((byte) 1));
+
+  @Test
+  void write_positive_roundTrip() throws Exception {
+    var path = directory.resolve("entry-cache.snapshot");
+
+    codec.write(path, ENTRIES);
+
+    assertThat(codec.read(path)).isEqualTo(ENTRIES);
+  }
+
+  @Test
+  void write_positive_valuesEncrypted() throws Exception {
+    var path = directory.resolve("entry-cache.snapshot");
+
+    codec.write(path, ENTRIES);
+
+    var content = new String(Files.readAllBytes(path), UTF_8);
+    assertThat(content).doesNotContain("folio_tenant1_key1", "value1");
+    try (var files = Files.list(directory)) {
+      assertThat(files).containsExactly(path);
+    }
+  }
+
+  @Test
+  void write_positive_replacesPreviousSnapshot() throws Exception {
+    var path = directory.resolve("entry-cache.snapshot");
+
+    codec.write(path, ENTRIES);
+    codec.write(path, List.of());
+
+    assertThat(codec.read(path)).isEmpty();
+  }
+
+  @Test
+  void read_negative_otherKey() throws Exception {
+    var path = directory.resolve("entry-cache.snapshot");
+    codec.write(path, ENTRIES);
+
+    var otherCodec = new EntryCacheSnapshotCodec(aesKey((byte) 2));
+
+    assertThatThrownBy(() -> otherCodec.read(path)).isInstanceOf(AEADBadTagException.class);
+  }
+
+  @Test
+  void read_negative_modified() throws Exception {
+    var path = directory.resolve("entry-cache.snapshot");
+    codec.write(path, ENTRIES);
+
+    var content = Files.readAllBytes(path);
+    content[content.length - 1] ^= 1;
+    Files.write(path, content);
+
+    assertThatThrownBy(() -> codec.read(path)).isInstanceOf(AEADBadTagException.class);
+  }
+
+  @Test
+  void read_negative_unknownFormat() throws Exception {
+    var path = directory.resolve("entry-cache.snapshot");
+    Files.writeString(path, "folio_tenant1_key1=value1\nfolio_tenant1_key2=value2");
+
+    assertThatThrownBy(() -> codec.read(path))
+      .isInstanceOf(IOException.class)
+      .hasMessageStartingWith("Unsupported entry cache snapshot format");
+  }
+
+  private static SecretKeySpec aesKey(byte fill) {
+    var key = new byte[32];
+    Arrays.fill(key, fill);
+    return new SecretKeySpec(key, "AES");
+  }
+}
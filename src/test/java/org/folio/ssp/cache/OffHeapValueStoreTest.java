@@ -0,0 +1,38 @@
+package org.folio.ssp.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.folio.ssp.cache.OffHeapValueStore.OffHeapValue;
+import org.folio.support.types.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class OffHeapValueStoreTest {
+
+  private final OffHeapValueStore valueStore = new OffHeapValueStore();
+
+  @Test
+  void store_positive() {
+    var stored = valueStore.store("secret-ключ");
+
+    assertThat(stored).isInstanceOf(OffHeapValue.class);
+    assertThat(valueStore.read(stored)).hasValue("secret-ключ");
+    assertThat(valueStore.getAllocatedBytes()).isEqualTo("secret-ключ".getBytes().length);
+  }
+
+  @Test
+  void release_positive() {
+    var stored = valueStore.store("secret");
+
+    valueStore.release(stored);
+    valueStore.release(stored);
+
+    assertThat(valueStore.read(stored)).isEmpty();
+    assertThat(valueStore.getAllocatedBytes()).isZero();
+  }
+
+  @Test
+  void read_positive_heapValue() {
+    assertThat(valueStore.read("secret")).hasValue("secret");
+  }
+}
@@ -0,0 +1,26 @@
+package org.folio.ssp.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.folio.ssp.store.AsyncSecureStore;
+import org.folio.ssp.store.SecureStoreAdapter;
+import org.folio.ssp.utils.ProxyUtils;
+import org.folio.support.types.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+@QuarkusTest
+class SecureStoreConfigurationTest {
+
+  @Inject @Configured AsyncSecureStore asyncStore;
+
+  @Test
+  void getConfiguredAsyncStore_positive_ephemeralStoreCalledInline() {
+    var store = ProxyUtils.unwrap(asyncStore);
+
+    assertThat(store).isInstanceOfSatisfying(SecureStoreAdapter.class,
+      adapter -> assertThat(adapter.isInline()).isTrue());
+  }
+}
@@ -0,0 +1,73 @@
+package org.folio.ssp.health;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.folio.ssp.support.TestUtils.await;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.smallrye.mutiny.Uni;
+import java.time.Duration;
+import org.eclipse.microprofile.health.HealthCheckResponse.Status;
+import org.folio.ssp.configuration.CircuitBreakerProperties;
+import org.folio.ssp.configuration.SecureStoreHealthProperties;
+import org.folio.ssp.service.CircuitBreaker;
+import org.folio.support.types.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class CircuitBreakerHealthCheckTest {
+
+  @Test
+  void call_positive_openCircuitReportedWithoutGating() {
+    var response = healthCheck(openCircuitBreaker(), false).call();
+
+    assertThat(response.getStatus()).isEqualTo(Status.UP);
+    assertThat(response.getData()).hasValueSatisfying(data -> assertThat(data)
+      .containsEntry("state", "OPEN")
+      .containsEntry("failureRate", 100L)
+      .containsEntry("slowCallRate", 0L));
+  }
+
+  @Test
+  void call_negative_openCircuitNotReadyWithGating() {
+    var response = healthCheck(openCircuitBreaker(), true).call();
+
+    assertThat(response.getStatus()).isEqualTo(Status.DOWN);
+    assertThat(response.getData()).hasValueSatisfying(data -> assertThat(data).containsEntry("state", "OPEN"));
+  }
+
+  @Test
+  void call_positive_closedCircuitReadyWithGating() {
+    var response = healthCheck(circuitBreaker(), true).call();
+
+    assertThat(response.getStatus()).isEqualTo(Status.UP);
+    assertThat(response.getData()).hasValueSatisfying(data -> assertThat(data).containsEntry("state", "CLOSED"));
+  }
+
+  private static CircuitBreakerHealthCheck healthCheck(CircuitBreaker circuitBreaker, boolean readinessGating) {
+    var properties = new TestHealthProperties(true, readinessGating, "health_probe", Duration.ofMinutes(1),
+      Duration.ofSeconds(1));
+    return new CircuitBreakerHealthCheck(circuitBreaker, properties);
+  }
+
+  private static CircuitBreaker openCircuitBreaker() {
+    var circuitBreaker = circuitBreaker();
+    for (int i = 0; i < 4; i++) {
+      var call = circuitBreaker.execute(() -> Uni.createFrom().failure(new IllegalStateException()));
+      assertThatThrownBy(() -> await(call)).isInstanceOf(IllegalStateException.class);
+    }
+    return circuitBreaker;
+  }
+
+  private static CircuitBreaker circuitBreaker() {
+    var properties = new TestBreakerProperties(true, 50, Duration.ofMinutes(1), 80, 4, 4, Duration.ofMinutes(1), 2);
+    return new CircuitBreaker(properties, new SimpleMeterRegistry());
+  }
+
+  private record TestHealthProperties(boolean enabled, boolean readinessGating, String probeKey,
+    Duration cacheInterval, Duration timeout) implements SecureStoreHealthProperties {}
+
+  private record TestBreakerProperties(boolean enabled, int failureRateThreshold, Duration slowCallDuration,
+    int slowCallRateThreshold, int windowSize, int minimumCalls, Duration waitInOpenState, int halfOpenProbes)
+    implements CircuitBreakerProperties {}
+}
@@ -0,0 +1,66 @@
+package org.folio.ssp.health;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.ssp.support.TestUtils.await;
+
+import io.smallrye.mutiny.Uni;
+import java.time.Duration;
+import org.eclipse.microprofile.health.HealthCheckResponse.Status;
+import org.folio.ssp.configuration.SecureStoreHealthProperties;
+import org.folio.ssp.service.SecureStoreProbe;
+import org.folio.ssp.store.AsyncSecureStore;
+import org.folio.support.types.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class SecureStoreHealthCheckTest {
+
+  @Test
+  void call_positive_unreachableStoreReportedWithoutGating() {
+    var response = await(healthCheck(false).call());
+
+    assertThat(response.getStatus()).isEqualTo(Status.UP);
+    assertThat(response.getData()).hasValueSatisfying(data -> assertThat(data)
+      .containsEntry("store", "VAULT")
+      .containsEntry("reachable", false)
+      .containsEntry("error", "permission denied"));
+  }
+
+  @Test
+  void call_negative_unreachableStoreNotReadyWithGating() {
+    var response = await(healthCheck(true).call());
+
+    assertThat(response.getStatus()).isEqualTo(Status.DOWN);
+    assertThat(response.getData()).hasValueSatisfying(data -> assertThat(data).containsEntry("reachable", false));
+  }
+
+  private static SecureStoreHealthCheck healthCheck(boolean readinessGating) {
+    var properties = new TestProperties(true, readinessGating, "health_probe", Duration.ofMinutes(1),
+      Duration.ofSeconds(1));
+    var probe = new SecureStoreProbe(unreachableStore(), properties);
+    return new SecureStoreHealthCheck(probe, properties, "VAULT");
+  }
+
+  private static AsyncSecureStore unreachableStore() {
+    return new AsyncSecureStore() {
+
+      @Override
+      public Uni<String> get(String key) {
+        return Uni.createFrom().failure(new IllegalStateException("permission denied"));
+      }
+
+      @Override
+      public Uni<Void> set(String key, String value) {
+        throw new UnsupportedOperationException();
+      }
+
+      @Override
+      public Uni<Void> delete(String key) {
+        throw new UnsupportedOperationException();
+      }
+    };
+  }
+
+  private record TestProperties(boolean enabled, boolean readinessGating, String probeKey, Duration cacheInterval,
+    Duration timeout) implements SecureStoreHealthProperties {}
+}
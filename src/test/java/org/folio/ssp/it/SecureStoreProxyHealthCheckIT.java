@@ -6,6 +6,7 @@ import static org.apache.http.HttpStatus.SC_OK;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
 
 import io.quarkus.test.common.http.TestHTTPResource;
 import io.quarkus.test.junit.TestProfile;
@@ -37,6 +38,21 @@ class SecureStoreProxyHealthCheckIT {
       .assertThat()
       .statusCode(is(SC_OK))
       .contentType(containsString(APPLICATION_JSON))
-      .body("status", equalTo("UP"));
+      .body("status", equalTo("UP"))
+      .body("checks.find { it.name == 'Secure store' }.status", equalTo("UP"))
+      .body("checks.find { it.name == 'Secure store' }.data.store", equalTo("VAULT"))
+      .body("checks.find { it.name == 'Secure store' }.data.reachable", equalTo(true));
+  }
+
+  @Test
+  void healthCheck_positive_liveness() {
+    given()
+      .when().get(healthEndpointUrl + "/live")
+      .then()
+      .log().ifValidationFails()
+      .assertThat()
+      .statusCode(is(SC_OK))
+      .body("status", equalTo("UP"))
+      .body("checks.find { it.name == 'Entry cache' }.data.entries", notNullValue());
   }
 }
@@ -0,0 +1,21 @@
+package org.folio.ssp.it;
+
+import io.quarkus.test.junit.TestProfile;
+import org.folio.ssp.support.extensions.EnableVault;
+import org.folio.ssp.support.extensions.VaultTestExtension;
+import org.folio.ssp.support.profile.ReactiveVaultIntegrationTestProfile;
+import org.folio.support.types.IntegrationTest;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Runs the Vault scenarios against the non-blocking Vault store.
+ */
+@IntegrationTest
+@TestProfile(ReactiveVaultIntegrationTestProfile.class)
+@EnableVault(initCommands = {
+  "secrets enable -path=test-secrets -description='Eureka testing secrets' kv-v2", // enable kv-v2 secrets engine
+  "write test-secrets/config max_versions=1 delete_version_after=0s cas_required=false" // configure the engine
+})
+@ExtendWith(VaultTestExtension.class)
+class SecureStoreProxyReactiveVaultIT extends SecureStoreProxyIT {
+}
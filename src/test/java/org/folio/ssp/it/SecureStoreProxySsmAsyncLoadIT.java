@@ -0,0 +1,16 @@
+package org.folio.ssp.it;
+
+import io.quarkus.test.junit.TestProfile;
+import org.folio.ssp.support.extensions.EnableBackendStandIn;
+import org.folio.ssp.support.extensions.EnableBackendStandIn.StoreType;
+import org.folio.ssp.support.profile.LoadTestProfile;
+import org.folio.support.types.IntegrationTest;
+
+/**
+ * Runs the AWS SSM load scenarios against the asynchronous SSM store.
+ */
+@IntegrationTest
+@TestProfile(LoadTestProfile.class)
+@EnableBackendStandIn(store = StoreType.AWS_SSM_ASYNC)
+class SecureStoreProxySsmAsyncLoadIT extends SecureStoreProxySsmLoadIT {
+}
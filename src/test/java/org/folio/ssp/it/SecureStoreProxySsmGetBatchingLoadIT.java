@@ -0,0 +1,72 @@
+package org.folio.ssp.it;
+
+import static org.apache.http.HttpStatus.SC_NOT_FOUND;
+import static org.apache.http.HttpStatus.SC_OK;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.ssp.support.TestConstants.KEY_PREFIX_TENANT1;
+
+import io.quarkus.test.common.http.TestHTTPEndpoint;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.test.junit.TestProfile;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import org.folio.ssp.resource.SecureStoreEntryResource;
+import org.folio.ssp.support.LoadTestClient;
+import org.folio.ssp.support.extensions.BackendStandInServer;
+import org.folio.ssp.support.extensions.EnableBackendStandIn;
+import org.folio.ssp.support.extensions.EnableBackendStandIn.StoreType;
+import org.folio.ssp.support.extensions.InjectBackendStandIn;
+import org.folio.ssp.support.extensions.LatencyDistribution;
+import org.folio.ssp.support.profile.GetBatchingLoadTestProfile;
+import org.folio.support.types.IntegrationTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@IntegrationTest
+@TestProfile(GetBatchingLoadTestProfile.class)
+@EnableBackendStandIn(store = StoreType.AWS_SSM)
+class SecureStoreProxySsmGetBatchingLoadIT {
+
+  private static final int KEY_COUNT = 100;
+  private static final int CONCURRENCY = 16;
+  private static final Duration LOAD_DURATION = Duration.ofSeconds(5);
+
+  @InjectBackendStandIn BackendStandInServer backend;
+  private final LoadTestClient loadTestClient = new LoadTestClient();
+
+  @TestHTTPEndpoint(SecureStoreEntryResource.class)
+  @TestHTTPResource(tls = true)
+  String sseResourceUrl;
+
+  @BeforeEach
+  void setUp() {
+    // every tenth key is missing from the backend
+    for (int i = 0; i < KEY_COUNT; i++) {
+      if (i % 10 != 0) {
+        backend.ssmParameters().put(KEY_PREFIX_TENANT1 + "key" + i, "value" + i);
+      }
+    }
+  }
+
+  @AfterEach
+  void tearDown() {
+    backend.reset();
+  }
+
+  @Test
+  void getEntry_load_concurrentMissesBatched() {
+    backend.faults().latency(LatencyDistribution.logNormal(Duration.ofMillis(5), Duration.ofMillis(50)));
+
+    var result = loadTestClient.run(CONCURRENCY, LOAD_DURATION, this::getEntryRequest);
+
+    assertThat(result.failures()).isZero();
+    assertThat(result.statuses()).containsOnlyKeys(SC_OK, SC_NOT_FOUND);
+    assertThat(result.count(SC_NOT_FOUND)).isPositive();
+    assertThat(backend.getRequestCount()).isLessThan(result.requests());
+  }
+
+  private HttpRequest getEntryRequest(int sequence) {
+    return LoadTestClient.get(sseResourceUrl + "/" + KEY_PREFIX_TENANT1 + "key" + (sequence % KEY_COUNT));
+  }
+}
@@ -0,0 +1,101 @@
+package org.folio.ssp.it;
+
+import static org.apache.http.HttpStatus.SC_INTERNAL_SERVER_ERROR;
+import static org.apache.http.HttpStatus.SC_OK;
+import static org.apache.http.HttpStatus.SC_SERVICE_UNAVAILABLE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.ssp.support.TestConstants.KEY_PREFIX_TENANT1;
+
+import io.quarkus.test.common.http.TestHTTPEndpoint;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import org.folio.ssp.resource.SecureStoreEntryResource;
+import org.folio.ssp.service.CircuitBreaker;
+import org.folio.ssp.support.LoadTestClient;
+import org.folio.ssp.support.extensions.BackendStandInServer;
+import org.folio.ssp.support.extensions.EnableBackendStandIn;
+import org.folio.ssp.support.extensions.EnableBackendStandIn.StoreType;
+import org.folio.ssp.support.extensions.InjectBackendStandIn;
+import org.folio.ssp.support.extensions.LatencyDistribution;
+import org.folio.ssp.support.profile.LoadTestProfile;
+import org.folio.support.types.IntegrationTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@IntegrationTest
+@TestProfile(LoadTestProfile.class)
+@EnableBackendStandIn(store = StoreType.AWS_SSM)
+class SecureStoreProxySsmLoadIT {
+
+  private static final int KEY_COUNT = 100;
+  private static final int CONCURRENCY = 16;
+  private static final Duration LOAD_DURATION = Duration.ofSeconds(5);
+
+  @InjectBackendStandIn BackendStandInServer backend;
+  @Inject CircuitBreaker circuitBreaker;
+  private final LoadTestClient loadTestClient = new LoadTestClient();
+
+  @TestHTTPEndpoint(SecureStoreEntryResource.class)
+  @TestHTTPResource(tls = true)
+  String sseResourceUrl;
+
+  @BeforeEach
+  void setUp() {
+    for (int i = 0; i < KEY_COUNT; i++) {
+      backend.ssmParameters().put(KEY_PREFIX_TENANT1 + "key" + i, "value" + i);
+    }
+  }
+
+  @AfterEach
+  void tearDown() {
+    backend.reset();
+    circuitBreaker.reset();
+  }
+
+  @Test
+  void getEntry_load_logNormalBackendLatency() {
+    backend.faults().latency(LatencyDistribution.logNormal(Duration.ofMillis(5), Duration.ofMillis(50)));
+
+    var result = loadTestClient.run(CONCURRENCY, LOAD_DURATION, this::getEntryRequest);
+
+    assertThat(result.failures()).isZero();
+    assertThat(result.requests()).isPositive();
+    assertThat(result.count(SC_OK)).isEqualTo(result.requests());
+    assertThat(backend.getRequestCount()).isGreaterThanOrEqualTo(result.requests());
+  }
+
+  @Test
+  void getEntry_load_backendErrors() {
+    backend.faults()
+      .latency(LatencyDistribution.uniform(Duration.ofMillis(1), Duration.ofMillis(10)))
+      .errorRate(0.1);
+
+    var result = loadTestClient.run(CONCURRENCY, LOAD_DURATION, this::getEntryRequest);
+
+    assertThat(result.failures()).isZero();
+    assertThat(result.count(SC_OK)).isPositive();
+    assertThat(result.count(SC_INTERNAL_SERVER_ERROR)).isPositive();
+    assertThat(result.statuses()).containsOnlyKeys(SC_OK, SC_INTERNAL_SERVER_ERROR, SC_SERVICE_UNAVAILABLE);
+  }
+
+  @Test
+  void getEntry_load_backendThrottling() {
+    backend.faults()
+      .latency(LatencyDistribution.fixed(Duration.ofMillis(2)))
+      .throttleRate(0.2);
+
+    var result = loadTestClient.run(CONCURRENCY, LOAD_DURATION, this::getEntryRequest);
+
+    assertThat(result.failures()).isZero();
+    assertThat(result.count(SC_OK)).isPositive();
+    assertThat(result.requests()).isGreaterThan(result.count(SC_OK));
+  }
+
+  private HttpRequest getEntryRequest(int sequence) {
+    return LoadTestClient.get(sseResourceUrl + "/" + KEY_PREFIX_TENANT1 + "key" + (sequence % KEY_COUNT));
+  }
+}
@@ -8,6 +8,7 @@ import static org.apache.http.HttpStatus.SC_OK;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.folio.ssp.SecureStoreConstants.ENTRY_CACHE;
+import static org.folio.ssp.SecureStoreConstants.NEXT_CURSOR_HEADER;
 import static org.folio.ssp.model.error.ErrorCode.VALIDATION_ERROR;
 import static org.folio.ssp.support.AssertionUtils.assertCached;
 import static org.folio.ssp.support.AssertionUtils.assertNotCached;
@@ -20,10 +21,13 @@ import static org.folio.ssp.support.TestConstants.KEY2;
 import static org.folio.ssp.support.TestConstants.VALUE1;
 import static org.folio.ssp.support.TestConstants.VALUE2;
 import static org.folio.ssp.support.TestUtils.await;
+import static org.folio.ssp.support.TestUtils.cachedKeys;
 import static org.folio.ssp.support.TestUtils.putInCache;
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.is;
-import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.jboss.resteasy.reactive.RestMediaType.APPLICATION_NDJSON;
 
 import io.quarkus.cache.Cache;
 import io.quarkus.cache.CacheName;
@@ -33,14 +37,19 @@ import io.quarkus.test.common.http.TestHTTPResource;
 import io.quarkus.test.junit.QuarkusTest;
 import io.restassured.specification.RequestSpecification;
 import jakarta.inject.Inject;
+import java.util.List;
 import java.util.stream.Stream;
 import javax.net.ssl.SSLHandshakeException;
 import org.apache.commons.lang3.StringUtils;
+import org.folio.ssp.cache.EntryCache;
+import org.folio.ssp.model.cache.InvalidationBatch;
+import org.folio.ssp.model.cache.InvalidationMessage;
 import org.folio.support.types.UnitTest;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
 
 @UnitTest
@@ -48,6 +57,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 class SecureStoreEntryCacheResourceTest {
 
   @Inject @CacheName(ENTRY_CACHE) Cache entryCache;
+  @Inject EntryCache entryCacheFacade;
 
   @TestHTTPEndpoint(SecureStoreEntryCacheResource.class)
   @TestHTTPResource(tls = true)
@@ -55,38 +65,98 @@ class SecureStoreEntryCacheResourceTest {
 
   @AfterEach
   void tearDown() {
-    await(entryCache.invalidateAll());
+    await(entryCacheFacade.invalidateAll());
   }
 
   @Test
   void getAllEntryKeys_positive() {
-    putInCache(entryCache, KEY1, VALUE1);
     putInCache(entryCache, KEY2, VALUE2);
+    putInCache(entryCache, KEY1, VALUE1);
 
-    givenAdminClient()
+    var body = givenAdminClient()
       .when().get(ssecResourceUrl)
       .then()
       .log().ifValidationFails()
       .assertThat()
       .statusCode(is(SC_OK))
-      .contentType(containsString(APPLICATION_JSON))
-      .body(
-        "", hasSize(2),
-        "[0]", is(KEY1),
-        "[1]", is(KEY2)
-      );
+      .contentType(containsString(APPLICATION_NDJSON))
+      .header(NEXT_CURSOR_HEADER, nullValue())
+      .extract().asString();
+
+    assertThat(body.lines()).containsExactly(quoted(KEY1), quoted(KEY2));
   }
 
   @Test
   void getAllEntryKeys_positive_empty() {
-    givenAdminClient()
+    var body = givenAdminClient()
       .when().get(ssecResourceUrl)
       .then()
       .log().ifValidationFails()
       .assertThat()
       .statusCode(is(SC_OK))
-      .contentType(containsString(APPLICATION_JSON))
-      .body("", hasSize(0));
+      .extract().asString();
+
+    assertThat(body).isBlank();
+  }
+
+  @Test
+  void getAllEntryKeys_positive_paginated() {
+    putInCache(entryCache, "key3", VALUE1);
+    putInCache(entryCache, KEY2, VALUE2);
+    putInCache(entryCache, KEY1, VALUE1);
+
+    var firstPage = givenAdminClient()
+      .queryParam("limit", 2)
+      .when().get(ssecResourceUrl)
+      .then()
+      .log().ifValidationFails()
+      .assertThat()
+      .statusCode(is(SC_OK))
+      .header(NEXT_CURSOR_HEADER, notNullValue())
+      .extract();
+    assertThat(firstPage.asString().lines()).containsExactly(quoted(KEY1), quoted(KEY2));
+
+    var secondPage = givenAdminClient()
+      .queryParam("limit", 2)
+      .queryParam("cursor", firstPage.header(NEXT_CURSOR_HEADER))
+      .when().get(ssecResourceUrl)
+      .then()
+      .log().ifValidationFails()
+      .assertThat()
+      .statusCode(is(SC_OK))
+      .header(NEXT_CURSOR_HEADER, nullValue())
+      .extract().asString();
+    assertThat(secondPage.lines()).containsExactly(quoted("key3"));
+  }
+
+  @Test
+  void getAllEntryKeys_positive_prefix() {
+    putInCache(entryCache, "folio_tenant1_key1", VALUE1);
+    putInCache(entryCache, "folio_tenant2_key1", VALUE1);
+    putInCache(entryCache, KEY1, VALUE1);
+
+    var body = givenAdminClient()
+      .queryParam("prefix", "folio_tenant1_")
+      .when().get(ssecResourceUrl)
+      .then()
+      .log().ifValidationFails()
+      .assertThat()
+      .statusCode(is(SC_OK))
+      .extract().asString();
+
+    assertThat(body.lines()).containsExactly(quoted("folio_tenant1_key1"));
+  }
+
+  @ParameterizedTest(name = "{index} invalid query: {0}={1}")
+  @CsvSource({"limit, 0", "limit, 10001", "cursor, '%%%'"})
+  void getAllEntryKeys_negative_invalidQuery(String name, String value) {
+    givenAdminClient()
+      .queryParam(name, value)
+      .when().get(ssecResourceUrl)
+      .then()
+      .log().ifValidationFails()
+      .assertThat()
+      .statusCode(is(SC_BAD_REQUEST));
   }
 
   @ParameterizedTest(name = "{index} forbidden client: {1}")
@@ -106,6 +176,35 @@ class SecureStoreEntryCacheResourceTest {
       .hasMessageMatching(".*Received fatal alert: (bad_certificate|certificate_required).*");
   }
 
+  @Test
+  void getStats_positive() {
+    entryCacheFacade.put(KEY1, VALUE1);
+    entryCacheFacade.put(KEY2, VALUE2);
+
+    givenAdminClient()
+      .when().get(ssecResourceUrl + "/stats")
+      .then()
+      .log().ifValidationFails()
+      .assertThat()
+      .statusCode(is(SC_OK))
+      .contentType(containsString(APPLICATION_JSON))
+      .body(
+        "size", is(2),
+        "weight", is(340),
+        "maximumWeight", nullValue()
+      );
+  }
+
+  @ParameterizedTest(name = "{index} forbidden client: {1}")
+  @MethodSource("forbiddenClientProvider")
+  void getStats_negative_forbiddenUser(RequestSpecification spec, @SuppressWarnings("unused") String client) {
+    spec.when().get(ssecResourceUrl + "/stats")
+      .then()
+      .log().ifValidationFails()
+      .assertThat()
+      .statusCode(is(SC_FORBIDDEN));
+  }
+
   @Test
   void invalidate_positive() throws Exception {
     putInCache(entryCache, KEY1, VALUE1);
@@ -188,6 +287,22 @@ class SecureStoreEntryCacheResourceTest {
     assertNotCached(entryCache, KEY2);
   }
 
+  @Test
+  void invalidateAll_positive_byPrefix() {
+    entryCacheFacade.put("folio_tenant1_key1", VALUE1);
+    entryCacheFacade.put("folio_tenant2_key1", VALUE2);
+
+    givenAdminClient()
+      .queryParam("prefix", "folio_tenant1_")
+      .when().delete(ssecResourceUrl)
+      .then()
+      .log().ifValidationFails()
+      .assertThat()
+      .statusCode(is(SC_NO_CONTENT));
+
+    assertThat(cachedKeys(entryCacheFacade)).containsExactly("folio_tenant2_key1");
+  }
+
   @Test
   void invalidateAll_positive_withEmptyCache() {
     givenAdminClient()
@@ -217,6 +332,74 @@ class SecureStoreEntryCacheResourceTest {
       .hasMessageMatching(".*Received fatal alert: (bad_certificate|certificate_required).*");
   }
 
+  @Test
+  void receivePeerInvalidation_positive() throws Exception {
+    putInCache(entryCache, KEY1, VALUE1);
+    putInCache(entryCache, KEY2, VALUE2);
+    var batch = InvalidationBatch.of("peer-instance",
+      List.of(InvalidationMessage.of("message-1", KEY1, System.currentTimeMillis(), false)));
+
+    givenAdminClient()
+      .contentType(APPLICATION_JSON)
+      .body(batch)
+      .when().post(ssecResourceUrl + "/_peer-invalidate")
+      .then()
+      .log().ifValidationFails()
+      .assertThat()
+      .statusCode(is(SC_NO_CONTENT));
+
+    assertNotCached(entryCache, KEY1);
+    assertCached(entryCache, KEY2, VALUE2);
+  }
+
+  @Test
+  void receivePeerInvalidation_positive_duplicateIgnored() throws Exception {
+    var batch = InvalidationBatch.of("peer-instance",
+      List.of(InvalidationMessage.of("message-2", KEY1, System.currentTimeMillis(), false)));
+    givenAdminClient().contentType(APPLICATION_JSON).body(batch).post(ssecResourceUrl + "/_peer-invalidate");
+    putInCache(entryCache, KEY1, VALUE1);
+
+    givenAdminClient()
+      .contentType(APPLICATION_JSON)
+      .body(batch)
+      .when().post(ssecResourceUrl + "/_peer-invalidate")
+      .then()
+      .log().ifValidationFails()
+      .assertThat()
+      .statusCode(is(SC_NO_CONTENT));
+
+    assertCached(entryCache, KEY1, VALUE1);
+  }
+
+  @Test
+  void receivePeerInvalidation_negative_emptyBatch() {
+    givenAdminClient()
+      .contentType(APPLICATION_JSON)
+      .body(InvalidationBatch.of("peer-instance", List.of()))
+      .when().post(ssecResourceUrl + "/_peer-invalidate")
+      .then()
+      .log().ifValidationFails()
+      .assertThat()
+      .statusCode(is(SC_BAD_REQUEST));
+  }
+
+  @ParameterizedTest(name = "{index} forbidden client: {1}")
+  @MethodSource("forbiddenClientProvider")
+  void receivePeerInvalidation_negative_forbiddenUser(RequestSpecification spec,
+    @SuppressWarnings("unused") String client) {
+    spec.contentType(APPLICATION_JSON)
+      .body(InvalidationBatch.of("peer-instance", List.of(InvalidationMessage.of("message-3", KEY1, 0, false))))
+      .when().post(ssecResourceUrl + "/_peer-invalidate")
+      .then()
+      .log().ifValidationFails()
+      .assertThat()
+      .statusCode(is(SC_FORBIDDEN));
+  }
+
+  private static String quoted(String key) {
+    return '"' + key + '"';
+  }
+
   private static Stream<Arguments> forbiddenClientProvider() {
     return Stream.of(
       Arguments.of(givenUserClient(), "FSSP User"),
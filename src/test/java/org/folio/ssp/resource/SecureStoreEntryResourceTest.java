@@ -1,15 +1,20 @@
 package org.folio.ssp.resource;
 
+import static jakarta.ws.rs.core.HttpHeaders.ETAG;
+import static jakarta.ws.rs.core.HttpHeaders.IF_NONE_MATCH;
 import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
 import static org.apache.commons.lang3.StringUtils.SPACE;
 import static org.apache.http.HttpStatus.SC_BAD_REQUEST;
 import static org.apache.http.HttpStatus.SC_FORBIDDEN;
 import static org.apache.http.HttpStatus.SC_NOT_FOUND;
+import static org.apache.http.HttpStatus.SC_NOT_MODIFIED;
 import static org.apache.http.HttpStatus.SC_NO_CONTENT;
 import static org.apache.http.HttpStatus.SC_OK;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.folio.ssp.SecureStoreConstants.ENTRY_CACHE;
+import static org.folio.ssp.SecureStoreConstants.NEGATIVE_ENTRY_CACHE;
+import static org.folio.ssp.SecureStoreConstants.UNCHANGED_ENTRY_HEADER;
 import static org.folio.ssp.model.error.ErrorCode.VALIDATION_ERROR;
 import static org.folio.ssp.support.AssertionUtils.assertCached;
 import static org.folio.ssp.support.AssertionUtils.assertNotCached;
@@ -18,11 +23,18 @@ import static org.folio.ssp.support.RestUtils.givenForbiddenUserClient;
 import static org.folio.ssp.support.RestUtils.givenUnauthorizedUserClient;
 import static org.folio.ssp.support.RestUtils.givenUserClient;
 import static org.folio.ssp.support.TestConstants.KEY1;
+import static org.folio.ssp.support.TestConstants.KEY2;
 import static org.folio.ssp.support.TestConstants.VALUE1;
 import static org.folio.ssp.support.TestConstants.VALUE2;
 import static org.folio.ssp.support.TestUtils.await;
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.emptyString;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
 
 import io.quarkus.cache.Cache;
 import io.quarkus.cache.CacheName;
@@ -33,9 +45,11 @@ import io.quarkus.test.junit.TestProfile;
 import io.restassured.http.ContentType;
 import io.restassured.specification.RequestSpecification;
 import jakarta.inject.Inject;
+import java.util.List;
 import java.util.stream.Stream;
 import javax.net.ssl.SSLHandshakeException;
 import org.folio.ssp.model.SecureStoreEntry;
+import org.folio.ssp.model.batch.BatchGetRequest;
 import org.folio.ssp.model.error.ErrorCode;
 import org.folio.ssp.support.profile.InMemorySecureStoreTestProfile;
 import org.folio.support.types.UnitTest;
@@ -53,6 +67,7 @@ class SecureStoreEntryResourceTest {
 
   @Inject InMemorySecureStore secureStore;
   @Inject @CacheName(ENTRY_CACHE) Cache entryCache;
+  @Inject @CacheName(NEGATIVE_ENTRY_CACHE) Cache negativeEntryCache;
 
   @TestHTTPEndpoint(SecureStoreEntryResource.class)
   @TestHTTPResource(tls = true)
@@ -62,6 +77,7 @@ class SecureStoreEntryResourceTest {
   void tearDown() {
     secureStore.getData().clear();
     await(entryCache.invalidateAll());
+    await(negativeEntryCache.invalidateAll());
   }
 
   @ParameterizedTest(name = "{index} authorized client: {1}")
@@ -116,6 +132,52 @@ class SecureStoreEntryResourceTest {
         "total_records", is(1));
   }
 
+  @Test
+  void getEntry_positive_notModified() {
+    secureStore.set(KEY1, VALUE1);
+    var entityTag = givenUserClient().when().get(sseResourceUrl + "/{key}", KEY1)
+      .then()
+      .statusCode(is(SC_OK))
+      .header(ETAG, notNullValue())
+      .extract().header(ETAG);
+    secureStore.getData().clear();
+
+    givenUserClient()
+      .header(IF_NONE_MATCH, entityTag)
+      .when().get(sseResourceUrl + "/{key}", KEY1)
+      .then()
+      .log().ifValidationFails()
+      .assertThat()
+      .statusCode(is(SC_NOT_MODIFIED))
+      .header(ETAG, is(entityTag))
+      .body(is(emptyString()));
+  }
+
+  @Test
+  void getEntry_positive_modified() {
+    secureStore.set(KEY1, VALUE1);
+    var entityTag = givenUserClient().when().get(sseResourceUrl + "/{key}", KEY1)
+      .then()
+      .statusCode(is(SC_OK))
+      .extract().header(ETAG);
+    givenUserClient()
+      .contentType(ContentType.JSON)
+      .body(SecureStoreEntry.of(KEY1, VALUE2))
+      .when().put(sseResourceUrl + "/{key}", KEY1)
+      .then()
+      .statusCode(is(SC_NO_CONTENT));
+
+    givenUserClient()
+      .header(IF_NONE_MATCH, entityTag)
+      .when().get(sseResourceUrl + "/{key}", KEY1)
+      .then()
+      .log().ifValidationFails()
+      .assertThat()
+      .statusCode(is(SC_OK))
+      .header(ETAG, not(is(entityTag)))
+      .body("value", is(VALUE2));
+  }
+
   @Test
   void getEntry_negative_forbiddenUser() {
     givenForbiddenUserClient()
@@ -133,6 +195,93 @@ class SecureStoreEntryResourceTest {
       .hasMessageMatching(".*Received fatal alert: (bad_certificate|certificate_required).*");
   }
 
+  @ParameterizedTest(name = "{index} authorized client: {1}")
+  @MethodSource("authorizedClientProvider")
+  void getEntries_positive(RequestSpecification spec, @SuppressWarnings("unused") String client) throws Exception {
+    secureStore.set(KEY1, VALUE1);
+
+    spec
+      .contentType(ContentType.JSON)
+      .body(BatchGetRequest.of(List.of(KEY1, KEY2)))
+      .when().post(sseResourceUrl + "/_batch-get")
+      .then()
+      .log().ifValidationFails()
+      .assertThat()
+      .statusCode(is(SC_OK))
+      .contentType(containsString(APPLICATION_JSON))
+      .body(
+        "entries.key", contains(KEY1),
+        "entries.value", contains(VALUE1),
+        "notFound", contains(KEY2),
+        "errors", is(empty()));
+
+    assertCached(entryCache, KEY1, VALUE1);
+    assertNotCached(entryCache, KEY2);
+  }
+
+  @Test
+  void getEntries_positive_allNotFound() {
+    givenUserClient()
+      .contentType(ContentType.JSON)
+      .body(BatchGetRequest.of(List.of(KEY1)))
+      .when().post(sseResourceUrl + "/_batch-get")
+      .then()
+      .log().ifValidationFails()
+      .assertThat()
+      .statusCode(is(SC_OK))
+      .body(
+        "entries", is(empty()),
+        "notFound", contains(KEY1));
+  }
+
+  @Test
+  void getEntries_negative_emptyKeys() {
+    givenUserClient()
+      .contentType(ContentType.JSON)
+      .body(BatchGetRequest.of(List.of()))
+      .when().post(sseResourceUrl + "/_batch-get")
+      .then()
+      .log().ifValidationFails()
+      .assertThat()
+      .statusCode(is(SC_BAD_REQUEST))
+      .contentType(containsString(APPLICATION_JSON))
+      .body(
+        "errors[0].type", is("ConstraintViolationException"),
+        "errors[0].code", is(VALIDATION_ERROR.getValue()),
+        "errors[0].parameters[0].key", is("getEntries.request.keys"),
+        "total_records", is(1));
+  }
+
+  @Test
+  void getEntries_negative_blankKey() {
+    givenUserClient()
+      .contentType(ContentType.JSON)
+      .body(BatchGetRequest.of(List.of(KEY1, SPACE)))
+      .when().post(sseResourceUrl + "/_batch-get")
+      .then()
+      .log().ifValidationFails()
+      .assertThat()
+      .statusCode(is(SC_BAD_REQUEST))
+      .contentType(containsString(APPLICATION_JSON))
+      .body(
+        "errors[0].type", is("ConstraintViolationException"),
+        "errors[0].code", is(VALIDATION_ERROR.getValue()),
+        "errors[0].parameters[0].value", is("Key must not be blank"),
+        "total_records", is(1));
+  }
+
+  @Test
+  void getEntries_negative_forbiddenUser() {
+    givenForbiddenUserClient()
+      .contentType(ContentType.JSON)
+      .body(BatchGetRequest.of(List.of(KEY1)))
+      .when().post(sseResourceUrl + "/_batch-get")
+      .then()
+      .log().ifValidationFails()
+      .assertThat()
+      .statusCode(is(SC_FORBIDDEN));
+  }
+
   @ParameterizedTest(name = "{index} authorized client: {1}")
   @MethodSource("authorizedClientProvider")
   void setEntry_positive_entryCreated(RequestSpecification spec, @SuppressWarnings("unused") String client)
@@ -173,6 +322,36 @@ class SecureStoreEntryResourceTest {
     assertCached(entryCache, KEY1, VALUE2);
   }
 
+  @Test
+  void setEntry_positive_unchangedValueWrittenByDefault() {
+    SecureStoreEntry entry = SecureStoreEntry.of(KEY1, VALUE1);
+
+    givenUserClient()
+      .contentType(ContentType.JSON)
+      .body(entry)
+      .when().put(sseResourceUrl + "/{key}", KEY1)
+      .then()
+      .log().ifValidationFails()
+      .assertThat()
+      .statusCode(is(SC_NO_CONTENT))
+      .header(UNCHANGED_ENTRY_HEADER, nullValue());
+
+    secureStore.getData().clear();
+
+    givenUserClient()
+      .contentType(ContentType.JSON)
+      .body(entry)
+      .when().put(sseResourceUrl + "/{key}", KEY1)
+      .then()
+      .log().ifValidationFails()
+      .assertThat()
+      .statusCode(is(SC_NO_CONTENT))
+      .header(UNCHANGED_ENTRY_HEADER, nullValue());
+
+    // skipping of unchanged writes is disabled by default, so the second write reached the secure store
+    assertThat(secureStore.get(KEY1)).isEqualTo(VALUE1);
+  }
+
   @ParameterizedTest(name = "{index} authorized client: {1}")
   @MethodSource("authorizedClientProvider")
   void setEntry_negative_blankKey(RequestSpecification spec, @SuppressWarnings("unused") String client) {
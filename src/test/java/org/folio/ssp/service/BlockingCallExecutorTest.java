@@ -0,0 +1,95 @@
+package org.folio.ssp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.folio.ssp.support.TestUtils.await;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.quarkus.test.junit.QuarkusTest;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import jakarta.inject.Inject;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import org.folio.ssp.configuration.ExecutionProperties.ExecutionMode;
+import org.folio.support.types.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+@QuarkusTest
+class BlockingCallExecutorTest {
+
+  @Inject BlockingCallExecutor executor;
+  @Inject MeterRegistry meterRegistry;
+
+  @Test
+  void execute_positive_workerPool() {
+    var waitCountBefore = waitTimerCount();
+
+    var thread = await(executor.execute(Thread::currentThread));
+
+    assertThat(thread.isVirtual()).isFalse();
+    assertThat(thread.getName()).contains("executor-thread");
+    assertThat(waitTimerCount()).isEqualTo(waitCountBefore + 1);
+    assertThat(meterRegistry.get(BlockingCallExecutor.ACTIVE_METRIC).tag("mode", "worker_pool").gauge().value())
+      .isZero();
+  }
+
+  @Test
+  @SuppressWarnings("java:S5778")
+  void execute_negative_failurePropagated() {
+    assertThatThrownBy(() -> await(executor.execute(() -> {
+      throw new IllegalStateException("Backend failure");
+    })))
+      .isInstanceOf(IllegalStateException.class)
+      .hasMessage("Backend failure");
+  }
+
+  @Test
+  void execute_negative_rejectedCallNotPending() {
+    var rejectingExecutor = Executors.newSingleThreadExecutor();
+    rejectingExecutor.shutdown();
+    var registry = new SimpleMeterRegistry();
+    var rejectingCallExecutor = new BlockingCallExecutor(() -> ExecutionMode.VIRTUAL_THREADS, rejectingExecutor,
+      registry);
+
+    assertThatThrownBy(() -> await(rejectingCallExecutor.execute(() -> "value")))
+      .isInstanceOf(RejectedExecutionException.class);
+    assertThat(pendingGauge(registry)).isZero();
+  }
+
+  @Test
+  void execute_positive_cancelledCallNotPending() {
+    var busyExecutor = Executors.newSingleThreadExecutor();
+    var released = new CountDownLatch(1);
+    busyExecutor.execute(() -> awaitQuietly(released));
+    var registry = new SimpleMeterRegistry();
+    var busyCallExecutor = new BlockingCallExecutor(() -> ExecutionMode.VIRTUAL_THREADS, busyExecutor, registry);
+
+    var subscriber = busyCallExecutor.execute(() -> "value").subscribe().withSubscriber(UniAssertSubscriber.create());
+    assertThat(pendingGauge(registry)).isEqualTo(1);
+
+    subscriber.cancel();
+    released.countDown();
+    busyExecutor.close();
+
+    assertThat(pendingGauge(registry)).isZero();
+  }
+
+  private static double pendingGauge(MeterRegistry registry) {
+    return registry.get(BlockingCallExecutor.PENDING_METRIC).tag("mode", "virtual_threads").gauge().value();
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private long waitTimerCount() {
+    return meterRegistry.get(BlockingCallExecutor.WAIT_TIME_METRIC).tag("mode", "worker_pool").timer().count();
+  }
+}
@@ -0,0 +1,30 @@
+package org.folio.ssp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.ssp.support.TestUtils.await;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import org.folio.ssp.support.profile.VirtualThreadsTestProfile;
+import org.folio.support.types.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+@QuarkusTest
+@TestProfile(VirtualThreadsTestProfile.class)
+class BlockingCallExecutorVirtualThreadsTest {
+
+  @Inject BlockingCallExecutor executor;
+  @Inject MeterRegistry meterRegistry;
+
+  @Test
+  void execute_positive_virtualThreads() {
+    var thread = await(executor.execute(Thread::currentThread));
+
+    assertThat(thread.isVirtual()).isTrue();
+    assertThat(meterRegistry.get(BlockingCallExecutor.WAIT_TIME_METRIC).tag("mode", "virtual_threads").timer().count())
+      .isPositive();
+  }
+}
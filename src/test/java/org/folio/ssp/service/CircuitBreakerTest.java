@@ -0,0 +1,216 @@
+package org.folio.ssp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.folio.ssp.support.TestUtils.await;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.awaitility.Awaitility;
+import org.folio.ssp.configuration.CircuitBreakerProperties;
+import org.folio.ssp.exception.CircuitBreakerOpenException;
+import org.folio.ssp.service.CircuitBreaker.State;
+import org.folio.support.types.UnitTest;
+import org.folio.tools.store.exception.SecretNotFoundException;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class CircuitBreakerTest {
+
+  private static final Duration WAIT_IN_OPEN_STATE = Duration.ofMinutes(1);
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @Test
+  void execute_positive_closedWhileFailureRateBelowThreshold() {
+    var breaker = breaker(Duration.ofMinutes(1), WAIT_IN_OPEN_STATE);
+
+    succeed(breaker, 3);
+    fail(breaker, 1);
+
+    assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+    assertThat(breaker.getFailureRate()).isEqualTo(25);
+    assertThat(await(breaker.execute(() -> Uni.createFrom().item("value")))).isEqualTo("value");
+  }
+
+  @Test
+  void execute_negative_openedByFailureRateAndFailsFast() {
+    var breaker = breaker(Duration.ofMinutes(1), WAIT_IN_OPEN_STATE);
+    var calls = new AtomicInteger();
+
+    succeed(breaker, 2);
+    fail(breaker, 2);
+
+    assertThat(breaker.getState()).isEqualTo(State.OPEN);
+    assertThatThrownBy(() -> await(breaker.execute(() -> Uni.createFrom().item(calls::incrementAndGet))))
+      .isInstanceOf(CircuitBreakerOpenException.class)
+      .hasMessage("Secure store is unavailable, circuit breaker is open")
+      .isInstanceOfSatisfying(CircuitBreakerOpenException.class, error ->
+        assertThat(error.getRetryAfter()).isPositive().isLessThanOrEqualTo(WAIT_IN_OPEN_STATE));
+    assertThat(calls).hasValue(0);
+    assertThat(meterRegistry.get(CircuitBreaker.CALLS_METRIC).tag("outcome", "rejected").counter().count())
+      .isEqualTo(1);
+    assertThat(meterRegistry.get(CircuitBreaker.STATE_METRIC).tag("state", "open").gauge().value()).isEqualTo(1);
+  }
+
+  @Test
+  void execute_negative_openedBySlowCallRate() {
+    var breaker = breaker(Duration.ZERO, WAIT_IN_OPEN_STATE);
+
+    succeed(breaker, 4);
+
+    assertThat(breaker.getState()).isEqualTo(State.OPEN);
+    assertThat(breaker.getSlowCallRate()).isEqualTo(100);
+  }
+
+  @Test
+  void execute_positive_notFoundIsNotFailure() {
+    var breaker = breaker(Duration.ofMinutes(1), WAIT_IN_OPEN_STATE);
+
+    for (int i = 0; i < 4; i++) {
+      assertThatThrownBy(() -> await(breaker.execute(() -> Uni.createFrom().failure(new SecretNotFoundException("")))))
+        .isInstanceOf(SecretNotFoundException.class);
+    }
+
+    assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+    assertThat(breaker.getFailureRate()).isZero();
+  }
+
+  @Test
+  void execute_positive_halfOpenProbesLimitedAndCloseCircuit() {
+    var breaker = breaker(Duration.ofMinutes(1), Duration.ZERO);
+    fail(breaker, 4);
+    assertThat(breaker.getState()).isEqualTo(State.HALF_OPEN);
+
+    var firstProbe = new CompletableFuture<String>();
+    var secondProbe = new CompletableFuture<String>();
+    var firstResult = breaker.execute(() -> Uni.createFrom().completionStage(firstProbe))
+      .subscribe().withSubscriber(UniAssertSubscriber.create());
+    var secondResult = breaker.execute(() -> Uni.createFrom().completionStage(secondProbe))
+      .subscribe().withSubscriber(UniAssertSubscriber.create());
+
+    assertThatThrownBy(() -> await(breaker.execute(() -> Uni.createFrom().item("third"))))
+      .isInstanceOf(CircuitBreakerOpenException.class);
+
+    firstProbe.complete("first");
+    secondProbe.complete("second");
+
+    firstResult.assertItem("first");
+    secondResult.assertItem("second");
+    assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+    assertThat(breaker.getFailureRate()).isZero();
+  }
+
+  @Test
+  void execute_negative_failedProbeReopensCircuit() {
+    var breaker = breaker(Duration.ofMinutes(1), Duration.ofMillis(200));
+    fail(breaker, 4);
+    awaitHalfOpen(breaker);
+
+    fail(breaker, 1);
+
+    assertThat(breaker.getState()).isEqualTo(State.OPEN);
+    assertThatThrownBy(() -> await(breaker.execute(() -> Uni.createFrom().item("value"))))
+      .isInstanceOf(CircuitBreakerOpenException.class);
+
+    awaitHalfOpen(breaker);
+    succeed(breaker, 2);
+    assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+  }
+
+  @Test
+  void execute_positive_disabled() {
+    var properties = new TestProperties(false, 50, Duration.ZERO, 80, 4, 4, WAIT_IN_OPEN_STATE, 2);
+    var breaker = new CircuitBreaker(properties, meterRegistry);
+
+    fail(breaker, 10);
+
+    assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+  }
+
+  @Test
+  void executeBlocking_positive_waitForWorkerNotCountedAsSlow() {
+    var breaker = breaker(Duration.ofMillis(100), WAIT_IN_OPEN_STATE);
+    Function<Supplier<String>, Uni<String>> queuedExecutor = supplier -> Uni.createFrom().voidItem()
+      .onItem().delayIt().by(Duration.ofMillis(200))
+      .map(ignored -> supplier.get());
+
+    for (int i = 0; i < 4; i++) {
+      assertThat(await(breaker.executeBlocking(queuedExecutor, () -> "value"))).isEqualTo("value");
+    }
+
+    assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+    assertThat(breaker.getSlowCallRate()).isZero();
+  }
+
+  @Test
+  void executeBlocking_positive_callsNotStartedAreNotRecorded() {
+    var breaker = breaker(Duration.ofMinutes(1), WAIT_IN_OPEN_STATE);
+    Function<Supplier<String>, Uni<String>> rejectingExecutor =
+      supplier -> Uni.createFrom().failure(new RejectedExecutionException("Worker pool is saturated"));
+
+    for (int i = 0; i < 4; i++) {
+      assertThatThrownBy(() -> await(breaker.executeBlocking(rejectingExecutor, () -> "value")))
+        .isInstanceOf(RejectedExecutionException.class);
+    }
+
+    assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+    assertThat(breaker.getFailureRate()).isZero();
+  }
+
+  @Test
+  void executeBlocking_negative_slowStoreCallCounted() {
+    var breaker = breaker(Duration.ofMillis(50), WAIT_IN_OPEN_STATE);
+    Function<Supplier<String>, Uni<String>> executor = supplier -> Uni.createFrom().item(supplier);
+
+    for (int i = 0; i < 4; i++) {
+      await(breaker.executeBlocking(executor, () -> {
+        sleep(Duration.ofMillis(100));
+        return "value";
+      }));
+    }
+
+    assertThat(breaker.getState()).isEqualTo(State.OPEN);
+  }
+
+  private CircuitBreaker breaker(Duration slowCallDuration, Duration waitInOpenState) {
+    var properties = new TestProperties(true, 50, slowCallDuration, 80, 4, 4, waitInOpenState, 2);
+    return new CircuitBreaker(properties, meterRegistry);
+  }
+
+  private static void awaitHalfOpen(CircuitBreaker breaker) {
+    Awaitility.await().atMost(Duration.ofSeconds(5)).until(() -> breaker.getState() == State.HALF_OPEN);
+  }
+
+  private static void succeed(CircuitBreaker breaker, int times) {
+    for (int i = 0; i < times; i++) {
+      await(breaker.execute(() -> Uni.createFrom().item("value")));
+    }
+  }
+
+  private static void fail(CircuitBreaker breaker, int times) {
+    for (int i = 0; i < times; i++) {
+      assertThatThrownBy(() -> await(breaker.execute(() -> Uni.createFrom().failure(new IllegalStateException()))))
+        .isInstanceOf(IllegalStateException.class);
+    }
+  }
+
+  private static void sleep(Duration duration) {
+    try {
+      Thread.sleep(duration);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private record TestProperties(boolean enabled, int failureRateThreshold, Duration slowCallDuration,
+    int slowCallRateThreshold, int windowSize, int minimumCalls, Duration waitInOpenState, int halfOpenProbes)
+    implements CircuitBreakerProperties {}
+}
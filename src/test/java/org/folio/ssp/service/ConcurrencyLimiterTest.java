@@ -0,0 +1,116 @@
+package org.folio.ssp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.folio.ssp.support.TestUtils.await;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import org.folio.ssp.configuration.ConcurrencyLimitProperties;
+import org.folio.ssp.exception.ConcurrencyLimitExceededException;
+import org.folio.support.types.UnitTest;
+import org.folio.tools.store.exception.SecretNotFoundException;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class ConcurrencyLimiterTest {
+
+  private static final Duration RETRY_AFTER = Duration.ofSeconds(2);
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @Test
+  void execute_positive_queuedUntilPermitReleased() {
+    var limiter = limiter(1, 1);
+    var first = new CompletableFuture<String>();
+
+    var firstResult = limiter.execute(() -> Uni.createFrom().completionStage(first))
+      .subscribe().withSubscriber(UniAssertSubscriber.create());
+    var secondResult = limiter.execute(() -> Uni.createFrom().item("second"))
+      .subscribe().withSubscriber(UniAssertSubscriber.create());
+
+    assertThat(limiter.getInFlight()).isEqualTo(1);
+    assertThat(limiter.getQueued()).isEqualTo(1);
+    secondResult.assertNotTerminated();
+
+    first.complete("first");
+
+    firstResult.assertItem("first");
+    secondResult.assertItem("second");
+    assertThat(limiter.getInFlight()).isZero();
+    assertThat(limiter.getQueued()).isZero();
+  }
+
+  @Test
+  void execute_negative_rejectedWhenQueueIsFull() {
+    var limiter = limiter(1, 1);
+
+    limiter.execute(() -> Uni.createFrom().nothing()).subscribe().with(item -> { });
+    limiter.execute(() -> Uni.createFrom().nothing()).subscribe().with(item -> { });
+
+    assertThatThrownBy(() -> await(limiter.execute(() -> Uni.createFrom().item("value"))))
+      .isInstanceOf(ConcurrencyLimitExceededException.class)
+      .hasMessage("Too many concurrent requests to the secure store")
+      .extracting("retryAfter").isEqualTo(RETRY_AFTER);
+    assertThat(meterRegistry.get(ConcurrencyLimiter.REJECTED_METRIC).counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  void execute_positive_cancelledWhileQueued() {
+    var limiter = limiter(1, 1);
+    var first = new CompletableFuture<String>();
+
+    limiter.execute(() -> Uni.createFrom().completionStage(first)).subscribe().with(item -> { });
+    var queued = limiter.execute(() -> Uni.createFrom().item("queued"))
+      .subscribe().withSubscriber(UniAssertSubscriber.create());
+
+    queued.cancel();
+    first.complete("first");
+
+    assertThat(limiter.getQueued()).isZero();
+    assertThat(limiter.getInFlight()).isZero();
+  }
+
+  @Test
+  void execute_positive_limitIncreasedOnSuccess() {
+    var limiter = limiter(2, 10);
+
+    for (int i = 0; i < 4; i++) {
+      await(limiter.execute(() -> Uni.createFrom().item("value")));
+    }
+
+    assertThat(limiter.getLimit()).isEqualTo(3);
+    assertThat(meterRegistry.get(ConcurrencyLimiter.LIMIT_METRIC).gauge().value()).isEqualTo(3);
+  }
+
+  @Test
+  void execute_positive_limitDecreasedOnBackendFailure() {
+    var limiter = limiter(10, 10);
+
+    assertThatThrownBy(() -> await(limiter.execute(() -> Uni.createFrom().failure(new IllegalStateException()))))
+      .isInstanceOf(IllegalStateException.class);
+
+    assertThat(limiter.getLimit()).isEqualTo(5);
+  }
+
+  @Test
+  void execute_positive_limitNotChangedOnNotFound() {
+    var limiter = limiter(10, 10);
+
+    assertThatThrownBy(() -> await(limiter.execute(() -> Uni.createFrom().failure(new SecretNotFoundException("")))))
+      .isInstanceOf(SecretNotFoundException.class);
+
+    assertThat(limiter.getLimit()).isEqualTo(10);
+  }
+
+  private ConcurrencyLimiter limiter(int initialLimit, int maxLimit) {
+    var properties = new TestProperties(true, initialLimit, 1, maxLimit, 0.5, Duration.ofSeconds(10), 1, RETRY_AFTER);
+    return new ConcurrencyLimiter(properties, meterRegistry);
+  }
+
+  private record TestProperties(boolean enabled, int initialLimit, int minLimit, int maxLimit, double backoffRatio,
+    Duration latencyThreshold, int maxQueueSize, Duration retryAfter) implements ConcurrencyLimitProperties {}
+}
@@ -0,0 +1,57 @@
+package org.folio.ssp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Base64;
+import java.util.Optional;
+import org.folio.ssp.configuration.EntityTagProperties;
+import org.folio.support.types.UnitTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@UnitTest
+class EntityTagGeneratorTest {
+
+  private static final String KEY1 = "folio_tenant1_key1";
+  private static final String KEY2 = "folio_tenant1_key2";
+  private static final String HMAC_KEY = Base64.getEncoder().encodeToString(new byte[32]);
+
+  @Test
+  void generate_positive() {
+    var generator = new EntityTagGenerator(new TestProperties(Optional.of(HMAC_KEY)));
+
+    var entityTag = generator.generate(KEY1, "value1");
+
+    assertThat(entityTag).matches("\"[A-Za-z0-9_-]{22}\"");
+    assertThat(new EntityTagGenerator(new TestProperties(Optional.of(HMAC_KEY))).generate(KEY1, "value1"))
+      .isEqualTo(entityTag);
+    assertThat(generator.generate(KEY1, "value2")).isNotEqualTo(entityTag);
+    assertThat(generator.generate(KEY2, "value1")).isNotEqualTo(entityTag);
+  }
+
+  @Test
+  void generate_positive_randomKey() {
+    var first = new EntityTagGenerator(new TestProperties(Optional.empty()));
+    var second = new EntityTagGenerator(new TestProperties(Optional.empty()));
+
+    assertThat(first.generate(KEY1, "value1")).isEqualTo(first.generate(KEY1, "value1"));
+    assertThat(first.generate(KEY1, "value1")).isNotEqualTo(second.generate(KEY1, "value1"));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"\"tag\"", "W/\"tag\"", "\"other\", \"tag\"", "\"other\",W/\"tag\"", "*"})
+  void matches_positive(String ifNoneMatch) {
+    assertThat(EntityTagGenerator.matches(ifNoneMatch, "\"tag\"")).isTrue();
+  }
+
+  @ParameterizedTest
+  @NullAndEmptySource
+  @ValueSource(strings = {"\"other\"", "tag", "\"tag", "\"other\", W/\"tag2\""})
+  void matches_negative(String ifNoneMatch) {
+    assertThat(EntityTagGenerator.matches(ifNoneMatch, "\"tag\"")).isFalse();
+  }
+
+  private record TestProperties(Optional<String> key) implements EntityTagProperties {}
+}
@@ -0,0 +1,111 @@
+package org.folio.ssp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.ssp.support.TestConstants.KEY1;
+import static org.folio.ssp.support.TestConstants.KEY2;
+import static org.folio.ssp.support.TestConstants.VALUE1;
+import static org.folio.ssp.support.TestConstants.VALUE2;
+import static org.folio.ssp.support.TestUtils.await;
+import static org.folio.ssp.support.profile.EntryCacheSnapshotTestProfile.ENCRYPTION_KEY;
+import static org.folio.ssp.support.profile.EntryCacheSnapshotTestProfile.SNAPSHOT_PATH;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import io.quarkus.test.InjectMock;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import javax.crypto.spec.SecretKeySpec;
+import org.awaitility.Awaitility;
+import org.folio.ssp.cache.EntryCache;
+import org.folio.ssp.cache.EntryCacheSnapshotCodec;
+import org.folio.ssp.cache.SnapshotEntry;
+import org.folio.ssp.configuration.Configured;
+import org.folio.ssp.support.profile.EntryCacheSnapshotTestProfile;
+import org.folio.support.types.UnitTest;
+import org.folio.tools.store.SecureStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+@QuarkusTest
+@TestProfile(EntryCacheSnapshotTestProfile.class)
+class EntryCacheSnapshotServiceTest {
+
+  private static final Path SNAPSHOT = Path.of(SNAPSHOT_PATH);
+
+  @InjectMock @Configured SecureStore secureStore;
+  @Inject EntryCache entryCache;
+  @Inject EntryCacheSnapshotService snapshotService;
+
+  @AfterEach
+  void tearDown() throws Exception {
+    await(entryCache.invalidateAll());
+    Files.deleteIfExists(SNAPSHOT);
+    verifyNoMoreInteractions(secureStore);
+  }
+
+  @Test
+  void restore_positive_entriesWrittenBySnapshot() {
+    entryCache.put(KEY1, VALUE1);
+    entryCache.put(KEY2, VALUE2);
+    snapshotService.write();
+    await(entryCache.invalidateAll());
+
+    var restored = snapshotService.restore();
+
+    assertThat(restored).isEqualTo(2);
+    assertThat(entryCache.getIfPresent(KEY1)).hasValue(VALUE1);
+    assertThat(entryCache.getIfPresent(KEY2)).hasValue(VALUE2);
+  }
+
+  @Test
+  void restore_positive_newerCachedValueKept() {
+    entryCache.put(KEY1, VALUE1);
+    snapshotService.write();
+    entryCache.put(KEY1, VALUE2);
+
+    var restored = snapshotService.restore();
+
+    assertThat(restored).isZero();
+    assertThat(entryCache.getIfPresent(KEY1)).hasValue(VALUE2);
+  }
+
+  @Test
+  void restore_positive_oldEntriesRevalidatedAndExpiredDropped() throws Exception {
+    when(secureStore.get(KEY1)).thenReturn(VALUE2);
+    var now = System.currentTimeMillis();
+    codec().write(SNAPSHOT, List.of(
+      new SnapshotEntry(KEY1, VALUE1, now - Duration.ofHours(2).toMillis()),
+      new SnapshotEntry(KEY2, VALUE2, now - Duration.ofHours(25).toMillis())));
+
+    var restored = snapshotService.restore();
+
+    assertThat(restored).isEqualTo(1);
+    assertThat(entryCache.getIfPresent(KEY2)).isEmpty();
+    Awaitility.await().atMost(Duration.ofSeconds(5))
+      .untilAsserted(() -> assertThat(entryCache.getIfPresent(KEY1)).hasValue(VALUE2));
+
+    verify(secureStore, times(1)).get(KEY1);
+  }
+
+  @Test
+  void restore_negative_snapshotNotReadable() throws Exception {
+    Files.writeString(SNAPSHOT, "corrupted");
+
+    var restored = snapshotService.restore();
+
+    assertThat(restored).isZero();
+  }
+
+  private static EntryCacheSnapshotCodec codec() {
+    return new EntryCacheSnapshotCodec(new SecretKeySpec(Base64.getDecoder().decode(ENCRYPTION_KEY), "AES"));
+  }
+}
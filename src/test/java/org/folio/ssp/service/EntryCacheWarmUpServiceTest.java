@@ -0,0 +1,96 @@
+package org.folio.ssp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.ssp.SecureStoreConstants.ENTRY_CACHE;
+import static org.folio.ssp.SecureStoreConstants.NEGATIVE_ENTRY_CACHE;
+import static org.folio.ssp.support.AssertionUtils.assertCached;
+import static org.folio.ssp.support.AssertionUtils.assertNotCached;
+import static org.folio.ssp.support.TestConstants.KEY1;
+import static org.folio.ssp.support.TestConstants.KEY2;
+import static org.folio.ssp.support.TestConstants.VALUE1;
+import static org.folio.ssp.support.TestConstants.VALUE2;
+import static org.folio.ssp.support.TestUtils.await;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.test.InjectMock;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import java.util.List;
+import org.folio.ssp.configuration.Configured;
+import org.folio.ssp.service.EntryCacheWarmUpService.WarmUpProgress;
+import org.folio.ssp.service.EntryCacheWarmUpService.WarmUpState;
+import org.folio.support.types.UnitTest;
+import org.folio.tools.store.SecureStore;
+import org.folio.tools.store.exception.SecretNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+@QuarkusTest
+class EntryCacheWarmUpServiceTest {
+
+  @InjectMock @Configured SecureStore secureStore;
+  @Inject @CacheName(ENTRY_CACHE) Cache entryCache;
+  @Inject @CacheName(NEGATIVE_ENTRY_CACHE) Cache negativeEntryCache;
+  @Inject CircuitBreaker circuitBreaker;
+  @Inject EntryCacheWarmUpService warmUpService;
+
+  @AfterEach
+  void tearDown() {
+    await(entryCache.invalidateAll());
+    await(negativeEntryCache.invalidateAll());
+    circuitBreaker.reset();
+    verifyNoMoreInteractions(secureStore);
+  }
+
+  @Test
+  void getProgress_positive_disabledByDefault() {
+    var progress = warmUpService.getProgress();
+
+    assertThat(progress.state()).isIn(WarmUpState.DISABLED, WarmUpState.COMPLETED);
+    assertThat(progress.isFinished()).isTrue();
+  }
+
+  @Test
+  void warmUp_positive() throws Exception {
+    when(secureStore.get(KEY1)).thenReturn(VALUE1);
+    when(secureStore.get(KEY2)).thenReturn(VALUE2);
+
+    var progress = await(warmUpService.warmUp(List.of(KEY1, KEY2)));
+
+    assertThat(progress).isEqualTo(new WarmUpProgress(WarmUpState.COMPLETED, 2, 2, 0));
+    assertThat(warmUpService.getProgress()).isEqualTo(progress);
+    assertCached(entryCache, KEY1, VALUE1);
+    assertCached(entryCache, KEY2, VALUE2);
+
+    verify(secureStore, times(1)).get(KEY1);
+    verify(secureStore, times(1)).get(KEY2);
+  }
+
+  @Test
+  void warmUp_positive_failedKeysSkipped() throws Exception {
+    when(secureStore.get(KEY1)).thenThrow(new SecretNotFoundException("Entry not found: key = " + KEY1));
+    when(secureStore.get(KEY2)).thenReturn(VALUE2);
+
+    var progress = await(warmUpService.warmUp(List.of(KEY1, KEY2)));
+
+    assertThat(progress).isEqualTo(new WarmUpProgress(WarmUpState.COMPLETED, 2, 1, 1));
+    assertNotCached(entryCache, KEY1);
+    assertCached(entryCache, KEY2, VALUE2);
+
+    verify(secureStore, times(1)).get(KEY1);
+    verify(secureStore, times(1)).get(KEY2);
+  }
+
+  @Test
+  void warmUp_positive_noKeys() {
+    var progress = await(warmUpService.warmUp(List.of()));
+
+    assertThat(progress).isEqualTo(new WarmUpProgress(WarmUpState.COMPLETED, 0, 0, 0));
+  }
+}
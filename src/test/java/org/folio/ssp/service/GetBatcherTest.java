@@ -0,0 +1,112 @@
+package org.folio.ssp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import org.folio.ssp.configuration.GetBatchingProperties;
+import org.folio.support.types.UnitTest;
+import org.folio.tools.store.exception.SecretNotFoundException;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class GetBatcherTest {
+
+  private static final Duration LINGER = Duration.ofMillis(50);
+  private static final Map<String, String> VALUES = Map.of("key1", "value1", "key2", "value2", "key3", "value3");
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final List<List<String>> batches = new CopyOnWriteArrayList<>();
+
+  @Test
+  void get_positive_concurrentReadsBatched() {
+    var batcher = batcher(10);
+
+    var first = get(batcher, "key1");
+    var second = get(batcher, "key2");
+    var third = get(batcher, "key3");
+
+    first.awaitItem().assertItem("value1");
+    second.awaitItem().assertItem("value2");
+    third.awaitItem().assertItem("value3");
+    assertThat(batches).containsExactly(List.of("key1", "key2", "key3"));
+    assertThat(meterRegistry.get(GetBatcher.BATCH_SIZE_METRIC).summary().totalAmount()).isEqualTo(3);
+  }
+
+  @Test
+  void get_positive_sameKeyShared() {
+    var batcher = batcher(10);
+
+    var first = get(batcher, "key1");
+    var second = get(batcher, "key1");
+
+    first.awaitItem().assertItem("value1");
+    second.awaitItem().assertItem("value1");
+    assertThat(batches).containsExactly(List.of("key1"));
+    assertThat(meterRegistry.get(GetBatcher.MERGED_GETS_METRIC).counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  void get_positive_fullBatchSentImmediately() {
+    var batcher = batcher(2);
+
+    var first = get(batcher, "key1");
+    var second = get(batcher, "key2");
+    var third = get(batcher, "key3");
+
+    first.awaitItem(Duration.ofMillis(LINGER.toMillis() / 2)).assertItem("value1");
+    second.awaitItem().assertItem("value2");
+    third.awaitItem().assertItem("value3");
+    assertThat(batches).containsExactly(List.of("key1", "key2"), List.of("key3"));
+  }
+
+  @Test
+  void get_negative_missingKeyNotFound() {
+    var batcher = batcher(10);
+
+    var found = get(batcher, "key1");
+    var missing = get(batcher, "unknown");
+
+    found.awaitItem().assertItem("value1");
+    missing.awaitFailure().assertFailedWith(SecretNotFoundException.class, "Entry not found: key = unknown");
+  }
+
+  @Test
+  void get_negative_failurePropagatedToBatch() {
+    var batcher = batcher(10);
+    Function<List<String>, Uni<Map<String, String>>> failingLoader =
+      keys -> Uni.createFrom().failure(new IllegalStateException("failed"));
+
+    var first = batcher.get("key1", failingLoader).subscribe().withSubscriber(UniAssertSubscriber.create());
+    var second = batcher.get("key2", failingLoader).subscribe().withSubscriber(UniAssertSubscriber.create());
+
+    first.awaitFailure().assertFailedWith(IllegalStateException.class, "failed");
+    second.awaitFailure().assertFailedWith(IllegalStateException.class, "failed");
+  }
+
+  private UniAssertSubscriber<String> get(GetBatcher batcher, String key) {
+    return batcher.get(key, this::load).subscribe().withSubscriber(UniAssertSubscriber.create());
+  }
+
+  private Uni<Map<String, String>> load(List<String> keys) {
+    batches.add(keys);
+    return Uni.createFrom().item(() -> {
+      var values = new HashMap<String, String>();
+      keys.stream().filter(VALUES::containsKey).forEach(key -> values.put(key, VALUES.get(key)));
+      return values;
+    });
+  }
+
+  private GetBatcher batcher(int maxBatchSize) {
+    return new GetBatcher(new TestProperties(true, maxBatchSize, LINGER), meterRegistry);
+  }
+
+  private record TestProperties(boolean enabled, int maxBatchSize, Duration linger) implements GetBatchingProperties {}
+}
@@ -0,0 +1,208 @@
+package org.folio.ssp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.ssp.support.TestUtils.await;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.quarkus.cache.Cache;
+import io.smallrye.mutiny.Uni;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.awaitility.Awaitility;
+import org.folio.ssp.cache.EntryCache;
+import org.folio.ssp.configuration.PeerInvalidationProperties;
+import org.folio.ssp.model.cache.InvalidationBatch;
+import org.folio.ssp.model.cache.InvalidationMessage;
+import org.folio.support.types.UnitTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class PeerInvalidationServiceTest {
+
+  private static final String KEY1 = "folio_tenant1_key1";
+  private static final String KEY2 = "folio_tenant1_key2";
+
+  @Mock private EntryCache entryCache;
+  @Mock private Cache negativeEntryCache;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final List<InvalidationBatch> receivedBatches = new CopyOnWriteArrayList<>();
+  private HttpServer peer;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    peer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    peer.createContext(PeerInvalidationService.PEER_INVALIDATE_PATH, exchange -> {
+      try (exchange) {
+        receivedBatches.add(objectMapper.readValue(exchange.getRequestBody(), InvalidationBatch.class));
+        exchange.sendResponseHeaders(204, -1);
+      }
+    });
+    peer.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    peer.stop(0);
+  }
+
+  @Test
+  void publish_positive_batched() {
+    var service = service(true);
+
+    service.publish(KEY1);
+    service.publish(KEY2);
+
+    Awaitility.await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(receivedBatches).hasSize(1));
+    var batch = receivedBatches.getFirst();
+    assertThat(batch.getMessages()).extracting(InvalidationMessage::getKey).containsExactly(KEY1, KEY2);
+    assertThat(batch.getMessages()).extracting(InvalidationMessage::getId).doesNotHaveDuplicates();
+    Awaitility.await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+      assertThat(meterRegistry.get(PeerInvalidationService.SENT_METRIC).tag("outcome", "success").counter().count())
+        .isEqualTo(2));
+  }
+
+  @Test
+  void publishAll_positive() {
+    var service = service(true);
+
+    service.publishAll();
+
+    Awaitility.await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(receivedBatches).hasSize(1));
+    assertThat(receivedBatches.getFirst().getMessages()).singleElement()
+      .extracting(InvalidationMessage::getKey).isNull();
+  }
+
+  @Test
+  void publish_positive_disabled() throws InterruptedException {
+    var service = service(false);
+
+    service.publish(KEY1);
+
+    Thread.sleep(300);
+    assertThat(receivedBatches).isEmpty();
+  }
+
+  @Test
+  void receive_positive_duplicateAppliedOnce() {
+    when(entryCache.invalidate(KEY1)).thenReturn(Uni.createFrom().voidItem());
+    when(negativeEntryCache.invalidate(KEY1)).thenReturn(Uni.createFrom().voidItem());
+    var service = service(true);
+    var batch = InvalidationBatch.of("peer-instance",
+      List.of(InvalidationMessage.of("message-1", KEY1, System.currentTimeMillis(), false)));
+
+    await(service.receive(batch));
+    await(service.receive(batch));
+
+    verify(entryCache, times(1)).invalidate(KEY1);
+    verify(negativeEntryCache, times(1)).invalidate(KEY1);
+    assertThat(meterRegistry.get(PeerInvalidationService.RECEIVED_METRIC).counter().count()).isEqualTo(1);
+    assertThat(meterRegistry.get(PeerInvalidationService.DUPLICATES_METRIC).counter().count()).isEqualTo(1);
+    assertThat(receivedBatches).isEmpty();
+  }
+
+  @Test
+  void receive_positive_allEntries() {
+    when(entryCache.invalidateAll()).thenReturn(Uni.createFrom().voidItem());
+    when(negativeEntryCache.invalidateAll()).thenReturn(Uni.createFrom().voidItem());
+    var service = service(true);
+
+    await(service.receive(InvalidationBatch.of("peer-instance",
+      List.of(InvalidationMessage.of("message-1", null, System.currentTimeMillis(), false)))));
+
+    verify(entryCache).invalidateAll();
+    verify(negativeEntryCache).invalidateAll();
+  }
+
+  @Test
+  void receive_positive_ownBatchIgnored() {
+    var service = service(true);
+    service.publish(KEY1);
+    Awaitility.await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(receivedBatches).hasSize(1));
+
+    await(service.receive(receivedBatches.getFirst()));
+
+    verifyNoInteractions(entryCache, negativeEntryCache);
+  }
+
+  private PeerInvalidationService service(boolean enabled) {
+    var peerUrl = "http://localhost:" + peer.getAddress().getPort();
+    var properties = new TestProperties(enabled, Optional.of(List.of(peerUrl)));
+    return new PeerInvalidationService(properties, entryCache, negativeEntryCache, objectMapper, meterRegistry);
+  }
+
+  private record TestProperties(boolean enabled, Optional<List<String>> peers) implements PeerInvalidationProperties {
+
+    @Override
+    public Duration batchWindow() {
+      return Duration.ofMillis(100);
+    }
+
+    @Override
+    public int maxBatchSize() {
+      return 100;
+    }
+
+    @Override
+    public Duration requestTimeout() {
+      return Duration.ofSeconds(5);
+    }
+
+    @Override
+    public int maxRetries() {
+      return 1;
+    }
+
+    @Override
+    public Optional<String> keyStorePath() {
+      return Optional.empty();
+    }
+
+    @Override
+    public Optional<String> keyStorePassword() {
+      return Optional.empty();
+    }
+
+    @Override
+    public String keyStoreType() {
+      return "PKCS12";
+    }
+
+    @Override
+    public Optional<String> trustStorePath() {
+      return Optional.empty();
+    }
+
+    @Override
+    public Optional<String> trustStorePassword() {
+      return Optional.empty();
+    }
+
+    @Override
+    public String trustStoreType() {
+      return "PKCS12";
+    }
+
+    @Override
+    public boolean verifyHostname() {
+      return true;
+    }
+  }
+}
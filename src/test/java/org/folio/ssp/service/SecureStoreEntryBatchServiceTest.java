@@ -0,0 +1,122 @@
+package org.folio.ssp.service;
+
+import static java.util.Map.entry;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.folio.ssp.SecureStoreConstants.ENTRY_CACHE;
+import static org.folio.ssp.SecureStoreConstants.NEGATIVE_ENTRY_CACHE;
+import static org.folio.ssp.support.AssertionUtils.assertCached;
+import static org.folio.ssp.support.TestConstants.KEY1;
+import static org.folio.ssp.support.TestConstants.KEY2;
+import static org.folio.ssp.support.TestConstants.VALUE1;
+import static org.folio.ssp.support.TestConstants.VALUE2;
+import static org.folio.ssp.support.TestUtils.await;
+import static org.folio.ssp.support.TestUtils.putInCache;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.test.InjectMock;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.folio.ssp.configuration.Configured;
+import org.folio.support.types.UnitTest;
+import org.folio.tools.store.SecureStore;
+import org.folio.tools.store.exception.SecretNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+
+@UnitTest
+@QuarkusTest
+class SecureStoreEntryBatchServiceTest {
+
+  private static final String KEY3 = "key3";
+
+  @InjectMock @Configured SecureStore secureStore;
+  @Inject @CacheName(ENTRY_CACHE) Cache entryCache;
+  @Inject @CacheName(NEGATIVE_ENTRY_CACHE) Cache negativeEntryCache;
+  @Inject CircuitBreaker circuitBreaker;
+  @Inject SecureStoreEntryBatchService service;
+
+  @AfterEach
+  void tearDown() {
+    await(entryCache.invalidateAll());
+    await(negativeEntryCache.invalidateAll());
+    circuitBreaker.reset();
+    verifyNoMoreInteractions(secureStore);
+  }
+
+  @Test
+  void getAll_positive_cacheHitsAndMisses() throws Exception {
+    putInCache(entryCache, KEY1, VALUE1);
+    when(secureStore.get(KEY2)).thenReturn(VALUE2);
+    when(secureStore.get(KEY3)).thenThrow(new SecretNotFoundException("Entry not found: key = " + KEY3));
+
+    var result = await(service.getAll(List.of(KEY1, KEY2, KEY3)));
+
+    assertThat(result).containsExactly(
+      entry(KEY1, BatchEntryResult.found(VALUE1)),
+      entry(KEY2, BatchEntryResult.found(VALUE2)),
+      entry(KEY3, BatchEntryResult.notFound()));
+    assertCached(entryCache, KEY2, VALUE2);
+
+    verify(secureStore, times(1)).get(KEY2);
+    verify(secureStore, times(1)).get(KEY3);
+  }
+
+  @Test
+  void getAll_positive_duplicateKeys() {
+    when(secureStore.get(KEY1)).thenReturn(VALUE1);
+
+    var result = await(service.getAll(List.of(KEY1, KEY1, KEY1)));
+
+    assertThat(result).containsExactly(entry(KEY1, BatchEntryResult.found(VALUE1)));
+    verify(secureStore, times(1)).get(KEY1);
+  }
+
+  @ParameterizedTest
+  @NullAndEmptySource
+  @SuppressWarnings("java:S5778")
+  void getAll_negative_emptyKeys(List<String> keys) {
+    assertThatThrownBy(() -> await(service.getAll(keys)))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("Keys cannot be empty");
+  }
+
+  @Test
+  @SuppressWarnings("java:S5778")
+  void getAll_negative_tooManyKeys() {
+    var keys = IntStream.rangeClosed(0, 100).mapToObj(i -> "key" + i).toList();
+
+    assertThatThrownBy(() -> await(service.getAll(keys)))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("Number of keys exceeds the limit: 100");
+  }
+
+  @Test
+  void getAll_negative_backendFailureFailsOnlyItsKey() throws Exception {
+    putInCache(entryCache, KEY1, VALUE1);
+    when(secureStore.get(KEY2)).thenThrow(new IllegalStateException("Backend failure"));
+    when(secureStore.get(KEY3)).thenReturn(VALUE2);
+
+    var result = await(service.getAll(List.of(KEY1, KEY2, KEY3)));
+
+    assertThat(result).containsOnlyKeys(KEY1, KEY2, KEY3);
+    assertThat(result.get(KEY1)).isEqualTo(BatchEntryResult.found(VALUE1));
+    assertThat(result.get(KEY3)).isEqualTo(BatchEntryResult.found(VALUE2));
+    assertThat(result.get(KEY2).isFailed()).isTrue();
+    assertThat(result.get(KEY2).error())
+      .isInstanceOf(IllegalStateException.class)
+      .hasMessage("Backend failure");
+
+    verify(secureStore, times(1)).get(KEY2);
+    verify(secureStore, times(1)).get(KEY3);
+  }
+}
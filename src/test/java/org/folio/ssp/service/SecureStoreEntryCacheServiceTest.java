@@ -3,11 +3,13 @@ package org.folio.ssp.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.folio.ssp.SecureStoreConstants.ENTRY_CACHE;
+import static org.folio.ssp.SecureStoreConstants.NEGATIVE_ENTRY_CACHE;
 import static org.folio.ssp.support.TestConstants.KEY1;
 import static org.folio.ssp.support.TestConstants.KEY2;
 import static org.folio.ssp.support.TestConstants.VALUE1;
 import static org.folio.ssp.support.TestConstants.VALUE2;
 import static org.folio.ssp.support.TestUtils.await;
+import static org.folio.ssp.support.TestUtils.cachedKeys;
 import static org.folio.ssp.support.TestUtils.getCached;
 import static org.folio.ssp.support.TestUtils.putInCache;
 
@@ -17,6 +19,7 @@ import io.quarkus.cache.CaffeineCache;
 import io.quarkus.test.junit.QuarkusTest;
 import jakarta.inject.Inject;
 import java.util.concurrent.ExecutionException;
+import org.folio.ssp.cache.EntryCache;
 import org.folio.support.types.UnitTest;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
@@ -28,26 +31,55 @@ import org.junit.jupiter.params.provider.NullSource;
 class SecureStoreEntryCacheServiceTest {
 
   @Inject @CacheName(ENTRY_CACHE) Cache entryCache;
+  @Inject @CacheName(NEGATIVE_ENTRY_CACHE) Cache negativeEntryCache;
+  @Inject EntryCache entryCacheFacade;
   @Inject SecureStoreEntryCacheService cacheService;
 
   @AfterEach
   void tearDown() {
     await(entryCache.invalidateAll());
+    await(negativeEntryCache.invalidateAll());
   }
 
   @Test
-  void getAllCachedKeys_positive() {
-    putInCache(entryCache, KEY1, VALUE1);
+  void getCachedKeys_positive() {
     putInCache(entryCache, KEY2, VALUE2);
+    putInCache(entryCache, KEY1, VALUE1);
+
+    var page = await(cacheService.getCachedKeys(null, null, 10));
+    assertThat(page.keys()).containsExactly(KEY1, KEY2);
+    assertThat(page.nextCursor()).isNull();
+  }
 
-    var cachedKeys = await(cacheService.getAllCachedKeys());
-    assertThat(cachedKeys).containsExactlyInAnyOrder(KEY1, KEY2);
+  @Test
+  void getCachedKeys_positive_emptyCache() {
+    var page = await(cacheService.getCachedKeys(null, null, 10));
+    assertThat(page.keys()).isEmpty();
+    assertThat(page.nextCursor()).isNull();
   }
 
   @Test
-  void getAllCachedKeys_positive_emptyCache() {
-    var cachedKeys = await(cacheService.getAllCachedKeys());
-    assertThat(cachedKeys).isEmpty();
+  void getCachedKeys_positive_paginatedWithPrefix() {
+    for (var i = 0; i < 5; i++) {
+      putInCache(entryCache, "folio_tenant1_key" + i, VALUE1);
+      putInCache(entryCache, "folio_tenant2_key" + i, VALUE2);
+    }
+
+    var firstPage = await(cacheService.getCachedKeys("folio_tenant1_", null, 2));
+    var secondPage = await(cacheService.getCachedKeys("folio_tenant1_", firstPage.nextCursor(), 2));
+    var lastPage = await(cacheService.getCachedKeys("folio_tenant1_", secondPage.nextCursor(), 2));
+
+    assertThat(firstPage.keys()).containsExactly("folio_tenant1_key0", "folio_tenant1_key1");
+    assertThat(secondPage.keys()).containsExactly("folio_tenant1_key2", "folio_tenant1_key3");
+    assertThat(lastPage.keys()).containsExactly("folio_tenant1_key4");
+    assertThat(lastPage.nextCursor()).isNull();
+  }
+
+  @Test
+  void getCachedKeys_negative_invalidCursor() {
+    assertThatThrownBy(() -> cacheService.getCachedKeys(null, "%%%", 10))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("Invalid cursor: %%%");
   }
 
   @Test
@@ -59,6 +91,15 @@ class SecureStoreEntryCacheServiceTest {
     assertNotCached(KEY1);
   }
 
+  @Test
+  void invalidate_positive_negativeCacheEntry() {
+    putInCache(negativeEntryCache, KEY1, VALUE1);
+
+    await(cacheService.invalidate(KEY1));
+
+    assertThat(negativeEntryCache.as(CaffeineCache.class).keySet()).isEmpty();
+  }
+
   @Test
   void invalidate_negative_keyNotPresent() throws Exception {
     await(cacheService.invalidate(KEY1));
@@ -93,6 +134,32 @@ class SecureStoreEntryCacheServiceTest {
     assertThat(entryCache.as(CaffeineCache.class).keySet()).isEmpty();
   }
 
+  @Test
+  void invalidateByPrefix_positive() throws Exception {
+    entryCacheFacade.put("folio_tenant1_key1", VALUE1);
+    entryCacheFacade.put("folio_tenant1_key2", VALUE2);
+    entryCacheFacade.put("folio_tenant10_key1", VALUE1);
+    entryCacheFacade.put("folio_tenant2_key1", VALUE1);
+    putInCache(negativeEntryCache, "folio_tenant1_key3", VALUE1);
+    putInCache(negativeEntryCache, "folio_tenant2_key3", VALUE1);
+
+    await(cacheService.invalidateByPrefix("folio_tenant1_"));
+
+    assertNotCached("folio_tenant1_key1");
+    assertNotCached("folio_tenant1_key2");
+    assertThat(cachedKeys(entryCacheFacade)).containsExactlyInAnyOrder("folio_tenant10_key1", "folio_tenant2_key1");
+    assertThat(negativeEntryCache.as(CaffeineCache.class).keySet()).containsExactly("folio_tenant2_key3");
+  }
+
+  @Test
+  void invalidateByPrefix_positive_noMatches() {
+    entryCacheFacade.put(KEY1, VALUE1);
+
+    await(cacheService.invalidateByPrefix("folio_tenant1_"));
+
+    assertThat(cachedKeys(entryCacheFacade)).containsExactly(KEY1);
+  }
+
   private void assertNotCached(String key) throws InterruptedException, ExecutionException {
     var cached = getCached(entryCache, key);
     assertThat(cached).isNotPresent();
@@ -0,0 +1,162 @@
+package org.folio.ssp.service;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.ssp.SecureStoreConstants.ENTRY_CACHE;
+import static org.folio.ssp.SecureStoreConstants.NEGATIVE_ENTRY_CACHE;
+import static org.folio.ssp.support.AssertionUtils.assertCached;
+import static org.folio.ssp.support.AssertionUtils.assertNotCached;
+import static org.folio.ssp.support.TestConstants.KEY1;
+import static org.folio.ssp.support.TestConstants.VALUE1;
+import static org.folio.ssp.support.TestConstants.VALUE2;
+import static org.folio.ssp.support.TestUtils.await;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.test.InjectMock;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import org.awaitility.Awaitility;
+import org.folio.ssp.configuration.Configured;
+import org.folio.ssp.support.profile.RefreshAheadTestProfile;
+import org.folio.support.types.UnitTest;
+import org.folio.tools.store.SecureStore;
+import org.folio.tools.store.exception.SecretNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+@QuarkusTest
+@TestProfile(RefreshAheadTestProfile.class)
+class SecureStoreEntryServiceRefreshAheadTest {
+
+  private static final Duration ENTRY_AGE = Duration.ofMillis(300);
+  private static final Duration REFRESH_TIMEOUT = Duration.ofSeconds(5);
+
+  @InjectMock @Configured SecureStore secureStore;
+  @Inject @CacheName(ENTRY_CACHE) Cache entryCache;
+  @Inject @CacheName(NEGATIVE_ENTRY_CACHE) Cache negativeEntryCache;
+  @Inject CircuitBreaker circuitBreaker;
+  @Inject SecureStoreEntryService service;
+
+  @AfterEach
+  void tearDown() {
+    await(entryCache.invalidateAll());
+    await(negativeEntryCache.invalidateAll());
+    circuitBreaker.reset();
+    verifyNoMoreInteractions(secureStore);
+  }
+
+  @Test
+  void get_positive_notRefreshedBeforeRefreshAfterWrite() throws Exception {
+    when(secureStore.get(KEY1)).thenReturn(VALUE1, VALUE2);
+
+    assertThat(await(service.get(KEY1))).isEqualTo(VALUE1);
+    assertThat(await(service.get(KEY1))).isEqualTo(VALUE1);
+
+    assertCached(entryCache, KEY1, VALUE1);
+    verify(secureStore, times(1)).get(KEY1);
+  }
+
+  @Test
+  void get_positive_staleValueServedAndRefreshedInBackground() throws Exception {
+    when(secureStore.get(KEY1)).thenReturn(VALUE1, VALUE2);
+
+    assertThat(await(service.get(KEY1))).isEqualTo(VALUE1);
+    waitForEntryAge();
+
+    assertThat(await(service.get(KEY1))).isEqualTo(VALUE1);
+
+    Awaitility.await().atMost(REFRESH_TIMEOUT).untilAsserted(() -> assertCached(entryCache, KEY1, VALUE2));
+    assertThat(await(service.get(KEY1))).isEqualTo(VALUE2);
+    verify(secureStore, times(2)).get(KEY1);
+  }
+
+  @Test
+  void get_positive_cachedValueKeptIfRefreshFails() throws Exception {
+    when(secureStore.get(KEY1)).thenReturn(VALUE1).thenThrow(new IllegalStateException("Backend failure"));
+
+    assertThat(await(service.get(KEY1))).isEqualTo(VALUE1);
+    waitForEntryAge();
+
+    assertThat(await(service.get(KEY1))).isEqualTo(VALUE1);
+
+    Awaitility.await().atMost(REFRESH_TIMEOUT).untilAsserted(() -> verify(secureStore, times(2)).get(KEY1));
+    assertCached(entryCache, KEY1, VALUE1);
+  }
+
+  @Test
+  void get_positive_entryInvalidatedIfRemovedFromStore() throws Exception {
+    when(secureStore.get(KEY1)).thenReturn(VALUE1)
+      .thenThrow(new SecretNotFoundException("Entry not found: key = " + KEY1));
+
+    assertThat(await(service.get(KEY1))).isEqualTo(VALUE1);
+    waitForEntryAge();
+
+    assertThat(await(service.get(KEY1))).isEqualTo(VALUE1);
+
+    Awaitility.await().atMost(REFRESH_TIMEOUT).untilAsserted(() -> assertNotCached(entryCache, KEY1));
+    verify(secureStore, times(2)).get(KEY1);
+  }
+
+  @Test
+  void get_positive_refreshDoesNotOverwriteConcurrentPut() throws Exception {
+    var reloadStarted = new CountDownLatch(1);
+    var reloadReleased = new CountDownLatch(1);
+    when(secureStore.get(KEY1)).thenReturn(VALUE1).thenAnswer(invocation -> slowReload(reloadStarted, reloadReleased));
+
+    assertThat(await(service.get(KEY1))).isEqualTo(VALUE1);
+    waitForEntryAge();
+    assertThat(await(service.get(KEY1))).isEqualTo(VALUE1);
+    assertThat(reloadStarted.await(REFRESH_TIMEOUT.toSeconds(), SECONDS)).isTrue();
+
+    await(service.put(KEY1, VALUE2));
+    reloadReleased.countDown();
+
+    Awaitility.await().during(ENTRY_AGE).atMost(REFRESH_TIMEOUT)
+      .untilAsserted(() -> assertCached(entryCache, KEY1, VALUE2));
+    verify(secureStore, times(2)).get(KEY1);
+    verify(secureStore).set(KEY1, VALUE2);
+  }
+
+  @Test
+  void get_positive_refreshDoesNotRestoreConcurrentlyDeletedEntry() throws Exception {
+    var reloadStarted = new CountDownLatch(1);
+    var reloadReleased = new CountDownLatch(1);
+    when(secureStore.get(KEY1)).thenReturn(VALUE1).thenAnswer(invocation -> slowReload(reloadStarted, reloadReleased));
+
+    assertThat(await(service.get(KEY1))).isEqualTo(VALUE1);
+    waitForEntryAge();
+    assertThat(await(service.get(KEY1))).isEqualTo(VALUE1);
+    assertThat(reloadStarted.await(REFRESH_TIMEOUT.toSeconds(), SECONDS)).isTrue();
+
+    await(service.delete(KEY1));
+    reloadReleased.countDown();
+
+    Awaitility.await().during(ENTRY_AGE).atMost(REFRESH_TIMEOUT)
+      .untilAsserted(() -> assertNotCached(entryCache, KEY1));
+    verify(secureStore, times(2)).get(KEY1);
+    verify(secureStore).delete(KEY1);
+  }
+
+  /**
+   * Blocks the background reload until the test has completed a concurrent write, then returns the outdated value.
+   */
+  private static String slowReload(CountDownLatch reloadStarted, CountDownLatch reloadReleased)
+    throws InterruptedException {
+    reloadStarted.countDown();
+    assertThat(reloadReleased.await(REFRESH_TIMEOUT.toSeconds(), SECONDS)).isTrue();
+    return VALUE1;
+  }
+
+  private static void waitForEntryAge() {
+    Awaitility.await().pollDelay(ENTRY_AGE).until(() -> true);
+  }
+}
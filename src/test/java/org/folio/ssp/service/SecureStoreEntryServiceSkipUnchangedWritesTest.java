@@ -0,0 +1,82 @@
+package org.folio.ssp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.ssp.SecureStoreConstants.ENTRY_CACHE;
+import static org.folio.ssp.SecureStoreConstants.NEGATIVE_ENTRY_CACHE;
+import static org.folio.ssp.support.AssertionUtils.assertCached;
+import static org.folio.ssp.support.TestConstants.KEY1;
+import static org.folio.ssp.support.TestConstants.VALUE1;
+import static org.folio.ssp.support.TestConstants.VALUE2;
+import static org.folio.ssp.support.TestUtils.await;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.test.InjectMock;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import org.folio.ssp.configuration.Configured;
+import org.folio.ssp.support.profile.SkipUnchangedWritesTestProfile;
+import org.folio.support.types.UnitTest;
+import org.folio.tools.store.SecureStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+@QuarkusTest
+@TestProfile(SkipUnchangedWritesTestProfile.class)
+class SecureStoreEntryServiceSkipUnchangedWritesTest {
+
+  @InjectMock @Configured SecureStore secureStore;
+  @Inject @CacheName(ENTRY_CACHE) Cache entryCache;
+  @Inject @CacheName(NEGATIVE_ENTRY_CACHE) Cache negativeEntryCache;
+  @Inject SecureStoreEntryService service;
+  @Inject MeterRegistry meterRegistry;
+
+  @AfterEach
+  void tearDown() {
+    await(entryCache.invalidateAll());
+    await(negativeEntryCache.invalidateAll());
+    verifyNoMoreInteractions(secureStore);
+  }
+
+  @Test
+  void put_positive_unchangedValueSkipped() throws Exception {
+    when(secureStore.get(KEY1)).thenReturn(VALUE1);
+    var skippedBefore = unchangedWritesSkipped();
+
+    assertThat(await(service.get(KEY1))).isEqualTo(VALUE1);
+    var result = await(service.put(KEY1, VALUE1));
+
+    assertThat(result).isEqualTo(WriteResult.UNCHANGED);
+    assertCached(entryCache, KEY1, VALUE1);
+    assertThat(unchangedWritesSkipped()).isEqualTo(skippedBefore + 1);
+
+    verify(secureStore, times(1)).get(KEY1);
+  }
+
+  @Test
+  void put_positive_changedValueWritten() throws Exception {
+    when(secureStore.get(KEY1)).thenReturn(VALUE1);
+    var skippedBefore = unchangedWritesSkipped();
+
+    assertThat(await(service.get(KEY1))).isEqualTo(VALUE1);
+    var result = await(service.put(KEY1, VALUE2));
+
+    assertThat(result).isEqualTo(WriteResult.WRITTEN);
+    assertCached(entryCache, KEY1, VALUE2);
+    assertThat(unchangedWritesSkipped()).isEqualTo(skippedBefore);
+
+    verify(secureStore, times(1)).get(KEY1);
+    verify(secureStore, times(1)).set(KEY1, VALUE2);
+  }
+
+  private double unchangedWritesSkipped() {
+    return meterRegistry.get(SecureStoreEntryService.UNCHANGED_WRITES_SKIPPED_METRIC).counter().count();
+  }
+}
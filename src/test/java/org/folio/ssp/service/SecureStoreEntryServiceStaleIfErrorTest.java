@@ -0,0 +1,149 @@
+package org.folio.ssp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.folio.ssp.SecureStoreConstants.ENTRY_CACHE;
+import static org.folio.ssp.SecureStoreConstants.NEGATIVE_ENTRY_CACHE;
+import static org.folio.ssp.SecureStoreConstants.STALE_ENTRY_CACHE;
+import static org.folio.ssp.support.TestConstants.KEY1;
+import static org.folio.ssp.support.TestConstants.VALUE1;
+import static org.folio.ssp.support.TestConstants.VALUE2;
+import static org.folio.ssp.support.TestUtils.await;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.test.InjectMock;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import io.smallrye.mutiny.TimeoutException;
+import jakarta.inject.Inject;
+import org.folio.ssp.configuration.Configured;
+import org.folio.ssp.support.profile.StaleIfErrorTestProfile;
+import org.folio.support.types.UnitTest;
+import org.folio.tools.store.SecureStore;
+import org.folio.tools.store.exception.SecretNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+@QuarkusTest
+@TestProfile(StaleIfErrorTestProfile.class)
+class SecureStoreEntryServiceStaleIfErrorTest {
+
+  @InjectMock @Configured SecureStore secureStore;
+  @Inject @CacheName(ENTRY_CACHE) Cache entryCache;
+  @Inject @CacheName(STALE_ENTRY_CACHE) Cache staleEntryCache;
+  @Inject @CacheName(NEGATIVE_ENTRY_CACHE) Cache negativeEntryCache;
+  @Inject CircuitBreaker circuitBreaker;
+  @Inject SecureStoreEntryService service;
+
+  @AfterEach
+  void tearDown() {
+    await(entryCache.invalidateAll());
+    await(staleEntryCache.invalidateAll());
+    await(negativeEntryCache.invalidateAll());
+    circuitBreaker.reset();
+    verifyNoMoreInteractions(secureStore);
+  }
+
+  @Test
+  void lookup_positive_freshValue() {
+    when(secureStore.get(KEY1)).thenReturn(VALUE1);
+
+    var result = await(service.lookup(KEY1));
+
+    assertThat(result).isEqualTo(EntryValue.fresh(VALUE1));
+    verify(secureStore, times(1)).get(KEY1);
+  }
+
+  @Test
+  void lookup_positive_staleValueOnBackendFailure() {
+    when(secureStore.get(KEY1)).thenReturn(VALUE1).thenThrow(new IllegalStateException("Backend failure"));
+
+    assertThat(await(service.lookup(KEY1))).isEqualTo(EntryValue.fresh(VALUE1));
+    expireEntry(KEY1);
+
+    var result = await(service.lookup(KEY1));
+
+    assertThat(result).isEqualTo(EntryValue.stale(VALUE1));
+    verify(secureStore, times(2)).get(KEY1);
+  }
+
+  @Test
+  void lookup_positive_staleValueOnBackendTimeout() {
+    when(secureStore.get(KEY1)).thenReturn(VALUE1).thenAnswer(invocation -> {
+      Thread.sleep(2000);
+      return VALUE2;
+    });
+
+    assertThat(await(service.lookup(KEY1))).isEqualTo(EntryValue.fresh(VALUE1));
+    expireEntry(KEY1);
+
+    var result = await(service.lookup(KEY1));
+
+    assertThat(result).isEqualTo(EntryValue.stale(VALUE1));
+    verify(secureStore, times(2)).get(KEY1);
+  }
+
+  @Test
+  @SuppressWarnings("java:S5778")
+  void lookup_negative_backendTimeoutWithoutStaleValue() {
+    when(secureStore.get(KEY1)).thenAnswer(invocation -> {
+      Thread.sleep(2000);
+      return VALUE1;
+    });
+
+    assertThatThrownBy(() -> await(service.lookup(KEY1))).isInstanceOf(TimeoutException.class);
+    verify(secureStore, times(1)).get(KEY1);
+  }
+
+  @Test
+  @SuppressWarnings("java:S5778")
+  void lookup_negative_backendFailureWithoutStaleValue() {
+    when(secureStore.get(KEY1)).thenThrow(new IllegalStateException("Backend failure"));
+
+    assertThatThrownBy(() -> await(service.lookup(KEY1)))
+      .isInstanceOf(IllegalStateException.class)
+      .hasMessage("Backend failure");
+
+    verify(secureStore, times(1)).get(KEY1);
+  }
+
+  @Test
+  @SuppressWarnings("java:S5778")
+  void lookup_negative_notFoundIsNotServedStale() {
+    when(secureStore.get(KEY1)).thenReturn(VALUE1)
+      .thenThrow(new SecretNotFoundException("Entry not found: key = " + KEY1));
+
+    assertThat(await(service.lookup(KEY1))).isEqualTo(EntryValue.fresh(VALUE1));
+    expireEntry(KEY1);
+
+    assertThatThrownBy(() -> await(service.lookup(KEY1)))
+      .isInstanceOf(SecretNotFoundException.class)
+      .hasMessage("Entry not found: key = " + KEY1);
+
+    verify(secureStore, times(2)).get(KEY1);
+  }
+
+  @Test
+  @SuppressWarnings("java:S5778")
+  void lookup_negative_deletedEntryIsNotServedStale() {
+    when(secureStore.get(KEY1)).thenReturn(VALUE1).thenThrow(new IllegalStateException("Backend failure"));
+
+    assertThat(await(service.lookup(KEY1))).isEqualTo(EntryValue.fresh(VALUE1));
+    await(service.delete(KEY1));
+
+    assertThatThrownBy(() -> await(service.lookup(KEY1))).isInstanceOf(IllegalStateException.class);
+
+    verify(secureStore, times(2)).get(KEY1);
+    verify(secureStore, times(1)).delete(KEY1);
+  }
+
+  private void expireEntry(String key) {
+    await(entryCache.invalidate(key));
+  }
+}
@@ -3,6 +3,7 @@ package org.folio.ssp.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.folio.ssp.SecureStoreConstants.ENTRY_CACHE;
+import static org.folio.ssp.SecureStoreConstants.NEGATIVE_ENTRY_CACHE;
 import static org.folio.ssp.support.AssertionUtils.assertCached;
 import static org.folio.ssp.support.AssertionUtils.assertNotCached;
 import static org.folio.ssp.support.TestConstants.KEY1;
@@ -15,22 +16,23 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import io.quarkus.cache.Cache;
-import io.quarkus.cache.CacheException;
 import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CaffeineCache;
 import io.quarkus.test.InjectMock;
 import io.quarkus.test.junit.QuarkusTest;
 import jakarta.inject.Inject;
+import org.folio.ssp.configuration.CircuitBreakerProperties;
 import org.folio.ssp.configuration.Configured;
+import org.folio.ssp.exception.CircuitBreakerOpenException;
 import org.folio.support.types.UnitTest;
 import org.folio.tools.store.SecureStore;
 import org.folio.tools.store.exception.SecretNotFoundException;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
-import org.junit.jupiter.params.provider.EmptySource;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
-import org.junit.jupiter.params.provider.NullSource;
 
 @UnitTest
 @QuarkusTest
@@ -38,11 +40,17 @@ class SecureStoreEntryServiceTest {
 
   @InjectMock @Configured SecureStore secureStore;
   @Inject @CacheName(ENTRY_CACHE) Cache entryCache;
+  @Inject @CacheName(NEGATIVE_ENTRY_CACHE) Cache negativeEntryCache;
+  @Inject CircuitBreaker circuitBreaker;
+  @Inject CircuitBreakerProperties circuitBreakerProperties;
   @Inject SecureStoreEntryService service;
+  @Inject MeterRegistry meterRegistry;
 
   @AfterEach
   void tearDown() {
     await(entryCache.invalidateAll());
+    await(negativeEntryCache.invalidateAll());
+    circuitBreaker.reset();
     verifyNoMoreInteractions(secureStore);
   }
 
@@ -91,25 +99,12 @@ class SecureStoreEntryServiceTest {
   }
 
   @ParameterizedTest
-  @NullSource
-  @SuppressWarnings("java:S5778")
-  void get_negative_nullKey(String key) throws Exception {
-    assertThatThrownBy(() -> await(service.get(key)))
-      .isInstanceOf(NullPointerException.class)
-      .hasMessage("Null keys are not supported by the Quarkus application data cache");
-
-    assertNotCached(entryCache, KEY1);
-    verify(secureStore, times(0)).get(key);
-  }
-
-  @ParameterizedTest
-  @EmptySource
+  @NullAndEmptySource
   @SuppressWarnings("java:S5778")
   void get_negative_blankKey(String key) throws Exception {
     assertThatThrownBy(() -> await(service.get(key)))
-      .isInstanceOf(CacheException.class)
-      .hasRootCauseInstanceOf(IllegalArgumentException.class)
-      .hasRootCauseMessage("Key cannot be blank");
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("Key cannot be blank");
 
     assertNotCached(entryCache, KEY1);
     verify(secureStore, times(0)).get(key);
@@ -141,6 +136,77 @@ class SecureStoreEntryServiceTest {
     verify(secureStore, times(1)).get(KEY1);
   }
 
+  @Test
+  void get_positive_backendCallTimed() {
+    when(secureStore.get(KEY1)).thenReturn(VALUE1);
+    var callsBefore = backendCalls("get", "success");
+
+    await(service.get(KEY1));
+    await(service.get(KEY1));
+
+    assertThat(backendCalls("get", "success") - callsBefore).isEqualTo(1);
+    verify(secureStore, times(1)).get(KEY1);
+  }
+
+  @Test
+  @SuppressWarnings("java:S5778")
+  void get_negative_backendErrorTimed() {
+    when(secureStore.get(KEY1)).thenThrow(new IllegalStateException("Backend failure"));
+    var errorsBefore = backendCalls("get", "error");
+
+    assertThatThrownBy(() -> await(service.get(KEY1))).isInstanceOf(IllegalStateException.class);
+
+    assertThat(backendCalls("get", "error") - errorsBefore).isEqualTo(1);
+    verify(secureStore, times(1)).get(KEY1);
+  }
+
+  @Test
+  @SuppressWarnings("java:S5778")
+  void get_negative_circuitOpenedByBackendErrors() {
+    when(secureStore.get(KEY1)).thenThrow(new IllegalStateException("Backend failure"));
+    var minimumCalls = circuitBreakerProperties.minimumCalls();
+
+    for (int i = 0; i < minimumCalls; i++) {
+      assertThatThrownBy(() -> await(service.get(KEY1))).isInstanceOf(IllegalStateException.class);
+    }
+
+    assertThatThrownBy(() -> await(service.get(KEY1))).isInstanceOf(CircuitBreakerOpenException.class);
+    verify(secureStore, times(minimumCalls)).get(KEY1);
+  }
+
+  @Test
+  @SuppressWarnings("java:S5778")
+  void get_negative_notFoundCachedInNegativeCache() throws Exception {
+    when(secureStore.get(KEY1)).thenReturn(null);
+    var negativeHitsBefore = negativeCacheHits();
+
+    for (int i = 0; i < 3; i++) {
+      assertThatThrownBy(() -> await(service.get(KEY1)))
+        .isInstanceOf(SecretNotFoundException.class)
+        .hasMessageContaining("Entry not found: key = " + KEY1);
+    }
+
+    assertNotCached(entryCache, KEY1);
+    assertThat(negativeEntryCache.as(CaffeineCache.class).keySet()).containsExactly(KEY1);
+    assertThat(negativeCacheHits() - negativeHitsBefore).isEqualTo(2d);
+    verify(secureStore, times(1)).get(KEY1);
+  }
+
+  @Test
+  @SuppressWarnings("java:S5778")
+  void put_positive_clearsNegativeCacheEntry() throws Exception {
+    when(secureStore.get(KEY1)).thenReturn(null);
+
+    assertThatThrownBy(() -> await(service.get(KEY1))).isInstanceOf(SecretNotFoundException.class);
+    await(service.put(KEY1, VALUE1));
+
+    assertThat(negativeEntryCache.as(CaffeineCache.class).keySet()).isEmpty();
+    assertThat(await(service.get(KEY1))).isEqualTo(VALUE1);
+
+    verify(secureStore, times(1)).get(KEY1);
+    verify(secureStore, times(1)).set(KEY1, VALUE1);
+  }
+
   @Test
   void put_positive() throws Exception {
     await(service.put(KEY1, VALUE1));
@@ -166,6 +232,22 @@ class SecureStoreEntryServiceTest {
     verify(secureStore, times(1)).set(KEY1, VALUE2);
   }
 
+  @Test
+  void put_positive_unchangedValueWrittenByDefault() throws Exception {
+    when(secureStore.get(KEY1)).thenReturn(VALUE1);
+    var skippedBefore = unchangedWritesSkipped();
+
+    assertThat(await(service.get(KEY1))).isEqualTo(VALUE1);
+    var result = await(service.put(KEY1, VALUE1));
+
+    assertThat(result).isEqualTo(WriteResult.WRITTEN);
+    assertCached(entryCache, KEY1, VALUE1);
+    assertThat(unchangedWritesSkipped()).isEqualTo(skippedBefore);
+
+    verify(secureStore, times(1)).get(KEY1);
+    verify(secureStore, times(1)).set(KEY1, VALUE1);
+  }
+
   @ParameterizedTest
   @NullAndEmptySource
   @SuppressWarnings("java:S5778")
@@ -223,4 +305,19 @@ class SecureStoreEntryServiceTest {
 
     verify(secureStore, times(0)).set(key, null);
   }
+
+  private long backendCalls(String operation, String outcome) {
+    var timer = meterRegistry.find(SecureStoreCallMetrics.CALLS_METRIC)
+      .tags("operation", operation, "store", "EPHEMERAL", "outcome", outcome)
+      .timer();
+    return timer == null ? 0 : timer.count();
+  }
+
+  private double unchangedWritesSkipped() {
+    return meterRegistry.get(SecureStoreEntryService.UNCHANGED_WRITES_SKIPPED_METRIC).counter().count();
+  }
+
+  private double negativeCacheHits() {
+    return meterRegistry.get(SecureStoreEntryService.NEGATIVE_CACHE_HITS_METRIC).counter().count();
+  }
 }
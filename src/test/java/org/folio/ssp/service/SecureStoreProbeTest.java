@@ -0,0 +1,113 @@
+package org.folio.ssp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.ssp.support.TestUtils.await;
+
+import io.smallrye.mutiny.Uni;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.folio.ssp.configuration.SecureStoreHealthProperties;
+import org.folio.ssp.store.AsyncSecureStore;
+import org.folio.support.types.UnitTest;
+import org.folio.tools.store.exception.SecretNotFoundException;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class SecureStoreProbeTest {
+
+  private static final String PROBE_KEY = "health_probe";
+
+  private final AtomicInteger probeCalls = new AtomicInteger();
+
+  @Test
+  void getResult_positive_valueFound() {
+    var probe = probe(() -> Uni.createFrom().item("value"), Duration.ofMinutes(1));
+
+    var result = await(probe.getResult());
+
+    assertThat(result.reachable()).isTrue();
+    assertThat(result.error()).isNull();
+    assertThat(result.latency()).isNotNegative();
+  }
+
+  @Test
+  void getResult_positive_notFoundIsReachable() {
+    var probe = probe(() -> Uni.createFrom().failure(new SecretNotFoundException("not found")), Duration.ofMinutes(1));
+
+    assertThat(await(probe.getResult()).reachable()).isTrue();
+  }
+
+  @Test
+  void getResult_positive_cachedWithinInterval() {
+    var probe = probe(() -> Uni.createFrom().item("value"), Duration.ofMinutes(1));
+
+    var first = await(probe.getResult());
+    var second = await(probe.getResult());
+
+    assertThat(second).isSameAs(first);
+    assertThat(probeCalls).hasValue(1);
+  }
+
+  @Test
+  void getResult_positive_probedAgainAfterInterval() throws InterruptedException {
+    var probe = probe(() -> Uni.createFrom().item("value"), Duration.ofMillis(10));
+
+    await(probe.getResult());
+    Thread.sleep(50);
+    await(probe.getResult());
+
+    assertThat(probeCalls).hasValue(2);
+  }
+
+  @Test
+  void getResult_negative_storeFailed() {
+    var probe = probe(() -> Uni.createFrom().failure(new IllegalStateException("connection refused")),
+      Duration.ofMinutes(1));
+
+    var result = await(probe.getResult());
+
+    assertThat(result.reachable()).isFalse();
+    assertThat(result.error()).isEqualTo("connection refused");
+  }
+
+  @Test
+  void getResult_negative_timedOut() {
+    var probe = probe(() -> Uni.createFrom().nothing(), Duration.ofMinutes(1));
+
+    var result = await(probe.getResult());
+
+    assertThat(result.reachable()).isFalse();
+    assertThat(result.latency()).isGreaterThanOrEqualTo(Duration.ofMillis(100));
+  }
+
+  private SecureStoreProbe probe(Supplier<Uni<String>> answer, Duration cacheInterval) {
+    var properties = new TestProperties(true, false, PROBE_KEY, cacheInterval, Duration.ofMillis(100));
+    return new SecureStoreProbe(probedStore(answer), properties);
+  }
+
+  private AsyncSecureStore probedStore(Supplier<Uni<String>> answer) {
+    return new AsyncSecureStore() {
+
+      @Override
+      public Uni<String> get(String key) {
+        assertThat(key).isEqualTo(PROBE_KEY);
+        probeCalls.incrementAndGet();
+        return answer.get();
+      }
+
+      @Override
+      public Uni<Void> set(String key, String value) {
+        throw new UnsupportedOperationException();
+      }
+
+      @Override
+      public Uni<Void> delete(String key) {
+        throw new UnsupportedOperationException();
+      }
+    };
+  }
+
+  private record TestProperties(boolean enabled, boolean readinessGating, String probeKey, Duration cacheInterval,
+    Duration timeout) implements SecureStoreHealthProperties {}
+}
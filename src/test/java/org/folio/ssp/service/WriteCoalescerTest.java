@@ -0,0 +1,119 @@
+package org.folio.ssp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.folio.ssp.support.TestUtils.await;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.awaitility.Awaitility;
+import org.folio.ssp.configuration.WriteCoalescingProperties;
+import org.folio.support.types.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class WriteCoalescerTest {
+
+  private static final String KEY = "folio_tenant1_key1";
+  private static final Duration WINDOW = Duration.ofMillis(100);
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final List<String> writes = new CopyOnWriteArrayList<>();
+
+  @Test
+  void write_positive_disabled() {
+    var coalescer = coalescer(false);
+
+    await(coalescer.write(KEY, "value1", this::record));
+    await(coalescer.write(KEY, "value2", this::record));
+
+    assertThat(writes).containsExactly("value1", "value2");
+  }
+
+  @Test
+  void write_positive_lastValueWins() {
+    var coalescer = coalescer(true);
+
+    var first = coalescer.write(KEY, "value1", this::record).subscribe().withSubscriber(UniAssertSubscriber.create());
+    var second = coalescer.write(KEY, "value2", this::record).subscribe().withSubscriber(UniAssertSubscriber.create());
+    var third = coalescer.write(KEY, "value3", this::record).subscribe().withSubscriber(UniAssertSubscriber.create());
+
+    first.awaitItem();
+    second.awaitItem();
+    third.awaitItem();
+    assertThat(writes).containsExactly("value3");
+    assertThat(coalescer.getPendingKeys()).isZero();
+    assertThat(meterRegistry.get(WriteCoalescer.COALESCED_WRITES_METRIC).counter().count()).isEqualTo(2);
+  }
+
+  @Test
+  void write_positive_differentKeysNotCoalesced() {
+    var coalescer = coalescer(true);
+
+    var first = coalescer.write(KEY, "value1", this::record).subscribe().withSubscriber(UniAssertSubscriber.create());
+    var second = coalescer.write("folio_tenant1_key2", "value2", this::record)
+      .subscribe().withSubscriber(UniAssertSubscriber.create());
+
+    first.awaitItem();
+    second.awaitItem();
+    assertThat(writes).containsExactlyInAnyOrder("value1", "value2");
+  }
+
+  @Test
+  void write_positive_writeDuringCallIsSentAfterIt() {
+    var coalescer = coalescer(true);
+    var firstCall = new CompletableFuture<Void>();
+
+    var first = coalescer.write(KEY, "value1", value -> {
+      writes.add(value);
+      return Uni.createFrom().completionStage(firstCall);
+    }).subscribe().withSubscriber(UniAssertSubscriber.create());
+    Awaitility.await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(writes).hasSize(1));
+
+    var second = coalescer.write(KEY, "value2", this::record).subscribe().withSubscriber(UniAssertSubscriber.create());
+    var third = coalescer.write(KEY, "value3", this::record).subscribe().withSubscriber(UniAssertSubscriber.create());
+    assertThat(writes).containsExactly("value1");
+
+    firstCall.complete(null);
+
+    first.awaitItem();
+    second.awaitItem();
+    third.awaitItem();
+    assertThat(writes).containsExactly("value1", "value3");
+  }
+
+  @Test
+  void write_negative_failurePropagatedToAllCallers() {
+    var coalescer = coalescer(true);
+
+    var first = coalescer.write(KEY, "value1", value -> Uni.createFrom().failure(new IllegalStateException("failed")))
+      .subscribe().withSubscriber(UniAssertSubscriber.create());
+    var second = coalescer.write(KEY, "value2",
+        value -> Uni.createFrom().failure(new IllegalStateException("failed")))
+      .subscribe().withSubscriber(UniAssertSubscriber.create());
+
+    first.awaitFailure().assertFailedWith(IllegalStateException.class, "failed");
+    second.awaitFailure().assertFailedWith(IllegalStateException.class, "failed");
+    assertThat(coalescer.getPendingKeys()).isZero();
+
+    assertThatThrownBy(() -> await(coalescer.write(KEY, "value3",
+      value -> Uni.createFrom().failure(new IllegalArgumentException("invalid")))))
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private Uni<Void> record(String value) {
+    writes.add(value);
+    return Uni.createFrom().voidItem();
+  }
+
+  private WriteCoalescer coalescer(boolean enabled) {
+    return new WriteCoalescer(new TestProperties(enabled, WINDOW), meterRegistry);
+  }
+
+  private record TestProperties(boolean enabled, Duration window) implements WriteCoalescingProperties {}
+}
@@ -0,0 +1,98 @@
+package org.folio.ssp.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.folio.ssp.support.TestConstants.KEY1;
+import static org.folio.ssp.support.TestConstants.VALUE1;
+import static org.folio.ssp.support.TestUtils.await;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.folio.ssp.configuration.ExecutionProperties.ExecutionMode;
+import org.folio.ssp.service.BlockingCallExecutor;
+import org.folio.support.types.UnitTest;
+import org.folio.tools.store.SecureStore;
+import org.folio.tools.store.exception.SecretNotFoundException;
+import org.folio.tools.store.impl.InMemorySecureStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class SecureStoreAdapterTest {
+
+  private final ExecutorService virtualThreads = Executors.newVirtualThreadPerTaskExecutor();
+  private final BlockingCallExecutor blockingCallExecutor = new BlockingCallExecutor(
+    () -> ExecutionMode.VIRTUAL_THREADS, virtualThreads, new SimpleMeterRegistry());
+
+  @AfterEach
+  void tearDown() {
+    virtualThreads.close();
+  }
+
+  @Test
+  void get_positive_inlineOnCallingThread() {
+    var callingThreads = new CopyOnWriteArrayList<Thread>();
+    var adapter = SecureStoreAdapter.inline(recordingStore(callingThreads));
+
+    assertThat(await(adapter.get(KEY1))).isEqualTo(VALUE1);
+    assertThat(adapter.isInline()).isTrue();
+    assertThat(callingThreads).containsExactly(Thread.currentThread());
+  }
+
+  @Test
+  void get_positive_blockingOnExecutor() {
+    var callingThreads = new CopyOnWriteArrayList<Thread>();
+    var adapter = SecureStoreAdapter.blocking(recordingStore(callingThreads), blockingCallExecutor);
+
+    assertThat(await(adapter.get(KEY1))).isEqualTo(VALUE1);
+    assertThat(adapter.isInline()).isFalse();
+    assertThat(callingThreads).singleElement().satisfies(thread -> assertThat(thread.isVirtual()).isTrue());
+  }
+
+  @Test
+  void get_negative_emptyValueNotFound() {
+    var adapter = SecureStoreAdapter.inline(InMemorySecureStore.empty());
+
+    assertThatThrownBy(() -> await(adapter.get(KEY1)))
+      .isInstanceOf(SecretNotFoundException.class)
+      .hasMessage("Entry not found: key = " + KEY1);
+  }
+
+  @Test
+  void setAndDelete_positive() {
+    var secureStore = InMemorySecureStore.empty();
+    var adapter = SecureStoreAdapter.blocking(secureStore, blockingCallExecutor);
+
+    await(adapter.set(KEY1, VALUE1));
+    assertThat(secureStore.getData()).isEqualTo(Map.of(KEY1, VALUE1));
+
+    await(adapter.delete(KEY1));
+    assertThat(secureStore.getData()).isEmpty();
+  }
+
+  private static SecureStore recordingStore(List<Thread> callingThreads) {
+    var delegate = InMemorySecureStore.from(Map.of(KEY1, VALUE1));
+    return new SecureStore() {
+
+      @Override
+      public String get(String key) {
+        callingThreads.add(Thread.currentThread());
+        return delegate.get(key);
+      }
+
+      @Override
+      public void set(String key, String value) {
+        delegate.set(key, value);
+      }
+
+      @Override
+      public void delete(String key) {
+        delegate.delete(key);
+      }
+    };
+  }
+}
@@ -0,0 +1,101 @@
+package org.folio.ssp.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.folio.ssp.support.TestConstants.KEY1;
+import static org.folio.ssp.support.TestConstants.KEY_PREFIX_TENANT1;
+import static org.folio.ssp.support.TestConstants.VALUE1;
+import static org.folio.ssp.support.TestConstants.VALUE2;
+import static org.folio.ssp.support.TestConstants.VAULT_SECRET_ROOT;
+import static org.folio.ssp.support.TestUtils.await;
+
+import io.smallrye.mutiny.Uni;
+import java.time.Duration;
+import java.util.stream.IntStream;
+import org.folio.ssp.support.extensions.BackendStandInServer;
+import org.folio.support.types.UnitTest;
+import org.folio.tools.store.exception.SecretNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class SsmAsyncStoreTest {
+
+  private static final String AWS_ENDPOINT_PROPERTY = "aws.endpointUrlSsm";
+  private static final String PARAMETER = KEY_PREFIX_TENANT1 + KEY1;
+
+  private final BackendStandInServer backend = new BackendStandInServer("unused", VAULT_SECRET_ROOT);
+  private SsmAsyncStore store;
+
+  @BeforeEach
+  void setUp() {
+    backend.start();
+    System.setProperty(AWS_ENDPOINT_PROPERTY, backend.getUrl());
+    store = SsmAsyncStore.create(SsmAsyncStore.Settings.builder()
+      .region("us-east-1")
+      .useIam(false)
+      .accessKey("test-access-key")
+      .secretKey("test-secret-key")
+      .maxConcurrency(4)
+      .completionPoolSize(1)
+      .connectionTimeout(Duration.ofSeconds(2))
+      .connectionMaxIdleTime(Duration.ofSeconds(10))
+      .build());
+  }
+
+  @AfterEach
+  void tearDown() {
+    store.close();
+    System.clearProperty(AWS_ENDPOINT_PROPERTY);
+    backend.close();
+  }
+
+  @Test
+  void get_positive() {
+    backend.ssmParameters().put(PARAMETER, VALUE1);
+
+    assertThat(await(store.get(PARAMETER))).isEqualTo(VALUE1);
+  }
+
+  @Test
+  void get_positive_concurrentCalls() {
+    IntStream.range(0, 20).forEach(i -> backend.ssmParameters().put(PARAMETER + i, VALUE1 + i));
+
+    var values = await(Uni.join().all(IntStream.range(0, 20).mapToObj(i -> store.get(PARAMETER + i)).toList())
+      .andFailFast());
+
+    assertThat(values).containsExactlyElementsOf(IntStream.range(0, 20).mapToObj(i -> VALUE1 + i).toList());
+  }
+
+  @Test
+  void get_negative_notFound() {
+    assertThatThrownBy(() -> await(store.get(PARAMETER)))
+      .isInstanceOf(SecretNotFoundException.class)
+      .hasMessageContaining(PARAMETER);
+  }
+
+  @Test
+  void set_positive() {
+    await(store.set(PARAMETER, VALUE1));
+    await(store.set(PARAMETER, VALUE2));
+
+    assertThat(backend.ssmParameters()).containsEntry(PARAMETER, VALUE2);
+  }
+
+  @Test
+  void delete_positive() {
+    backend.ssmParameters().put(PARAMETER, VALUE1);
+
+    await(store.delete(PARAMETER));
+
+    assertThat(backend.ssmParameters()).doesNotContainKey(PARAMETER);
+  }
+
+  @Test
+  void delete_positive_missingParameter() {
+    await(store.delete(PARAMETER));
+
+    assertThat(backend.ssmParameters()).isEmpty();
+  }
+}
@@ -0,0 +1,149 @@
+package org.folio.ssp.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.folio.ssp.support.TestConstants.KEY1;
+import static org.folio.ssp.support.TestConstants.KEY2;
+import static org.folio.ssp.support.TestConstants.KEY_PREFIX_TENANT1;
+import static org.folio.ssp.support.TestConstants.SECRET_PATH_TENANT1;
+import static org.folio.ssp.support.TestConstants.VALUE1;
+import static org.folio.ssp.support.TestConstants.VALUE2;
+import static org.folio.ssp.support.TestConstants.VAULT_SECRET_ROOT;
+import static org.folio.ssp.support.TestUtils.await;
+
+import io.smallrye.mutiny.TimeoutException;
+import io.vertx.mutiny.core.Vertx;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import org.folio.ssp.exception.SecureStoreRequestException;
+import org.folio.ssp.support.extensions.BackendStandInServer;
+import org.folio.support.types.UnitTest;
+import org.folio.tools.store.exception.SecretNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class VertxVaultStoreTest {
+
+  private static final String TOKEN = "test-token";
+
+  private final BackendStandInServer backend = new BackendStandInServer(TOKEN, VAULT_SECRET_ROOT);
+  private Vertx vertx;
+  private VertxVaultStore store;
+
+  @BeforeEach
+  void setUp() {
+    backend.start();
+    vertx = Vertx.vertx();
+    store = VertxVaultStore.create(vertx, settings(TOKEN));
+  }
+
+  @AfterEach
+  void tearDown() {
+    vertx.closeAndAwait();
+    backend.close();
+  }
+
+  @Test
+  void get_positive() {
+    backend.vaultSecrets().put(SECRET_PATH_TENANT1, Map.of(KEY1, VALUE1, KEY2, VALUE2));
+
+    assertThat(await(store.get(KEY_PREFIX_TENANT1 + KEY1))).isEqualTo(VALUE1);
+    assertThat(await(store.get(KEY_PREFIX_TENANT1 + KEY2))).isEqualTo(VALUE2);
+  }
+
+  @Test
+  void get_negative_attributeNotSet() {
+    backend.vaultSecrets().put(SECRET_PATH_TENANT1, Map.of(KEY1, VALUE1));
+
+    assertThatThrownBy(() -> await(store.get(KEY_PREFIX_TENANT1 + KEY2)))
+      .isInstanceOf(SecretNotFoundException.class)
+      .hasMessage("Attribute: " + KEY2 + " not set for folio/tenant1");
+  }
+
+  @Test
+  void get_negative_secretNotFound() {
+    assertThatThrownBy(() -> await(store.get(KEY_PREFIX_TENANT1 + KEY1)))
+      .isInstanceOf(SecretNotFoundException.class);
+  }
+
+  @Test
+  void get_negative_invalidKey() {
+    assertThatThrownBy(() -> store.get("key"))
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void get_negative_forbidden() {
+    var unauthorizedStore = VertxVaultStore.create(vertx, settings("invalid-token"));
+
+    assertThatThrownBy(() -> await(unauthorizedStore.get(KEY_PREFIX_TENANT1 + KEY1)))
+      .isInstanceOf(SecureStoreRequestException.class)
+      .extracting("statusCode").isEqualTo(403);
+  }
+
+  @Test
+  void get_negative_slowlyStreamedResponseTimedOut() {
+    backend.vaultSecrets().put(SECRET_PATH_TENANT1, Map.of(KEY1, VALUE1));
+    backend.faults().bodyByteDelay(Duration.ofMillis(50));
+    var slowStore = VertxVaultStore.create(vertx, settings(TOKEN, Duration.ofMillis(500)));
+
+    var startedAt = System.nanoTime();
+    assertThatThrownBy(() -> await(slowStore.get(KEY_PREFIX_TENANT1 + KEY1)))
+      .isInstanceOf(TimeoutException.class);
+    assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(2));
+  }
+
+  @Test
+  void set_positive_mergedIntoSecret() {
+    backend.vaultSecrets().put(SECRET_PATH_TENANT1, Map.of(KEY1, VALUE1));
+
+    await(store.set(KEY_PREFIX_TENANT1 + KEY2, VALUE2));
+
+    assertThat(backend.vaultSecrets().get(SECRET_PATH_TENANT1)).isEqualTo(Map.of(KEY1, VALUE1, KEY2, VALUE2));
+    assertThat(await(store.get(KEY_PREFIX_TENANT1 + KEY2))).isEqualTo(VALUE2);
+  }
+
+  @Test
+  void set_positive_newSecret() {
+    await(store.set(KEY_PREFIX_TENANT1 + KEY1, VALUE1));
+
+    assertThat(backend.vaultSecrets().get(SECRET_PATH_TENANT1)).isEqualTo(Map.of(KEY1, VALUE1));
+  }
+
+  @Test
+  void delete_positive() {
+    backend.vaultSecrets().put(SECRET_PATH_TENANT1, new HashMap<>(Map.of(KEY1, VALUE1, KEY2, VALUE2)));
+
+    await(store.delete(KEY_PREFIX_TENANT1 + KEY1));
+    assertThat(backend.vaultSecrets().get(SECRET_PATH_TENANT1)).isEqualTo(Map.of(KEY2, VALUE2));
+
+    await(store.delete(KEY_PREFIX_TENANT1 + KEY2));
+    assertThat(backend.vaultSecrets()).doesNotContainKey(SECRET_PATH_TENANT1);
+  }
+
+  @Test
+  void delete_positive_missingEntry() {
+    await(store.delete(KEY_PREFIX_TENANT1 + KEY1));
+
+    assertThat(backend.vaultSecrets()).isEmpty();
+  }
+
+  private VertxVaultStore.Settings settings(String token) {
+    return settings(token, Duration.ofSeconds(5));
+  }
+
+  private VertxVaultStore.Settings settings(String token, Duration requestTimeout) {
+    return VertxVaultStore.Settings.builder()
+      .address(backend.getUrl())
+      .token(token)
+      .secretRoot(VAULT_SECRET_ROOT)
+      .maxPoolSize(4)
+      .keepAliveTimeout(Duration.ofSeconds(60))
+      .requestTimeout(requestTimeout)
+      .http2Enabled(true)
+      .build();
+  }
+}
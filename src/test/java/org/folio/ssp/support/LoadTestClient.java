@@ -0,0 +1,249 @@
+package org.folio.ssp.support;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.io.InputStream;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.security.KeyStore;
+import java.security.cert.CertificateException;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.function.IntFunction;
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.TrustManagerFactory;
+import javax.net.ssl.X509ExtendedTrustManager;
+import javax.net.ssl.X509TrustManager;
+import lombok.SneakyThrows;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Closed-loop HTTP load generator for the integration tests.
+ *
+ * <p>Every worker sends the next request as soon as the previous one completes, so the observed throughput is bound by
+ * the proxy and backend latency. The client authenticates with the user client certificate, same as
+ * {@link RestUtils#givenUserClient()}.</p>
+ */
+@Log4j2
+public class LoadTestClient {
+
+  private static final String KEYSTORE_PASS = "supersecret";
+  private static final String USER_CLIENT_KEYSTORE = "certificates/client/fssp-user-client-keystore.p12";
+  private static final String FSSP_CLIENT_TRUSTSTORE = "certificates/client/fssp-client-truststore.p12";
+  private static final String PKCS_12 = "pkcs12";
+
+  private final HttpClient httpClient;
+
+  public LoadTestClient() {
+    this.httpClient = HttpClient.newBuilder()
+      .sslContext(userClientSslContext())
+      .connectTimeout(Duration.ofSeconds(5))
+      .executor(Executors.newVirtualThreadPerTaskExecutor())
+      .build();
+  }
+
+  /**
+   * Runs the load for the given duration.
+   *
+   * @param concurrency - number of concurrent workers
+   * @param duration - how long the load is generated
+   * @param requestFactory - creates the request for the given sequence number
+   * @return load statistics
+   */
+  @SneakyThrows
+  public LoadResult run(int concurrency, Duration duration, IntFunction<HttpRequest> requestFactory) {
+    var deadline = System.nanoTime() + duration.toNanos();
+    var workers = new ArrayList<Worker>(concurrency);
+    try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int i = 0; i < concurrency; i++) {
+        var worker = new Worker(i, concurrency, deadline, requestFactory);
+        workers.add(worker);
+        executor.submit(worker);
+      }
+    }
+
+    var latencies = new ArrayList<Long>();
+    var statuses = new TreeMap<Integer, Integer>();
+    var failures = 0;
+    for (var worker : workers) {
+      latencies.addAll(worker.latencies);
+      worker.statuses.forEach((status, count) -> statuses.merge(status, count, Integer::sum));
+      failures += worker.failures;
+    }
+
+    var result = LoadResult.of(latencies, statuses, failures, duration);
+    log.info("Load test completed: concurrency = {}, {}", concurrency, result);
+    return result;
+  }
+
+  public static HttpRequest get(String url) {
+    return HttpRequest.newBuilder(URI.create(url)).timeout(Duration.ofSeconds(30)).GET().build();
+  }
+
+  public record LoadResult(long requests, double throughput, Duration p50, Duration p99, Duration max,
+                           Map<Integer, Integer> statuses, int failures) {
+
+    static LoadResult of(List<Long> latencies, Map<Integer, Integer> statuses, int failures, Duration duration) {
+      var sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+      var seconds = duration.toNanos() / (double) NANOSECONDS.convert(Duration.ofSeconds(1));
+      return new LoadResult(sorted.length, sorted.length / seconds,
+        percentile(sorted, 0.50), percentile(sorted, 0.99),
+        sorted.length == 0 ? Duration.ZERO : Duration.ofNanos(sorted[sorted.length - 1]),
+        Collections.unmodifiableMap(statuses), failures);
+    }
+
+    public int count(int status) {
+      return statuses.getOrDefault(status, 0);
+    }
+
+    @Override
+    public String toString() {
+      return String.format("requests = %d, throughput = %.1f req/s, p50 = %.2f ms, p99 = %.2f ms, max = %.2f ms, "
+          + "statuses = %s, failures = %d", requests, throughput, millis(p50), millis(p99), millis(max),
+        statuses, failures);
+    }
+
+    private static Duration percentile(long[] sorted, double quantile) {
+      if (sorted.length == 0) {
+        return Duration.ZERO;
+      }
+      var index = (int) Math.ceil(quantile * sorted.length) - 1;
+      return Duration.ofNanos(sorted[Math.clamp(index, 0, sorted.length - 1)]);
+    }
+
+    private static double millis(Duration duration) {
+      return duration.toNanos() / 1_000_000.0;
+    }
+  }
+
+  private final class Worker implements Runnable {
+
+    private final int offset;
+    private final int step;
+    private final long deadline;
+    private final IntFunction<HttpRequest> requestFactory;
+    private final List<Long> latencies = new ArrayList<>();
+    private final Map<Integer, Integer> statuses = new TreeMap<>();
+    private int failures;
+
+    Worker(int offset, int step, long deadline, IntFunction<HttpRequest> requestFactory) {
+      this.offset = offset;
+      this.step = step;
+      this.deadline = deadline;
+      this.requestFactory = requestFactory;
+    }
+
+    @Override
+    public void run() {
+      for (int sequence = offset; System.nanoTime() < deadline; sequence += step) {
+        var start = System.nanoTime();
+        try {
+          HttpResponse<Void> response = httpClient.send(requestFactory.apply(sequence), BodyHandlers.discarding());
+          latencies.add(System.nanoTime() - start);
+          statuses.merge(response.statusCode(), 1, Integer::sum);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return;
+        } catch (Exception e) {
+          log.debug("Load test request failed", e);
+          failures++;
+        }
+      }
+    }
+  }
+
+  @SneakyThrows
+  private static SSLContext userClientSslContext() {
+    var keyManagerFactory = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+    keyManagerFactory.init(loadKeyStore(USER_CLIENT_KEYSTORE), KEYSTORE_PASS.toCharArray());
+
+    var trustManagerFactory = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+    trustManagerFactory.init(loadKeyStore(FSSP_CLIENT_TRUSTSTORE));
+    var trustManager = Arrays.stream(trustManagerFactory.getTrustManagers())
+      .filter(X509TrustManager.class::isInstance)
+      .map(X509TrustManager.class::cast)
+      .findFirst()
+      .orElseThrow();
+
+    var sslContext = SSLContext.getInstance("TLS");
+    sslContext.init(keyManagerFactory.getKeyManagers(), new X509ExtendedTrustManager[] {
+      new NoHostnameVerificationTrustManager(trustManager)}, null);
+    return sslContext;
+  }
+
+  @SneakyThrows
+  private static KeyStore loadKeyStore(String resource) {
+    var keyStore = KeyStore.getInstance(PKCS_12);
+    try (InputStream stream = LoadTestClient.class.getClassLoader().getResourceAsStream(resource)) {
+      keyStore.load(stream, KEYSTORE_PASS.toCharArray());
+    }
+    return keyStore;
+  }
+
+  /**
+   * Validates the certificate chain without endpoint identification, the test server certificate has no SAN entry
+   * for localhost (same as {@code allowAllHostnames()} in {@link RestUtils}).
+   */
+  private static final class NoHostnameVerificationTrustManager extends X509ExtendedTrustManager {
+
+    private final X509TrustManager delegate;
+
+    NoHostnameVerificationTrustManager(X509TrustManager delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public void checkClientTrusted(X509Certificate[] chain, String authType, Socket socket)
+      throws CertificateException {
+      delegate.checkClientTrusted(chain, authType);
+    }
+
+    @Override
+    public void checkServerTrusted(X509Certificate[] chain, String authType, Socket socket)
+      throws CertificateException {
+      delegate.checkServerTrusted(chain, authType);
+    }
+
+    @Override
+    public void checkClientTrusted(X509Certificate[] chain, String authType, SSLEngine engine)
+      throws CertificateException {
+      delegate.checkClientTrusted(chain, authType);
+    }
+
+    @Override
+    public void checkServerTrusted(X509Certificate[] chain, String authType, SSLEngine engine)
+      throws CertificateException {
+      delegate.checkServerTrusted(chain, authType);
+    }
+
+    @Override
+    public void checkClientTrusted(X509Certificate[] chain, String authType)
+      throws CertificateException {
+      delegate.checkClientTrusted(chain, authType);
+    }
+
+    @Override
+    public void checkServerTrusted(X509Certificate[] chain, String authType)
+      throws CertificateException {
+      delegate.checkServerTrusted(chain, authType);
+    }
+
+    @Override
+    public X509Certificate[] getAcceptedIssuers() {
+      return delegate.getAcceptedIssuers();
+    }
+  }
+}
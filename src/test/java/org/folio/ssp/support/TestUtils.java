@@ -5,11 +5,13 @@ import static java.util.concurrent.CompletableFuture.completedFuture;
 import io.quarkus.cache.Cache;
 import io.quarkus.cache.CaffeineCache;
 import io.smallrye.mutiny.Uni;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.folio.ssp.cache.EntryCache;
 
 @Log4j2
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
@@ -28,4 +30,8 @@ public class TestUtils {
   public static void putInCache(Cache cache, String key, String value) {
     cache.as(CaffeineCache.class).put(key, completedFuture(value));
   }
+
+  public static List<String> cachedKeys(EntryCache entryCache) {
+    return entryCache.keys(null, null, Integer.MAX_VALUE);
+  }
 }
@@ -0,0 +1,67 @@
+package org.folio.ssp.support.extensions;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Latency and fault injection settings of {@link BackendStandInServer}, can be changed while the server is running.
+ */
+public class BackendFaults {
+
+  private volatile LatencyDistribution latency = LatencyDistribution.none();
+  private volatile double throttleRate;
+  private volatile double errorRate;
+  private volatile Duration bodyByteDelay = Duration.ZERO;
+
+  public BackendFaults latency(LatencyDistribution latency) {
+    this.latency = latency;
+    return this;
+  }
+
+  /**
+   * Sets the share of calls (0..1) answered with a throttling response.
+   */
+  public BackendFaults throttleRate(double throttleRate) {
+    this.throttleRate = throttleRate;
+    return this;
+  }
+
+  /**
+   * Sets the share of calls (0..1) answered with an internal server error.
+   */
+  public BackendFaults errorRate(double errorRate) {
+    this.errorRate = errorRate;
+    return this;
+  }
+
+  /**
+   * Sets the delay before each byte of a response body, so responses are trickled to the client.
+   */
+  public BackendFaults bodyByteDelay(Duration bodyByteDelay) {
+    this.bodyByteDelay = bodyByteDelay;
+    return this;
+  }
+
+  public void reset() {
+    latency = LatencyDistribution.none();
+    throttleRate = 0;
+    errorRate = 0;
+    bodyByteDelay = Duration.ZERO;
+  }
+
+  Duration nextLatency() {
+    return latency.next(ThreadLocalRandom.current());
+  }
+
+  boolean nextThrottled() {
+    return throttleRate > 0 && ThreadLocalRandom.current().nextDouble() < throttleRate;
+  }
+
+  Duration bodyByteDelay() {
+    return bodyByteDelay;
+  }
+
+  boolean nextError() {
+    return errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate;
+  }
+}
@@ -0,0 +1,320 @@
+package org.folio.ssp.support.extensions;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * In-process HTTP stand-in for the secret backends, speaking enough of the Vault KV (v1 and v2) and the AWS SSM
+ * Parameter Store (JSON 1.1 protocol) APIs for {@code VaultStore} and {@code AwsStore}.
+ *
+ * <p>Vault requests are served under {@code /v1/}, SSM requests are recognized by the {@code X-Amz-Target} header.
+ * Every backend call can be delayed, throttled or failed according to {@link #faults()}:</p>
+ * <ul>
+ *   <li>Vault throttling is answered with {@code 429}, SSM throttling with {@code ThrottlingException}</li>
+ *   <li>errors are answered with {@code 500}</li>
+ *   <li>response bodies can be streamed slowly, one byte at a time</li>
+ * </ul>
+ */
+@Log4j2
+public class BackendStandInServer implements AutoCloseable {
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+  private static final String VAULT_PREFIX = "/v1/";
+  private static final String AMZ_TARGET_HEADER = "X-Amz-Target";
+  private static final String AMZ_JSON = "application/x-amz-json-1.1";
+  private static final String SSM_TARGET_PREFIX = "AmazonSSM.";
+
+  @Getter private final String vaultToken;
+  @Getter private final String vaultMount;
+  private final BackendFaults faults = new BackendFaults();
+  private final Map<String, Map<String, String>> vaultSecrets = new ConcurrentHashMap<>();
+  private final Map<String, String> ssmParameters = new ConcurrentHashMap<>();
+  private final AtomicLong requestCount = new AtomicLong();
+  private HttpServer server;
+  private ExecutorService executor;
+
+  public BackendStandInServer(String vaultToken, String vaultMount) {
+    this.vaultToken = vaultToken;
+    this.vaultMount = vaultMount;
+  }
+
+  public void start() {
+    try {
+      executor = Executors.newVirtualThreadPerTaskExecutor();
+      server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+      server.setExecutor(executor);
+      server.createContext("/", this::handle);
+      server.start();
+      log.info("Backend stand-in server started at: {}", getUrl());
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to start backend stand-in server", e);
+    }
+  }
+
+  @Override
+  public void close() {
+    if (server != null) {
+      server.stop(0);
+      executor.shutdownNow();
+      executor.close();
+      log.info("Backend stand-in server stopped");
+      server = null;
+    }
+  }
+
+  public String getUrl() {
+    return "http://localhost:" + server.getAddress().getPort();
+  }
+
+  public BackendFaults faults() {
+    return faults;
+  }
+
+  /**
+   * Returns Vault secrets by path (without the KV v2 {@code data/} segment), writable to prepare test data.
+   */
+  public Map<String, Map<String, String>> vaultSecrets() {
+    return vaultSecrets;
+  }
+
+  /**
+   * Returns SSM parameter values by name, writable to prepare test data.
+   */
+  public Map<String, String> ssmParameters() {
+    return ssmParameters;
+  }
+
+  public long getRequestCount() {
+    return requestCount.get();
+  }
+
+  public void reset() {
+    faults.reset();
+    vaultSecrets.clear();
+    ssmParameters.clear();
+    requestCount.set(0);
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    try (exchange) {
+      requestCount.incrementAndGet();
+      try {
+        route(exchange);
+      } catch (RuntimeException e) {
+        log.warn("Backend stand-in request failed: uri = {}", exchange.getRequestURI(), e);
+        send(exchange, 500, "application/json", Map.of("errors", List.of(String.valueOf(e.getMessage()))));
+      }
+    }
+  }
+
+  private void route(HttpExchange exchange) throws IOException {
+    var ssmTarget = exchange.getRequestHeaders().getFirst(AMZ_TARGET_HEADER);
+    var isSsm = ssmTarget != null && ssmTarget.startsWith(SSM_TARGET_PREFIX);
+
+    if (!injectFaults(exchange, isSsm)) {
+      return;
+    }
+
+    if (isSsm) {
+      handleSsm(exchange, ssmTarget.substring(SSM_TARGET_PREFIX.length()));
+    } else if (exchange.getRequestURI().getPath().startsWith(VAULT_PREFIX)) {
+      handleVault(exchange);
+    } else {
+      send(exchange, 404, "application/json", Map.of("errors", List.of()));
+    }
+  }
+
+  /**
+   * Applies the configured latency and faults.
+   *
+   * @return true if the request should be processed normally
+   */
+  private boolean injectFaults(HttpExchange exchange, boolean isSsm) throws IOException {
+    var latency = faults.nextLatency();
+    if (latency.isPositive()) {
+      try {
+        Thread.sleep(latency);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    if (faults.nextThrottled()) {
+      if (isSsm) {
+        sendSsmError(exchange, 400, "ThrottlingException", "Rate exceeded");
+      } else {
+        send(exchange, 429, "application/json", Map.of("errors", List.of("request rate limit exceeded")));
+      }
+      return false;
+    }
+
+    if (faults.nextError()) {
+      if (isSsm) {
+        sendSsmError(exchange, 500, "InternalServerError", "Injected failure");
+      } else {
+        send(exchange, 500, "application/json", Map.of("errors", List.of("injected failure")));
+      }
+      return false;
+    }
+
+    return true;
+  }
+
+  private void handleVault(HttpExchange exchange) throws IOException {
+    if (!vaultToken.equals(exchange.getRequestHeaders().getFirst("X-Vault-Token"))) {
+      send(exchange, 403, "application/json", Map.of("errors", List.of("permission denied")));
+      return;
+    }
+
+    var path = exchange.getRequestURI().getPath().substring(VAULT_PREFIX.length());
+    if (path.startsWith("sys/")) {
+      handleVaultMounts(exchange);
+      return;
+    }
+
+    var segments = path.split("/", 3);
+    var versioned = segments.length == 3 && ("data".equals(segments[1]) || "metadata".equals(segments[1]));
+    var secretPath = versioned ? segments[0] + "/" + segments[2] : path;
+
+    switch (exchange.getRequestMethod()) {
+      case "GET" -> {
+        var secret = vaultSecrets.get(secretPath);
+        if (secret == null) {
+          send(exchange, 404, "application/json", Map.of("errors", List.of()));
+        } else {
+          var data = versioned ? Map.of("data", secret, "metadata", Map.of("version", 1)) : secret;
+          send(exchange, 200, "application/json", Map.of("data", data));
+        }
+      }
+      case "POST", "PUT" -> {
+        var body = readBody(exchange);
+        var data = versioned ? body.path("data") : body;
+        var secret = new HashMap<String, String>();
+        data.properties().forEach(field -> secret.put(field.getKey(), field.getValue().asText()));
+        vaultSecrets.put(secretPath, secret);
+        send(exchange, 200, "application/json", Map.of("data", Map.of("version", 1)));
+      }
+      case "DELETE" -> {
+        vaultSecrets.remove(secretPath);
+        sendNoContent(exchange);
+      }
+      default -> send(exchange, 405, "application/json", Map.of("errors", List.of()));
+    }
+  }
+
+  private void handleVaultMounts(HttpExchange exchange) throws IOException {
+    var mount = Map.of("type", "kv", "options", Map.of("version", "2"));
+    if (exchange.getRequestURI().getPath().startsWith(VAULT_PREFIX + "sys/internal/ui/mounts")) {
+      var data = new HashMap<String, Object>(mount);
+      data.put("path", vaultMount + "/");
+      send(exchange, 200, "application/json", Map.of("data", data));
+    } else {
+      send(exchange, 200, "application/json", Map.of("data", Map.of(vaultMount + "/", mount), vaultMount + "/", mount));
+    }
+  }
+
+  private void handleSsm(HttpExchange exchange, String operation) throws IOException {
+    var request = readBody(exchange);
+    var name = request.path("Name").asText();
+
+    switch (operation) {
+      case "GetParameter" -> {
+        var value = ssmParameters.get(name);
+        if (value == null) {
+          sendSsmError(exchange, 400, "ParameterNotFound", "Parameter " + name + " not found.");
+        } else {
+          send(exchange, 200, AMZ_JSON, Map.of("Parameter",
+            Map.of("Name", name, "Type", "SecureString", "Value", value, "Version", 1)));
+        }
+      }
+      case "GetParameters" -> {
+        var parameters = new ArrayList<Map<String, Object>>();
+        var invalidParameters = new ArrayList<String>();
+        request.path("Names").forEach(nameNode -> {
+          var parameterName = nameNode.asText();
+          var value = ssmParameters.get(parameterName);
+          if (value == null) {
+            invalidParameters.add(parameterName);
+          } else {
+            parameters.add(Map.of("Name", parameterName, "Type", "SecureString", "Value", value, "Version", 1));
+          }
+        });
+        send(exchange, 200, AMZ_JSON, Map.of("Parameters", parameters, "InvalidParameters", invalidParameters));
+      }
+      case "PutParameter" -> {
+        ssmParameters.put(name, request.path("Value").asText());
+        send(exchange, 200, AMZ_JSON, Map.of("Version", 1, "Tier", "Standard"));
+      }
+      case "DeleteParameter" -> {
+        if (ssmParameters.remove(name) == null) {
+          sendSsmError(exchange, 400, "ParameterNotFound", "Parameter " + name + " not found.");
+        } else {
+          send(exchange, 200, AMZ_JSON, Map.of());
+        }
+      }
+      default -> sendSsmError(exchange, 400, "UnknownOperationException", "Unsupported operation: " + operation);
+    }
+  }
+
+  private static JsonNode readBody(HttpExchange exchange) throws IOException {
+    var body = exchange.getRequestBody().readAllBytes();
+    return body.length == 0 ? OBJECT_MAPPER.createObjectNode() : OBJECT_MAPPER.readTree(body);
+  }
+
+  private void sendSsmError(HttpExchange exchange, int status, String type, String message) throws IOException {
+    exchange.getResponseHeaders().set("x-amzn-ErrorType", type);
+    send(exchange, status, AMZ_JSON, Map.of("__type", type, "message", message));
+  }
+
+  private void send(HttpExchange exchange, int status, String contentType, Object body) throws IOException {
+    var bytes = OBJECT_MAPPER.writeValueAsString(body).getBytes(UTF_8);
+    exchange.getResponseHeaders().set("Content-Type", contentType);
+    exchange.sendResponseHeaders(status, bytes.length);
+
+    var byteDelay = faults.bodyByteDelay();
+    if (!byteDelay.isPositive()) {
+      exchange.getResponseBody().write(bytes);
+      return;
+    }
+    trickle(exchange, bytes, byteDelay);
+  }
+
+  /**
+   * Streams the response body one byte at a time, so the client keeps receiving data while the response is slow.
+   */
+  private static void trickle(HttpExchange exchange, byte[] bytes, Duration byteDelay) throws IOException {
+    var responseBody = exchange.getResponseBody();
+    for (var b : bytes) {
+      try {
+        Thread.sleep(byteDelay);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+      responseBody.write(b);
+      responseBody.flush();
+    }
+  }
+
+  private static void sendNoContent(HttpExchange exchange) throws IOException {
+    exchange.sendResponseHeaders(204, -1);
+  }
+}
@@ -0,0 +1,71 @@
+package org.folio.ssp.support.extensions;
+
+import static org.folio.ssp.support.TestConstants.VAULT_SECRET_ROOT;
+
+import io.quarkus.test.common.QuarkusTestResourceConfigurableLifecycleManager;
+import java.util.Map;
+import lombok.extern.log4j.Log4j2;
+import org.folio.ssp.support.extensions.EnableBackendStandIn.StoreType;
+
+@Log4j2
+public class BackendStandInTestResource
+  implements QuarkusTestResourceConfigurableLifecycleManager<EnableBackendStandIn> {
+
+  private static final String VAULT_TOKEN = "stand-in-root-token";
+  private static final String AWS_ENDPOINT_PROPERTY = "aws.endpointUrlSsm";
+  private static final String AWS_DISABLE_EC2_METADATA_PROPERTY = "aws.disableEc2Metadata";
+
+  private StoreType storeType;
+  private BackendStandInServer server;
+
+  @Override
+  public void init(EnableBackendStandIn annotation) {
+    storeType = annotation.store();
+  }
+
+  @Override
+  public Map<String, String> start() {
+    server = new BackendStandInServer(VAULT_TOKEN, VAULT_SECRET_ROOT);
+    server.start();
+
+    return switch (storeType) {
+      case VAULT, VAULT_REACTIVE -> Map.of(
+        "secret-store.type", storeType.name(),
+        "secret-store.vault.address", server.getUrl(),
+        "secret-store.vault.token", VAULT_TOKEN,
+        "secret-store.vault.enable-ssl", "false",
+        "secret-store.vault.secret-root", VAULT_SECRET_ROOT
+      );
+      case AWS_SSM, AWS_SSM_ASYNC -> {
+        // the AWS SDK picks up service specific endpoint overrides from system properties
+        System.setProperty(AWS_ENDPOINT_PROPERTY, server.getUrl());
+        System.setProperty(AWS_DISABLE_EC2_METADATA_PROPERTY, "true");
+        yield Map.of(
+          "secret-store.type", storeType.name(),
+          "secret-store.aws-ssm.region", "us-east-1",
+          "secret-store.aws-ssm.use-iam", "false",
+          "secret-store.aws-ssm.access-key", "stand-in-access-key",
+          "secret-store.aws-ssm.secret-key", "stand-in-secret-key"
+        );
+      }
+    };
+  }
+
+  @Override
+  public void stop() {
+    if (storeType == StoreType.AWS_SSM || storeType == StoreType.AWS_SSM_ASYNC) {
+      System.clearProperty(AWS_ENDPOINT_PROPERTY);
+      System.clearProperty(AWS_DISABLE_EC2_METADATA_PROPERTY);
+    }
+    if (server != null) {
+      server.close();
+      server = null;
+    }
+  }
+
+  @Override
+  public void inject(TestInjector testInjector) {
+    testInjector.injectIntoFields(server,
+      new TestInjector.AnnotatedAndMatchesType(InjectBackendStandIn.class, BackendStandInServer.class));
+  }
+}
@@ -0,0 +1,30 @@
+package org.folio.ssp.support.extensions;
+
+import io.quarkus.test.common.QuarkusTestResource;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Starts an in-process {@link BackendStandInServer} and configures the application to use it as the secret store.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@QuarkusTestResource(value = BackendStandInTestResource.class, restrictToAnnotatedClass = true)
+public @interface EnableBackendStandIn {
+
+  /**
+   * The secret store implementation pointed to the stand-in server.
+   *
+   * @return the secret store type
+   */
+  StoreType store();
+
+  enum StoreType {
+    VAULT,
+    VAULT_REACTIVE,
+    AWS_SSM,
+    AWS_SSM_ASYNC
+  }
+}
@@ -0,0 +1,36 @@
+package org.folio.ssp.support.extensions;
+
+import java.time.Duration;
+import java.util.random.RandomGenerator;
+
+/**
+ * Distribution of the latency added by {@link BackendStandInServer} to every backend call.
+ */
+@FunctionalInterface
+public interface LatencyDistribution {
+
+  Duration next(RandomGenerator random);
+
+  static LatencyDistribution none() {
+    return random -> Duration.ZERO;
+  }
+
+  static LatencyDistribution fixed(Duration latency) {
+    return random -> latency;
+  }
+
+  static LatencyDistribution uniform(Duration min, Duration max) {
+    var minNanos = min.toNanos();
+    var maxNanos = max.toNanos();
+    return random -> Duration.ofNanos(minNanos == maxNanos ? minNanos : random.nextLong(minNanos, maxNanos));
+  }
+
+  /**
+   * Long-tailed latency: log-normal distribution with the given median and 99th percentile.
+   */
+  static LatencyDistribution logNormal(Duration median, Duration p99) {
+    var mu = Math.log(median.toNanos());
+    var sigma = Math.log((double) p99.toNanos() / median.toNanos()) / 2.326;
+    return random -> Duration.ofNanos((long) Math.exp(mu + sigma * random.nextGaussian()));
+  }
+}
@@ -0,0 +1,22 @@
+package org.folio.ssp.support.profile;
+
+import io.quarkus.test.junit.QuarkusTestProfile;
+import java.util.Map;
+
+public class EntryCacheSnapshotTestProfile implements QuarkusTestProfile {
+
+  public static final String SNAPSHOT_PATH = "target/entry-cache-test.snapshot";
+  public static final String ENCRYPTION_KEY = "MDEyMzQ1Njc4OWFiY2RlZjAxMjM0NTY3ODlhYmNkZWY=";
+
+  @Override
+  public Map<String, String> getConfigOverrides() {
+    return Map.of(
+      "entry-cache.snapshot.enabled", "true",
+      "entry-cache.snapshot.path", SNAPSHOT_PATH,
+      "entry-cache.snapshot.encryption-key", ENCRYPTION_KEY,
+      "entry-cache.snapshot.interval", "1h",
+      "entry-cache.snapshot.max-age", "24h",
+      "entry-cache.snapshot.revalidate-after", "1h"
+    );
+  }
+}
@@ -0,0 +1,18 @@
+package org.folio.ssp.support.profile;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@link LoadTestProfile} with batched reads of concurrent cache misses.
+ */
+public class GetBatchingLoadTestProfile extends LoadTestProfile {
+
+  @Override
+  public Map<String, String> getConfigOverrides() {
+    var overrides = new HashMap<>(super.getConfigOverrides());
+    overrides.put("secret-store.get-batching.enabled", "true");
+    overrides.put("secret-store.get-batching.linger", "10ms");
+    return overrides;
+  }
+}
@@ -0,0 +1,19 @@
+package org.folio.ssp.support.profile;
+
+import io.quarkus.test.junit.QuarkusTestProfile;
+import java.util.Map;
+
+/**
+ * Expires cached entries almost immediately, so that every proxied request reaches the backend stand-in.
+ */
+public class LoadTestProfile implements QuarkusTestProfile {
+
+  @Override
+  public Map<String, String> getConfigOverrides() {
+    return Map.of(
+      "quarkus.cache.caffeine.\"entry-cache\".expire-after-write", "1ms",
+      "quarkus.cache.caffeine.\"negative-entry-cache\".expire-after-write", "1ms",
+      "quarkus.log.category.\"org.folio.ssp\".level", "INFO"
+    );
+  }
+}
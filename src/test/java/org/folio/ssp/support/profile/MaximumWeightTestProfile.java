@@ -0,0 +1,14 @@
+package org.folio.ssp.support.profile;
+
+import io.quarkus.test.junit.QuarkusTestProfile;
+import java.util.Map;
+
+public class MaximumWeightTestProfile implements QuarkusTestProfile {
+
+  @Override
+  public Map<String, String> getConfigOverrides() {
+    return Map.of(
+      "entry-cache.maximum-weight", "1K"
+    );
+  }
+}
@@ -0,0 +1,17 @@
+package org.folio.ssp.support.profile;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@link CommonIntegrationTestProfile} with the non-blocking Vault store.
+ */
+public class ReactiveVaultIntegrationTestProfile extends CommonIntegrationTestProfile {
+
+  @Override
+  public Map<String, String> getConfigOverrides() {
+    var overrides = new HashMap<>(super.getConfigOverrides());
+    overrides.put("secret-store.type", "VAULT_REACTIVE");
+    return overrides;
+  }
+}
@@ -0,0 +1,16 @@
+package org.folio.ssp.support.profile;
+
+import io.quarkus.test.junit.QuarkusTestProfile;
+import java.util.Map;
+
+public class RefreshAheadTestProfile implements QuarkusTestProfile {
+
+  public static final String REFRESH_AFTER_WRITE = "200ms";
+
+  @Override
+  public Map<String, String> getConfigOverrides() {
+    return Map.of(
+      "entry-cache.refresh-after-write", REFRESH_AFTER_WRITE
+    );
+  }
+}
@@ -0,0 +1,14 @@
+package org.folio.ssp.support.profile;
+
+import io.quarkus.test.junit.QuarkusTestProfile;
+import java.util.Map;
+
+public class SkipUnchangedWritesTestProfile implements QuarkusTestProfile {
+
+  @Override
+  public Map<String, String> getConfigOverrides() {
+    return Map.of(
+      "secret-store.skip-unchanged-writes.enabled", "true"
+    );
+  }
+}
@@ -0,0 +1,15 @@
+package org.folio.ssp.support.profile;
+
+import io.quarkus.test.junit.QuarkusTestProfile;
+import java.util.Map;
+
+public class StaleIfErrorTestProfile implements QuarkusTestProfile {
+
+  @Override
+  public Map<String, String> getConfigOverrides() {
+    return Map.of(
+      "entry-cache.stale-if-error.enabled", "true",
+      "entry-cache.stale-if-error.load-timeout", "500ms"
+    );
+  }
+}